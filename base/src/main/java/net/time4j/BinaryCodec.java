@@ -0,0 +1,951 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BinaryCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.engine.EpochDays;
+import net.time4j.engine.TimeSpan;
+import net.time4j.tz.Timezone;
+
+import java.io.InvalidObjectException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * <p>Writes Time4J-values into a {@code ByteBuffer} and reads them back without any use
+ * of Java serialization or reflection. </p>
+ *
+ * <p>There are fixed-width codecs (multi-byte values in big-endian order) and more compact
+ * codecs which store numbers as variable-length integers (7 bits per byte, signed values
+ * in zig-zag-form). The encoded data do not contain any type information so the reader
+ * must know which codec has been used for writing. Example: </p>
+ *
+ * <pre>
+ *  ByteBuffer buffer = ByteBuffer.allocate(64);
+ *  BinaryCodec.MOMENT.write(moment, buffer);
+ *  BinaryCodec.PLAIN_DATE_VARINT.write(date, buffer);
+ *  buffer.flip();
+ *  Moment m = BinaryCodec.MOMENT.read(buffer);
+ *  PlainDate d = BinaryCodec.PLAIN_DATE_VARINT.read(buffer);
+ * </pre>
+ *
+ * <p>Writing into a buffer with insufficient capacity throws a {@code BufferOverflowException},
+ * reading from a buffer without enough remaining bytes throws a {@code BufferUnderflowException}
+ * and reading of invalid data throws an {@code IllegalArgumentException}. All singleton instances
+ * are defined as static constants and are <i>immutable</i>. </p>
+ *
+ * <p>The fixed-width codecs for dates, wall times, timestamps and moments are order-preserving:
+ * the unsigned lexicographic order of encoded byte arrays is the same as the natural order of
+ * the values (the sign bit of the year or POSIX seconds is inverted). Such encodings can serve as
+ * sortable keys in key-value-stores, see {@link #isOrderPreserving()} and
+ * {@link #compareUnsigned(byte[], byte[])}. </p>
+ *
+ * @param   <T> type of encoded values
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @see     net.time4j.range.IntervalCodec
+ */
+/*[deutsch]
+ * <p>Schreibt Time4J-Werte in einen {@code ByteBuffer} und liest sie ohne Java-Serialisierung
+ * oder Reflexion wieder zur&uuml;ck. </p>
+ *
+ * <p>Es gibt Codecs mit fester Breite (Mehrbyte-Werte in Big-Endian-Reihenfolge) und kompaktere
+ * Codecs, die Zahlen als Ganzzahlen variabler L&auml;nge speichern (7 Bits pro Byte, vorzeichenbehaftete
+ * Werte in Zick-Zack-Form). Die kodierten Daten enthalten keine Typinformation, so da&szlig; der
+ * Leser wissen mu&szlig;, welcher Codec zum Schreiben verwendet wurde. Beispiel: </p>
+ *
+ * <pre>
+ *  ByteBuffer buffer = ByteBuffer.allocate(64);
+ *  BinaryCodec.MOMENT.write(moment, buffer);
+ *  BinaryCodec.PLAIN_DATE_VARINT.write(date, buffer);
+ *  buffer.flip();
+ *  Moment m = BinaryCodec.MOMENT.read(buffer);
+ *  PlainDate d = BinaryCodec.PLAIN_DATE_VARINT.read(buffer);
+ * </pre>
+ *
+ * <p>Das Schreiben in einen Puffer mit unzureichender Kapazit&auml;t wirft eine
+ * {@code BufferOverflowException}, das Lesen aus einem Puffer ohne gen&uuml;gend verbleibende
+ * Bytes eine {@code BufferUnderflowException} und das Lesen ung&uuml;ltiger Daten eine
+ * {@code IllegalArgumentException}. Alle Singleton-Instanzen sind als statische Konstanten
+ * definiert und unver&auml;nderlich (<i>immutable</i>). </p>
+ *
+ * <p>Die Codecs mit fester Breite f&uuml;r Datumsangaben, Uhrzeiten, Zeitstempel und Momente
+ * erhalten die Ordnung: Die vorzeichenlose lexikographische Ordnung der kodierten Byte-Arrays
+ * ist gleich der nat&uuml;rlichen Ordnung der Werte (das Vorzeichenbit des Jahres oder der
+ * POSIX-Sekunden wird invertiert). Solche Kodierungen k&ouml;nnen als sortierbare Schl&uuml;ssel
+ * in Key-Value-Speichern dienen, siehe {@link #isOrderPreserving()} und
+ * {@link #compareUnsigned(byte[], byte[])}. </p>
+ *
+ * @param   <T> type of encoded values
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @see     net.time4j.range.IntervalCodec
+ */
+public abstract class BinaryCodec<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long MRD = 1_000_000_000L;
+    private static final int POSITIVE_LS = 0x40000000;
+    private static final int INT_SIGN = 0x80000000;
+
+    private static final CalendarUnit[] CALENDAR_UNITS = CalendarUnit.values();
+    private static final ClockUnit[] CLOCK_UNITS = ClockUnit.values();
+    private static final int CLOCK_UNIT_TAG = 0x10;
+
+    /**
+     * <p>Encodes a calendar date in 6 bytes (year as int with inverted sign bit, month and
+     * day-of-month as byte). </p>
+     *
+     * <p>This codec is order-preserving. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert ein Kalenderdatum in 6 Bytes (Jahr als int mit invertiertem Vorzeichenbit, Monat
+     * und Tag des Monats als byte). </p>
+     *
+     * <p>Dieser Codec erh&auml;lt die Ordnung. </p>
+     */
+    public static final BinaryCodec<PlainDate> PLAIN_DATE = new DateCodec(false);
+
+    /**
+     * <p>Encodes a calendar date as variable-length count of days since UTC epoch [1972-01-01]. </p>
+     *
+     * <p>Modern dates need 3 bytes. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert ein Kalenderdatum als Anzahl der Tage seit der UTC-Epoche [1972-01-01] mit
+     * variabler L&auml;nge. </p>
+     *
+     * <p>Moderne Datumsangaben ben&ouml;tigen 3 Bytes. </p>
+     */
+    public static final BinaryCodec<PlainDate> PLAIN_DATE_VARINT = new DateCodec(true);
+
+    /**
+     * <p>Encodes a wall time in 7 bytes (hour, minute and second as byte, nanosecond as int). </p>
+     *
+     * <p>This codec is order-preserving. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert eine Uhrzeit in 7 Bytes (Stunde, Minute und Sekunde als byte, Nanosekunde als int). </p>
+     *
+     * <p>Dieser Codec erh&auml;lt die Ordnung. </p>
+     */
+    public static final BinaryCodec<PlainTime> PLAIN_TIME = new TimeCodec(false);
+
+    /**
+     * <p>Encodes a wall time as variable-length count of nanoseconds since midnight. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert eine Uhrzeit als Anzahl der Nanosekunden seit Mitternacht mit variabler L&auml;nge. </p>
+     */
+    public static final BinaryCodec<PlainTime> PLAIN_TIME_VARINT = new TimeCodec(true);
+
+    /**
+     * <p>Encodes a local timestamp in 13 bytes as combination of {@link #PLAIN_DATE}
+     * and {@link #PLAIN_TIME}. </p>
+     *
+     * <p>This codec is order-preserving. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert einen lokalen Zeitstempel in 13 Bytes als Kombination von {@link #PLAIN_DATE}
+     * und {@link #PLAIN_TIME}. </p>
+     *
+     * <p>Dieser Codec erh&auml;lt die Ordnung. </p>
+     */
+    public static final BinaryCodec<PlainTimestamp> PLAIN_TIMESTAMP =
+        new TimestampCodec(PLAIN_DATE, PLAIN_TIME);
+
+    /**
+     * <p>Encodes a local timestamp as combination of {@link #PLAIN_DATE_VARINT}
+     * and {@link #PLAIN_TIME_VARINT}. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert einen lokalen Zeitstempel als Kombination von {@link #PLAIN_DATE_VARINT}
+     * und {@link #PLAIN_TIME_VARINT}. </p>
+     */
+    public static final BinaryCodec<PlainTimestamp> PLAIN_TIMESTAMP_VARINT =
+        new TimestampCodec(PLAIN_DATE_VARINT, PLAIN_TIME_VARINT);
+
+    /**
+     * <p>Encodes a moment in 12 bytes (POSIX seconds as long with inverted sign bit, nanosecond
+     * as int where the bit 30 marks a positive leap second). </p>
+     *
+     * <p>This codec is order-preserving. A leap second shares its POSIX seconds with the
+     * preceding second but is sorted after it because of the leap second bit. Leap seconds
+     * can only be read back if they are registered in the reading virtual machine. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert einen Moment in 12 Bytes (POSIX-Sekunden als long mit invertiertem Vorzeichenbit,
+     * Nanosekunde als int, wobei das Bit 30 eine positive Schaltsekunde markiert). </p>
+     *
+     * <p>Dieser Codec erh&auml;lt die Ordnung. Eine Schaltsekunde teilt ihre POSIX-Sekunden mit
+     * der vorangehenden Sekunde, wird aber wegen des Schaltsekundenbits danach einsortiert.
+     * Schaltsekunden k&ouml;nnen nur zur&uuml;ckgelesen werden, wenn sie in der lesenden
+     * virtuellen Maschine registriert sind. </p>
+     */
+    public static final BinaryCodec<Moment> MOMENT = new MomentCodec(false);
+
+    /**
+     * <p>Encodes a moment as variable-length POSIX seconds and a variable-length
+     * nanosecond including the leap second flag. </p>
+     *
+     * <p>Moments with whole seconds in the modern era need 6 bytes. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert einen Moment als POSIX-Sekunden und Nanosekunde einschlie&szlig;lich
+     * Schaltsekundenkennzeichen jeweils mit variabler L&auml;nge. </p>
+     *
+     * <p>Momente mit ganzen Sekunden in der modernen &Auml;ra ben&ouml;tigen 6 Bytes. </p>
+     */
+    public static final BinaryCodec<Moment> MOMENT_VARINT = new MomentCodec(true);
+
+    /**
+     * <p>Encodes a zonal date-time as {@link #MOMENT} followed by the canonical timezone
+     * identifier (length-prefixed UTF-8). </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert eine zonale Datums- und Zeitangabe als {@link #MOMENT} gefolgt von der
+     * kanonischen Zeitzonen-ID (UTF-8 mit vorangestellter L&auml;nge). </p>
+     */
+    public static final BinaryCodec<ZonalDateTime> ZONAL_DATE_TIME = new ZonalCodec(MOMENT);
+
+    /**
+     * <p>Encodes a zonal date-time as {@link #MOMENT_VARINT} followed by the canonical timezone
+     * identifier (length-prefixed UTF-8). </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert eine zonale Datums- und Zeitangabe als {@link #MOMENT_VARINT} gefolgt von der
+     * kanonischen Zeitzonen-ID (UTF-8 mit vorangestellter L&auml;nge). </p>
+     */
+    public static final BinaryCodec<ZonalDateTime> ZONAL_DATE_TIME_VARINT = new ZonalCodec(MOMENT_VARINT);
+
+    /**
+     * <p>Encodes a duration as variable-length count of items, followed by one byte for
+     * the unit and the variable-length amount per item. </p>
+     *
+     * <p>Only the units of the enums {@link CalendarUnit} and {@link ClockUnit} are supported. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert eine Dauer als Anzahl der Elemente mit variabler L&auml;nge, gefolgt von einem
+     * Byte f&uuml;r die Einheit und dem Betrag mit variabler L&auml;nge je Element. </p>
+     *
+     * <p>Nur die Einheiten der Enums {@link CalendarUnit} und {@link ClockUnit} werden unterst&uuml;tzt. </p>
+     */
+    public static final BinaryCodec<Duration<IsoUnit>> DURATION = new DurationCodec();
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>For subclasses only. </p>
+     *
+     * <p>Subclasses should never make the constructor <i>public</i>
+     * but are encouraged to assign an instance to a static constant. </p>
+     */
+    /*[deutsch]
+     * <p>Nur f&uuml;r Subklassen. </p>
+     *
+     * <p>Subklassen sollten nie den Konstruktor <i>public</i> machen,
+     * sondern werden eine Instanz einer statischen Konstanten
+     * zuweisen. </p>
+     */
+    protected BinaryCodec() {
+        super();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Writes given value at the current position of given buffer. </p>
+     *
+     * @param   value   value to be encoded
+     * @param   buffer  target buffer whose position will be advanced
+     * @throws  java.nio.BufferOverflowException if the buffer has not enough remaining capacity
+     * @throws  IllegalArgumentException if the value cannot be encoded by this codec
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Wert an die aktuelle Position des angegebenen Puffers. </p>
+     *
+     * @param   value   value to be encoded
+     * @param   buffer  target buffer whose position will be advanced
+     * @throws  java.nio.BufferOverflowException if the buffer has not enough remaining capacity
+     * @throws  IllegalArgumentException if the value cannot be encoded by this codec
+     */
+    public abstract void write(
+        T value,
+        ByteBuffer buffer
+    );
+
+    /**
+     * <p>Reads a value from the current position of given buffer. </p>
+     *
+     * @param   buffer  source buffer whose position will be advanced
+     * @return  decoded value
+     * @throws  java.nio.BufferUnderflowException if the buffer has not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are invalid
+     */
+    /*[deutsch]
+     * <p>Liest einen Wert von der aktuellen Position des angegebenen Puffers. </p>
+     *
+     * @param   buffer  source buffer whose position will be advanced
+     * @return  decoded value
+     * @throws  java.nio.BufferUnderflowException if the buffer has not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are invalid
+     */
+    public abstract T read(ByteBuffer buffer);
+
+    /**
+     * <p>Determines the count of bytes which are needed to encode given value. </p>
+     *
+     * @param   value   value to be encoded
+     * @return  count of bytes written by {@link #write(Object, ByteBuffer)}
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Anzahl der Bytes, die zum Kodieren des angegebenen Werts
+     * n&ouml;tig sind. </p>
+     *
+     * @param   value   value to be encoded
+     * @return  count of bytes written by {@link #write(Object, ByteBuffer)}
+     */
+    public abstract int getEncodedLength(T value);
+
+    /**
+     * <p>Does the unsigned lexicographic order of encoded values correspond to the natural
+     * order of values? </p>
+     *
+     * <p>Order-preserving codecs also have a fixed width. </p>
+     *
+     * @return  boolean ({@code false} as default)
+     * @see     #compareUnsigned(byte[], byte[])
+     */
+    /*[deutsch]
+     * <p>Entspricht die vorzeichenlose lexikographische Ordnung der kodierten Werte der
+     * nat&uuml;rlichen Ordnung der Werte? </p>
+     *
+     * <p>Ordnungserhaltende Codecs haben auch eine feste Breite. </p>
+     *
+     * @return  boolean ({@code false} as default)
+     * @see     #compareUnsigned(byte[], byte[])
+     */
+    public boolean isOrderPreserving() {
+
+        return false;
+
+    }
+
+    /**
+     * <p>Compares two byte arrays unsigned and lexicographically like typical key-value-stores. </p>
+     *
+     * <p>A proper prefix is smaller than the longer array. </p>
+     *
+     * @param   a   first byte array
+     * @param   b   second byte array
+     * @return  negative, zero or positive number if the first array is smaller, equal or greater
+     * @see     #isOrderPreserving()
+     */
+    /*[deutsch]
+     * <p>Vergleicht zwei Byte-Arrays vorzeichenlos und lexikographisch wie typische Key-Value-Speicher. </p>
+     *
+     * <p>Ein echtes Pr&auml;fix ist kleiner als das l&auml;ngere Array. </p>
+     *
+     * @param   a   first byte array
+     * @param   b   second byte array
+     * @return  negative, zero or positive number if the first array is smaller, equal or greater
+     * @see     #isOrderPreserving()
+     */
+    public static int compareUnsigned(
+        byte[] a,
+        byte[] b
+    ) {
+
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            int delta = (a[i] & 0xFF) - (b[i] & 0xFF);
+            if (delta != 0) {
+                return delta;
+            }
+        }
+
+        return (a.length - b.length);
+
+    }
+
+    /**
+     * <p>Encodes given value into a new byte array. </p>
+     *
+     * @param   value   value to be encoded
+     * @return  byte array with the exact encoded length
+     * @throws  IllegalArgumentException if the value cannot be encoded by this codec
+     */
+    /*[deutsch]
+     * <p>Kodiert den angegebenen Wert in ein neues Byte-Array. </p>
+     *
+     * @param   value   value to be encoded
+     * @return  byte array with the exact encoded length
+     * @throws  IllegalArgumentException if the value cannot be encoded by this codec
+     */
+    public byte[] toBytes(T value) {
+
+        ByteBuffer buffer = ByteBuffer.allocate(this.getEncodedLength(value));
+        this.write(value, buffer);
+        return buffer.array();
+
+    }
+
+    /**
+     * <p>Decodes given byte array which must contain exactly one encoded value. </p>
+     *
+     * @param   data    encoded value
+     * @return  decoded value
+     * @throws  IllegalArgumentException if the data are invalid or not completely consumed
+     */
+    /*[deutsch]
+     * <p>Dekodiert das angegebene Byte-Array, das genau einen kodierten Wert enthalten mu&szlig;. </p>
+     *
+     * @param   data    encoded value
+     * @return  decoded value
+     * @throws  IllegalArgumentException if the data are invalid or not completely consumed
+     */
+    public T fromBytes(byte[] data) {
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        T value;
+
+        try {
+            value = this.read(buffer);
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated data: " + data.length + " bytes.");
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected trailing bytes: " + buffer.remaining());
+        }
+
+        return value;
+
+    }
+
+    private static void writeVarLong(
+        long value,
+        ByteBuffer buffer
+    ) {
+
+        long v = value;
+
+        while ((v & ~0x7FL) != 0) {
+            buffer.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+
+        buffer.put((byte) v);
+
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+
+        long result = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            result |= ((long) (b & 0x7F)) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+
+        throw new IllegalArgumentException("Variable-length integer too long.");
+
+    }
+
+    private static int getVarLongLength(long value) {
+
+        int bits = 64 - Long.numberOfLeadingZeros(value | 1);
+        return (bits + 6) / 7;
+
+    }
+
+    private static long zigzag(long value) {
+
+        return (value << 1) ^ (value >> 63);
+
+    }
+
+    private static long unzigzag(long value) {
+
+        return (value >>> 1) ^ -(value & 1);
+
+    }
+
+    private static int toUnsignedInt(long value) {
+
+        if ((value < 0) || (value > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Value out of range: " + value);
+        }
+
+        return (int) value;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class DateCodec
+        extends BinaryCodec<PlainDate> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean varint;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DateCodec(boolean varint) {
+            super();
+
+            this.varint = varint;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            PlainDate value,
+            ByteBuffer buffer
+        ) {
+
+            if (this.varint) {
+                writeVarLong(zigzag(value.getDaysSinceEpochUTC()), buffer);
+            } else {
+                buffer.putInt(value.getYear() ^ INT_SIGN);
+                buffer.put((byte) value.getMonth());
+                buffer.put((byte) value.getDayOfMonth());
+            }
+
+        }
+
+        @Override
+        public PlainDate read(ByteBuffer buffer) {
+
+            if (this.varint) {
+                return PlainDate.of(unzigzag(readVarLong(buffer)), EpochDays.UTC);
+            } else {
+                int year = buffer.getInt() ^ INT_SIGN;
+                int month = buffer.get();
+                int dom = buffer.get();
+                return PlainDate.of(year, month, dom);
+            }
+
+        }
+
+        @Override
+        public boolean isOrderPreserving() {
+
+            return !this.varint;
+
+        }
+
+        @Override
+        public int getEncodedLength(PlainDate value) {
+
+            return (this.varint ? getVarLongLength(zigzag(value.getDaysSinceEpochUTC())) : 6);
+
+        }
+
+    }
+
+    private static class TimeCodec
+        extends BinaryCodec<PlainTime> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean varint;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimeCodec(boolean varint) {
+            super();
+
+            this.varint = varint;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            PlainTime value,
+            ByteBuffer buffer
+        ) {
+
+            if (this.varint) {
+                writeVarLong(nanoOfDay(value), buffer);
+            } else {
+                buffer.put((byte) value.getHour());
+                buffer.put((byte) value.getMinute());
+                buffer.put((byte) value.getSecond());
+                buffer.putInt(value.getNanosecond());
+            }
+
+        }
+
+        @Override
+        public PlainTime read(ByteBuffer buffer) {
+
+            if (this.varint) {
+                long nanoOfDay = readVarLong(buffer);
+                if ((nanoOfDay < 0) || (nanoOfDay > 86400 * MRD)) {
+                    throw new IllegalArgumentException("Nano of day out of range: " + nanoOfDay);
+                }
+                int secondOfDay = (int) (nanoOfDay / MRD);
+                return PlainTime.of(
+                    secondOfDay / 3600,
+                    (secondOfDay / 60) % 60,
+                    secondOfDay % 60,
+                    (int) (nanoOfDay % MRD));
+            } else {
+                int hour = buffer.get();
+                int minute = buffer.get();
+                int second = buffer.get();
+                return PlainTime.of(hour, minute, second, buffer.getInt());
+            }
+
+        }
+
+        @Override
+        public boolean isOrderPreserving() {
+
+            return !this.varint;
+
+        }
+
+        @Override
+        public int getEncodedLength(PlainTime value) {
+
+            return (this.varint ? getVarLongLength(nanoOfDay(value)) : 7);
+
+        }
+
+        private static long nanoOfDay(PlainTime value) {
+
+            long secs = value.getHour() * 3600 + value.getMinute() * 60 + value.getSecond();
+            return secs * MRD + value.getNanosecond();
+
+        }
+
+    }
+
+    private static class TimestampCodec
+        extends BinaryCodec<PlainTimestamp> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final BinaryCodec<PlainDate> dateCodec;
+        private final BinaryCodec<PlainTime> timeCodec;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimestampCodec(
+            BinaryCodec<PlainDate> dateCodec,
+            BinaryCodec<PlainTime> timeCodec
+        ) {
+            super();
+
+            this.dateCodec = dateCodec;
+            this.timeCodec = timeCodec;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            PlainTimestamp value,
+            ByteBuffer buffer
+        ) {
+
+            this.dateCodec.write(value.getCalendarDate(), buffer);
+            this.timeCodec.write(value.getWallTime(), buffer);
+
+        }
+
+        @Override
+        public PlainTimestamp read(ByteBuffer buffer) {
+
+            PlainDate date = this.dateCodec.read(buffer);
+            PlainTime time = this.timeCodec.read(buffer);
+
+            if (time.getHour() == 24) {
+                throw new IllegalArgumentException("Timestamp cannot have hour 24.");
+            }
+
+            return PlainTimestamp.of(date, time);
+
+        }
+
+        @Override
+        public boolean isOrderPreserving() {
+
+            return (this.dateCodec.isOrderPreserving() && this.timeCodec.isOrderPreserving());
+
+        }
+
+        @Override
+        public int getEncodedLength(PlainTimestamp value) {
+
+            return (
+                this.dateCodec.getEncodedLength(value.getCalendarDate())
+                + this.timeCodec.getEncodedLength(value.getWallTime()));
+
+        }
+
+    }
+
+    private static class MomentCodec
+        extends BinaryCodec<Moment> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean varint;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        MomentCodec(boolean varint) {
+            super();
+
+            this.varint = varint;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            Moment value,
+            ByteBuffer buffer
+        ) {
+
+            if (this.varint) {
+                writeVarLong(zigzag(value.getPosixTime()), buffer);
+                writeVarLong(packFraction(value), buffer);
+            } else {
+                buffer.putLong(value.getPosixTime() ^ Long.MIN_VALUE);
+                buffer.putInt(value.getNanosecond() | (value.isPositiveLS() ? POSITIVE_LS : 0));
+            }
+
+        }
+
+        @Override
+        public Moment read(ByteBuffer buffer) {
+
+            long posix;
+            int nano;
+            boolean ls;
+
+            if (this.varint) {
+                posix = unzigzag(readVarLong(buffer));
+                long packed = readVarLong(buffer);
+                nano = toUnsignedInt(packed >>> 1);
+                ls = ((packed & 1) == 1);
+            } else {
+                posix = buffer.getLong() ^ Long.MIN_VALUE;
+                int fraction = buffer.getInt();
+                nano = (fraction & ~POSITIVE_LS);
+                ls = ((fraction & POSITIVE_LS) != 0);
+            }
+
+            try {
+                return Moment.decode(posix, nano, ls);
+            } catch (InvalidObjectException ioe) {
+                throw new IllegalArgumentException(ioe.getMessage(), ioe);
+            }
+
+        }
+
+        @Override
+        public boolean isOrderPreserving() {
+
+            return !this.varint;
+
+        }
+
+        @Override
+        public int getEncodedLength(Moment value) {
+
+            if (this.varint) {
+                return getVarLongLength(zigzag(value.getPosixTime())) + getVarLongLength(packFraction(value));
+            } else {
+                return 12;
+            }
+
+        }
+
+        private static long packFraction(Moment value) {
+
+            return (((long) value.getNanosecond()) << 1) | (value.isPositiveLS() ? 1 : 0);
+
+        }
+
+    }
+
+    private static class ZonalCodec
+        extends BinaryCodec<ZonalDateTime> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final BinaryCodec<Moment> momentCodec;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        ZonalCodec(BinaryCodec<Moment> momentCodec) {
+            super();
+
+            this.momentCodec = momentCodec;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            ZonalDateTime value,
+            ByteBuffer buffer
+        ) {
+
+            byte[] tzid = value.getTimezone().canonical().getBytes(StandardCharsets.UTF_8);
+            this.momentCodec.write(value.toMoment(), buffer);
+            writeVarLong(tzid.length, buffer);
+            buffer.put(tzid);
+
+        }
+
+        @Override
+        public ZonalDateTime read(ByteBuffer buffer) {
+
+            Moment moment = this.momentCodec.read(buffer);
+            int len = toUnsignedInt(readVarLong(buffer));
+            byte[] tzid = new byte[len];
+            buffer.get(tzid);
+            return ZonalDateTime.of(moment, Timezone.of(new String(tzid, StandardCharsets.UTF_8)));
+
+        }
+
+        @Override
+        public int getEncodedLength(ZonalDateTime value) {
+
+            int len = value.getTimezone().canonical().getBytes(StandardCharsets.UTF_8).length;
+            return this.momentCodec.getEncodedLength(value.toMoment()) + getVarLongLength(len) + len;
+
+        }
+
+    }
+
+    private static class DurationCodec
+        extends BinaryCodec<Duration<IsoUnit>> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            Duration<IsoUnit> value,
+            ByteBuffer buffer
+        ) {
+
+            List<TimeSpan.Item<IsoUnit>> items = value.getTotalLength();
+            writeVarLong((((long) items.size()) << 1) | (value.isNegative() ? 1 : 0), buffer);
+
+            for (TimeSpan.Item<IsoUnit> item : items) {
+                buffer.put(tag(item.getUnit()));
+                writeVarLong(item.getAmount(), buffer);
+            }
+
+        }
+
+        @Override
+        public Duration<IsoUnit> read(ByteBuffer buffer) {
+
+            long header = readVarLong(buffer);
+            int size = toUnsignedInt(header >>> 1);
+
+            if (size == 0) {
+                return Duration.ofZero();
+            } else if (size > CALENDAR_UNITS.length + CLOCK_UNITS.length) {
+                throw new IllegalArgumentException("Too many duration items: " + size);
+            }
+
+            List<TimeSpan.Item<IsoUnit>> items = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                IsoUnit unit = unit(buffer.get());
+                long amount = readVarLong(buffer);
+                if (amount < 0) {
+                    throw new IllegalArgumentException("Negative amount: " + amount);
+                }
+                items.add(TimeSpan.Item.of(amount, unit));
+            }
+
+            return new Duration<>(items, (header & 1) == 1);
+
+        }
+
+        @Override
+        public int getEncodedLength(Duration<IsoUnit> value) {
+
+            List<TimeSpan.Item<IsoUnit>> items = value.getTotalLength();
+            int len = getVarLongLength(((long) items.size()) << 1);
+
+            for (TimeSpan.Item<IsoUnit> item : items) {
+                tag(item.getUnit()); // Validierung
+                len += (1 + getVarLongLength(item.getAmount()));
+            }
+
+            return len;
+
+        }
+
+        private static byte tag(IsoUnit unit) {
+
+            if (unit instanceof CalendarUnit) {
+                return (byte) ((CalendarUnit) unit).ordinal();
+            } else if (unit instanceof ClockUnit) {
+                return (byte) (CLOCK_UNIT_TAG | ((ClockUnit) unit).ordinal());
+            } else {
+                throw new IllegalArgumentException("Unsupported duration unit: " + unit);
+            }
+
+        }
+
+        private static IsoUnit unit(byte tag) {
+
+            if ((tag >= 0) && (tag < CALENDAR_UNITS.length)) {
+                return CALENDAR_UNITS[tag];
+            } else if ((tag >= CLOCK_UNIT_TAG) && (tag < CLOCK_UNIT_TAG + CLOCK_UNITS.length)) {
+                return CLOCK_UNITS[tag - CLOCK_UNIT_TAG];
+            } else {
+                throw new IllegalArgumentException("Unknown duration unit: " + tag);
+            }
+
+        }
+
+    }
+
+}
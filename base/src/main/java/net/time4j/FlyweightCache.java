@@ -0,0 +1,607 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FlyweightCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.engine.EpochDays;
+
+
+/**
+ * <p>Controls optional and bounded caches for frequently used instances of {@code PlainTime}
+ * and {@code PlainDate}. </p>
+ *
+ * <p>If enabled then the factory methods {@code PlainTime.of(...)} and {@code PlainDate.of(...)}
+ * as well as the conversion of a {@code Moment} to a local timestamp transparently yield shared
+ * instances instead of new objects. This is useful for workloads which repeatedly touch the same
+ * values, for example business dates in a batch or grids of minutes or seconds of day. The caches
+ * are bounded: </p>
+ *
+ * <ul>
+ *     <li>Wall times: all times with full seconds (at most 86400 instances).</li>
+ *     <li>Calendar dates: all dates within a window of given days around the current date
+ *     at the time of the last policy or window change. Cached dates also know their
+ *     day of week in advance.</li>
+ * </ul>
+ *
+ * <p>The caches are disabled by default. The initial policy can be set by the system property
+ * &quot;net.time4j.cache.policy&quot; (name of a {@link Policy}-constant) and the initial
+ * date window by the system property &quot;net.time4j.cache.date.window&quot; (count of days
+ * in both directions, default value is {@code 400}). Invalid values are ignored with a warning. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Steuert optionale und beschr&auml;nkte Caches f&uuml;r h&auml;ufig verwendete Instanzen
+ * von {@code PlainTime} und {@code PlainDate}. </p>
+ *
+ * <p>Wenn aktiviert, liefern die Fabrikmethoden {@code PlainTime.of(...)} und {@code PlainDate.of(...)}
+ * sowie die Umwandlung eines {@code Moment} in einen lokalen Zeitstempel transparent gemeinsam
+ * genutzte Instanzen statt neuer Objekte. Das ist f&uuml;r Anwendungen n&uuml;tzlich, die wiederholt
+ * dieselben Werte ber&uuml;hren, zum Beispiel Gesch&auml;ftstage in einem Stapellauf oder Raster von
+ * Minuten oder Sekunden des Tages. Die Caches sind beschr&auml;nkt: </p>
+ *
+ * <ul>
+ *     <li>Uhrzeiten: alle Uhrzeiten mit vollen Sekunden (h&ouml;chstens 86400 Instanzen).</li>
+ *     <li>Kalenderdaten: alle Daten innerhalb eines Fensters von angegebenen Tagen um das
+ *     aktuelle Datum zur Zeit der letzten &Auml;nderung der Strategie oder des Fensters.
+ *     Zwischengespeicherte Daten kennen ihren Wochentag bereits im voraus.</li>
+ * </ul>
+ *
+ * <p>Die Caches sind standardm&auml;&szlig;ig deaktiviert. Die anf&auml;ngliche Strategie kann
+ * mit der System-Property &quot;net.time4j.cache.policy&quot; (Name einer {@link Policy}-Konstanten)
+ * und das anf&auml;ngliche Datumsfenster mit der System-Property &quot;net.time4j.cache.date.window&quot;
+ * (Anzahl der Tage in beide Richtungen, Standardwert ist {@code 400}) gesetzt werden. Ung&uuml;ltige
+ * Werte werden mit einer Warnung ignoriert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {threadsafe}
+ */
+public final class FlyweightCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Maximum count of days in both directions around the current date which can be cached.
+     */
+    /*[deutsch]
+     * Maximale Anzahl der Tage in beide Richtungen um das aktuelle Datum, die zwischengespeichert
+     * werden k&ouml;nnen.
+     */
+    public static final int MAX_DATE_WINDOW = 36525;
+
+    private static final int DEFAULT_DATE_WINDOW = 400;
+
+    // geschätzter Speicherbedarf mit komprimierten Referenzen
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int TIME_SIZE = 24;
+    private static final int DATE_SIZE = 24;
+
+    private static volatile Tables tables;
+
+    static {
+        Policy policy = parsePolicy(System.getProperty("net.time4j.cache.policy"));
+        int window = parseWindow(System.getProperty("net.time4j.cache.date.window"));
+        tables = new Tables(policy, window);
+    }
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private FlyweightCache() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the current cache policy. </p>
+     *
+     * @return  Policy
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Cache-Strategie. </p>
+     *
+     * @return  Policy
+     */
+    public static Policy getPolicy() {
+
+        return tables.policy;
+
+    }
+
+    /**
+     * <p>Switches to given cache policy and discards all cached instances. </p>
+     *
+     * @param   policy  new cache policy
+     */
+    /*[deutsch]
+     * <p>Wechselt zur angegebenen Cache-Strategie und verwirft alle zwischengespeicherten Instanzen. </p>
+     *
+     * @param   policy  new cache policy
+     */
+    public static synchronized void setPolicy(Policy policy) {
+
+        if (policy == null) {
+            throw new NullPointerException("Missing cache policy.");
+        }
+
+        tables = new Tables(policy, tables.window);
+
+    }
+
+    /**
+     * <p>Yields the count of days in both directions around the current date whose
+     * calendar dates can be cached. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Tage in beide Richtungen um das aktuelle Datum, deren
+     * Kalenderdaten zwischengespeichert werden k&ouml;nnen. </p>
+     *
+     * @return  int
+     */
+    public static int getDateWindow() {
+
+        return tables.window;
+
+    }
+
+    /**
+     * <p>Sets the count of days in both directions around the current date whose
+     * calendar dates can be cached. </p>
+     *
+     * <p>The date window will be centered around the current date and all cached
+     * instances will be discarded. </p>
+     *
+     * @param   window  count of days in the range {@code 0-MAX_DATE_WINDOW}
+     * @throws  IllegalArgumentException if the window is out of range
+     */
+    /*[deutsch]
+     * <p>Setzt die Anzahl der Tage in beide Richtungen um das aktuelle Datum, deren
+     * Kalenderdaten zwischengespeichert werden k&ouml;nnen. </p>
+     *
+     * <p>Das Datumsfenster wird um das aktuelle Datum herum zentriert, und alle
+     * zwischengespeicherten Instanzen werden verworfen. </p>
+     *
+     * @param   window  count of days in the range {@code 0-MAX_DATE_WINDOW}
+     * @throws  IllegalArgumentException if the window is out of range
+     */
+    public static synchronized void setDateWindow(int window) {
+
+        tables = new Tables(tables.policy, checkWindow(window));
+
+    }
+
+    /**
+     * <p>Discards all cached instances but keeps the current policy. </p>
+     */
+    /*[deutsch]
+     * <p>Verwirft alle zwischengespeicherten Instanzen, beh&auml;lt aber die aktuelle Strategie. </p>
+     */
+    public static synchronized void clear() {
+
+        Tables t = tables;
+        tables = new Tables(t.policy, t.window);
+
+    }
+
+    /**
+     * <p>Yields a snapshot of the count of cached instances and their estimated memory consumption. </p>
+     *
+     * <p>The statistics are calculated by scanning the caches so this method should not be called
+     * in performance-critical code. </p>
+     *
+     * @return  Statistics
+     */
+    /*[deutsch]
+     * <p>Liefert eine Momentaufnahme der Anzahl der zwischengespeicherten Instanzen und ihres
+     * gesch&auml;tzten Speicherverbrauchs. </p>
+     *
+     * <p>Die Statistik wird durch Absuchen der Caches berechnet, daher sollte diese Methode nicht
+     * in performance-kritischem Code aufgerufen werden. </p>
+     *
+     * @return  Statistics
+     */
+    public static Statistics getStatistics() {
+
+        Tables t = tables;
+        int times = count(t.times);
+        int dates = count(t.dates);
+        long memory = (long) times * TIME_SIZE + (long) dates * DATE_SIZE;
+
+        if (t.times != null) {
+            memory += ARRAY_HEADER + (long) t.times.length * REFERENCE_SIZE;
+        }
+
+        if (t.dates != null) {
+            memory += ARRAY_HEADER + (long) t.dates.length * REFERENCE_SIZE;
+        }
+
+        return new Statistics(t.policy, times, dates, memory);
+
+    }
+
+    /**
+     * <p>Liefert die zwischengespeicherte Uhrzeit oder {@code null}. </p>
+     *
+     * @param   secondOfDay     second of day in range 0-86399
+     * @return  cached wall time or {@code null}
+     */
+    static PlainTime lookupTime(int secondOfDay) {
+
+        PlainTime[] times = tables.times;
+        return ((times == null) ? null : times[secondOfDay]);
+
+    }
+
+    /**
+     * <p>Speichert die angegebene Uhrzeit mit vollen Sekunden, wenn der Cache aktiv ist. </p>
+     *
+     * @param   secondOfDay     second of day in range 0-86399
+     * @param   time            wall time to be cached
+     */
+    static void storeTime(
+        int secondOfDay,
+        PlainTime time
+    ) {
+
+        PlainTime[] times = tables.times;
+
+        if (times != null) {
+            times[secondOfDay] = time; // idempotent, ein Wettlauf ist harmlos
+        }
+
+    }
+
+    /**
+     * <p>Ist der Datums-Cache aktiv? </p>
+     *
+     * @return  boolean
+     */
+    static boolean isDateCacheActive() {
+
+        return (tables.dates != null);
+
+    }
+
+    /**
+     * <p>Liefert das zwischengespeicherte Datum oder {@code null}. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch [1972-01-01]
+     * @return  cached calendar date or {@code null}
+     */
+    static PlainDate lookupDate(long utcDays) {
+
+        Tables t = tables;
+
+        if (t.dates != null) {
+            long index = utcDays - t.origin;
+
+            if ((index >= 0) && (index < t.dates.length)) {
+                return t.dates[(int) index];
+            }
+        }
+
+        return null;
+
+    }
+
+    /**
+     * <p>Speichert das angegebene Datum, wenn der Cache aktiv ist und das Datum im Fenster liegt. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch [1972-01-01]
+     * @param   date        calendar date to be cached (with known day of week)
+     */
+    static void storeDate(
+        long utcDays,
+        PlainDate date
+    ) {
+
+        Tables t = tables;
+
+        if (t.dates != null) {
+            long index = utcDays - t.origin;
+
+            if ((index >= 0) && (index < t.dates.length)) {
+                t.dates[(int) index] = date; // idempotent, ein Wettlauf ist harmlos
+            }
+        }
+
+    }
+
+    // ungültige System-Properties dürfen PlainTime und PlainDate nicht unbrauchbar machen
+    static Policy parsePolicy(String p) {
+
+        if (p != null) {
+            try {
+                return Policy.valueOf(p.trim());
+            } catch (IllegalArgumentException iae) {
+                System.err.println("Warning: Invalid cache policy ignored: " + p);
+            }
+        }
+
+        return Policy.DISABLED;
+
+    }
+
+    static int parseWindow(String w) {
+
+        if (w != null) {
+            try {
+                int window = Integer.parseInt(w.trim());
+                if ((window >= 0) && (window <= MAX_DATE_WINDOW)) {
+                    return window;
+                }
+            } catch (NumberFormatException nfe) {
+                // siehe Warnung unten
+            }
+            System.err.println("Warning: Invalid date window of cache ignored: " + w);
+        }
+
+        return DEFAULT_DATE_WINDOW;
+
+    }
+
+    private static int checkWindow(int window) {
+
+        if ((window < 0) || (window > MAX_DATE_WINDOW)) {
+            throw new IllegalArgumentException("Date window out of range: " + window);
+        }
+
+        return window;
+
+    }
+
+    private static int count(Object[] cache) {
+
+        int n = 0;
+
+        if (cache != null) {
+            for (Object obj : cache) {
+                if (obj != null) {
+                    n++;
+                }
+            }
+        }
+
+        return n;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Defines which kind of instances will be cached. </p>
+     *
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Legt fest, welche Art von Instanzen zwischengespeichert wird. </p>
+     *
+     * @since   5.8
+     */
+    public static enum Policy {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        /**
+         * No caching at all (default).
+         */
+        /*[deutsch]
+         * &Uuml;berhaupt kein Zwischenspeichern (Standard).
+         */
+        DISABLED,
+
+        /**
+         * Only wall times with full seconds will be cached.
+         */
+        /*[deutsch]
+         * Nur Uhrzeiten mit vollen Sekunden werden zwischengespeichert.
+         */
+        TIMES,
+
+        /**
+         * Only calendar dates within the date window will be cached.
+         */
+        /*[deutsch]
+         * Nur Kalenderdaten innerhalb des Datumsfensters werden zwischengespeichert.
+         */
+        DATES,
+
+        /**
+         * Both wall times with full seconds and calendar dates within the date window will be cached.
+         */
+        /*[deutsch]
+         * Sowohl Uhrzeiten mit vollen Sekunden als auch Kalenderdaten innerhalb des
+         * Datumsfensters werden zwischengespeichert.
+         */
+        TIMES_AND_DATES;
+
+        //~ Methoden ------------------------------------------------------
+
+        private boolean withTimes() {
+
+            return ((this == TIMES) || (this == TIMES_AND_DATES));
+
+        }
+
+        private boolean withDates() {
+
+            return ((this == DATES) || (this == TIMES_AND_DATES));
+
+        }
+
+    }
+
+    /**
+     * <p>Snapshot of the count of cached instances and their estimated memory consumption. </p>
+     *
+     * @since   5.8
+     * @doctags.concurrency {immutable}
+     */
+    /*[deutsch]
+     * <p>Momentaufnahme der Anzahl der zwischengespeicherten Instanzen und ihres
+     * gesch&auml;tzten Speicherverbrauchs. </p>
+     *
+     * @since   5.8
+     * @doctags.concurrency {immutable}
+     */
+    public static final class Statistics {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Policy policy;
+        private final int cachedTimes;
+        private final int cachedDates;
+        private final long memory;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Statistics(
+            Policy policy,
+            int cachedTimes,
+            int cachedDates,
+            long memory
+        ) {
+            super();
+
+            this.policy = policy;
+            this.cachedTimes = cachedTimes;
+            this.cachedDates = cachedDates;
+            this.memory = memory;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the cache policy at the time of this snapshot. </p>
+         *
+         * @return  Policy
+         */
+        /*[deutsch]
+         * <p>Liefert die Cache-Strategie zur Zeit dieser Momentaufnahme. </p>
+         *
+         * @return  Policy
+         */
+        public Policy getPolicy() {
+
+            return this.policy;
+
+        }
+
+        /**
+         * <p>Yields the count of cached wall times. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der zwischengespeicherten Uhrzeiten. </p>
+         *
+         * @return  int
+         */
+        public int getCachedTimes() {
+
+            return this.cachedTimes;
+
+        }
+
+        /**
+         * <p>Yields the count of cached calendar dates. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der zwischengespeicherten Kalenderdaten. </p>
+         *
+         * @return  int
+         */
+        public int getCachedDates() {
+
+            return this.cachedDates;
+
+        }
+
+        /**
+         * <p>Yields the estimated memory consumption of the caches in bytes (assuming
+         * compressed object references). </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Liefert den gesch&auml;tzten Speicherverbrauch der Caches in Bytes (unter
+         * der Annahme komprimierter Objektreferenzen). </p>
+         *
+         * @return  long
+         */
+        public long getEstimatedMemory() {
+
+            return this.memory;
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "FlyweightCache.Statistics[policy=" + this.policy
+                + ",cachedTimes=" + this.cachedTimes
+                + ",cachedDates=" + this.cachedDates
+                + ",estimatedMemory=" + this.memory + "]";
+
+        }
+
+    }
+
+    private static class Tables {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Policy policy;
+        private final int window;
+        private final long origin; // UTC-Tage des ersten Datums im Fenster
+        private final PlainTime[] times;
+        private final PlainDate[] dates;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Tables(
+            Policy policy,
+            int window
+        ) {
+            super();
+
+            long unixDays = Math.floorDiv(System.currentTimeMillis(), 86400000L);
+
+            this.policy = policy;
+            this.window = window;
+            this.origin = EpochDays.UTC.transform(unixDays, EpochDays.UNIX) - window;
+            this.times = (policy.withTimes() ? new PlainTime[86400] : null);
+            this.dates = (policy.withDates() ? new PlainDate[2 * window + 1] : null);
+
+        }
+
+    }
+
+}
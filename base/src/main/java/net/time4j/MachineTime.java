@@ -1307,11 +1307,17 @@ public final class MachineTime<U>
     public static final class Formatter
         extends TimeSpanFormatter<TimeUnit, MachineTime<TimeUnit>> {
 
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Set<TimeUnit> patternUnits;
+
         //~ Konstruktoren -------------------------------------------------
 
         private Formatter(String pattern) {
             super(TimeUnit.class, pattern);
 
+            this.patternUnits = getPatternUnits(pattern);
+
         }
 
         //~ Methoden ------------------------------------------------------
@@ -1562,18 +1568,23 @@ public final class MachineTime<U>
             Appendable buffer
         ) throws IOException {
 
-            String p = this.getPattern();
-            int n = p.length();
+            super.print(new Normalized(duration, this.patternUnits), buffer);
+
+        }
+
+        private static Set<TimeUnit> getPatternUnits(String pattern) {
+
+            int n = pattern.length();
             StringBuilder sb = new StringBuilder(n);
 
             for (int i = 0; i < n; i++) {
-                char c = p.charAt(i);
+                char c = pattern.charAt(i);
 
                 if (c == '\'') {
                     i++;
                     while (i < n) {
-                        if (p.charAt(i) == '\'') {
-                            if ((i + 1 < n) && (p.charAt(i + 1) == '\'')) {
+                        if (pattern.charAt(i) == '\'') {
+                            if ((i + 1 < n) && (pattern.charAt(i + 1) == '\'')) {
                                 i++;
                             } else {
                                 break;
@@ -1586,26 +1597,26 @@ public final class MachineTime<U>
                 }
             }
 
-            String pattern = sb.toString(); // literals are now stripped off
+            String symbols = sb.toString(); // literals are now stripped off
             Set<TimeUnit> patternUnits = EnumSet.noneOf(TimeUnit.class);
 
-            if (pattern.contains("D")) {
+            if (symbols.contains("D")) {
                 patternUnits.add(TimeUnit.DAYS);
             }
-            if (pattern.contains("h")) {
+            if (symbols.contains("h")) {
                 patternUnits.add(TimeUnit.HOURS);
             }
-            if (pattern.contains("m")) {
+            if (symbols.contains("m")) {
                 patternUnits.add(TimeUnit.MINUTES);
             }
-            if (pattern.contains("s")) {
+            if (symbols.contains("s")) {
                 patternUnits.add(TimeUnit.SECONDS);
             }
-            if (pattern.contains("f")) {
+            if (symbols.contains("f")) {
                 patternUnits.add(TimeUnit.NANOSECONDS);
             }
 
-            super.print(new Normalized(duration, patternUnits), buffer);
+            return patternUnits;
 
         }
 
@@ -2009,7 +2009,7 @@ public final class Moment
 
     }
 
-    private boolean isPositiveLS() {
+    boolean isPositiveLS() {
 
         return ((this.fraction >>> 30) != 0);
 
@@ -2299,6 +2299,25 @@ public final class Moment
 
         long unixTime = in.readLong();
         int nano = (hasNanos ? in.readInt() : 0);
+        return decode(unixTime, nano, positiveLS);
+
+    }
+
+    /**
+     * <p>Rekonstruiert einen Moment aus seinen gespeicherten Bestandteilen. </p>
+     *
+     * @param   unixTime    elapsed POSIX seconds
+     * @param   nano        nanosecond fraction without leap second flag
+     * @param   positiveLS  positive leap second indicated?
+     * @return  decoded instance
+     * @throws  InvalidObjectException if the leap second flag is not valid
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    static Moment decode(
+        long unixTime,
+        int nano,
+        boolean positiveLS
+    ) throws InvalidObjectException {
 
         if (unixTime == 0) {
             if (positiveLS) {
@@ -2275,7 +2275,22 @@ public final class PlainDate
             GregorianMath.checkDate(year, month, dayOfMonth);
         }
 
-        // TODO: konfigurierbaren Cache einbauen?
+        if (FlyweightCache.isDateCacheActive()) {
+            long utcDays =
+                EpochDays.UTC.transform(
+                    GregorianMath.toMJD(year, month, dayOfMonth),
+                    EpochDays.MODIFIED_JULIAN_DATE);
+            PlainDate date = FlyweightCache.lookupDate(utcDays);
+
+            if (date == null) {
+                Weekday dow = ((weekday == null) ? Weekmodel.getDayOfWeek(utcDays) : weekday);
+                date = new PlainDate(year, month, dayOfMonth, dow);
+                FlyweightCache.storeDate(utcDays, date);
+            }
+
+            return date;
+        }
+
         return new PlainDate(year, month, dayOfMonth, weekday);
 
     }
@@ -2661,6 +2676,12 @@ public final class PlainDate
                 return PlainDate.MAX;
             }
 
+            PlainDate cached = FlyweightCache.lookupDate(utcDays);
+
+            if (cached != null) {
+                return cached;
+            }
+
             long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(utcDays, EpochDays.UTC);
             long packedDate = GregorianMath.toPackedDate(mjd);
 
@@ -1184,7 +1184,7 @@ public final class PlainTime
             return PlainTime.of(hour);
         }
 
-        return new PlainTime(hour, minute, 0, 0, true);
+        return PlainTime.of(hour, minute, 0, 0, true);
 
     }
 
@@ -1218,7 +1218,7 @@ public final class PlainTime
             return PlainTime.of(hour);
         }
 
-        return new PlainTime(hour, minute, second, 0, true);
+        return PlainTime.of(hour, minute, second, 0, true);
 
     }
 
@@ -1875,6 +1875,21 @@ public final class PlainTime
             } else {
                 return HOURS[hour];
             }
+        } else if (
+            (nanosecond == 0)
+            && (hour >= 0) && (hour < 24)
+            && (minute >= 0) && (minute < 60)
+            && (second >= 0) && (second < 60)
+        ) {
+            int secondOfDay = hour * 3600 + minute * 60 + second;
+            PlainTime time = FlyweightCache.lookupTime(secondOfDay);
+
+            if (time == null) {
+                time = new PlainTime(hour, minute, second, 0, false);
+                FlyweightCache.storeTime(secondOfDay, time);
+            }
+
+            return time;
         }
 
         return new PlainTime(hour, minute, second, nanosecond, validating);
@@ -1971,7 +1986,7 @@ public final class PlainTime
 
     }
 
-    private static PlainTime createFromNanos(long nanosOfDay) {
+    static PlainTime createFromNanos(long nanosOfDay) {
 
         int nanosecond = (int) (nanosOfDay % MRD);
         int secondsOfDay = (int) (nanosOfDay / MRD);
@@ -1984,7 +1999,7 @@ public final class PlainTime
 
     }
 
-    private long getNanoOfDay() {
+    long getNanoOfDay() {
 
         return (
             this.nano
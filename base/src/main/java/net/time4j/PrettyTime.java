@@ -36,8 +36,11 @@ import net.time4j.format.TextWidth;
 import net.time4j.format.internal.SymbolProviderSPI;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
 import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
 
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -48,6 +51,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -114,6 +118,8 @@ public final class PrettyTime {
     private static final IsoUnit[] TSP_UNITS;
     private static final Set<IsoUnit> SUPPORTED_UNITS;
     private static final long START_1972;
+    private static final int UNIT_COUNT = CalendarUnit.values().length + ClockUnit.values().length;
+    private static final int CATEGORY_COUNT = PluralCategory.values().length;
 
     static {
         IsoUnit[] stdUnits = {YEARS, MONTHS, WEEKS, DAYS, HOURS, MINUTES, SECONDS};
@@ -139,6 +145,7 @@ public final class PrettyTime {
     private final boolean shortStyle;
     private final String stdListSeparator;
     private final String endListSeparator;
+    private final RelativePattern[] relativePatterns; // Cache, lazy gefüllt
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -172,6 +179,7 @@ public final class PrettyTime {
         this.shortStyle = shortStyle;
         this.stdListSeparator = stdListSeparator;
         this.endListSeparator = endListSeparator;
+        this.relativePatterns = new RelativePattern[2 * UNIT_COUNT * CATEGORY_COUNT];
 
     }
 
@@ -1408,6 +1416,61 @@ public final class PrettyTime {
         TimeUnit precision
     ) {
 
+        StringBuilder sb = new StringBuilder(32);
+
+        try {
+            this.printRelative(moment, tz, precision, sb);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Formats given time point relative to the current time of {@link #getReferenceClock()}
+     * as duration in given precision or less and writes the result into given buffer. </p>
+     *
+     * <p>Equivalent to {@link #printRelative(UnixTime, Timezone, TimeUnit)} but designed for
+     * printing many relative times in a row into a reusable buffer, for example a cleared
+     * {@code StringBuilder}. Compiled relative patterns are cached per instance of this class
+     * (and per unit, plural category and direction), and durations shorter than one day are
+     * calculated directly on the time line if the zone does not change its offset nearby. </p>
+     *
+     * @param   moment      relative time point
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @param   buffer      buffer where the formatted output of relative time will be written to
+     * @throws  IOException if writing to buffer fails
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Zeitpunkt relativ zur aktuellen Zeit
+     * der Referenzuhr {@link #getReferenceClock()} als Dauer in der angegebenen
+     * maximalen Genauigkeit und schreibt das Ergebnis in den angegebenen Puffer. </p>
+     *
+     * <p>&Auml;quivalent zu {@link #printRelative(UnixTime, Timezone, TimeUnit)}, aber daf&uuml;r
+     * gedacht, viele relative Zeitangaben nacheinander in einen wiederverwendbaren Puffer zu
+     * schreiben, zum Beispiel einen geleerten {@code StringBuilder}. Kompilierte relative Muster
+     * werden pro Instanz dieser Klasse (und pro Einheit, Pluralkategorie und Richtung)
+     * zwischengespeichert, und Dauern unter einem Tag werden direkt auf dem Zeitstrahl berechnet,
+     * wenn die Zeitzone in der N&auml;he ihren Versatz nicht &auml;ndert. </p>
+     *
+     * @param   moment      relative time point
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @param   buffer      buffer where the formatted output of relative time will be written to
+     * @throws  IOException if writing to buffer fails
+     * @since   5.8
+     */
+    public void printRelative(
+        UnixTime moment,
+        Timezone tz,
+        TimeUnit precision,
+        Appendable buffer
+    ) throws IOException {
+
         UnixTime ref = this.getReferenceClock().currentTime();
         Moment t1 = Moment.from(ref);
         Moment t2 = Moment.from(moment);
@@ -1416,11 +1479,12 @@ public final class PrettyTime {
             long delta = t1.until(t2, TimeUnit.SECONDS);
 
             if (Math.abs(delta) < 60L) {
-                return this.printRelativeSeconds(t1, t2, delta);
+                this.printRelativeSeconds(t1, t2, delta, buffer);
+                return;
             }
         }
 
-        return this.printRelativeTime(t1, t2, tz, precision, null, null);
+        this.printRelativeTime(t1, t2, tz, precision, null, null, buffer);
 
     }
 
@@ -1470,14 +1534,9 @@ public final class PrettyTime {
 
         if (Math.abs(delta) > maxdelta) {
             return formatter.format(t2);
-        } else if (
-            (precision.compareTo(TimeUnit.SECONDS) <= 0)
-            && (Math.abs(delta) < 60L)
-        ) {
-            return this.printRelativeSeconds(t1, t2, delta);
         }
 
-        return this.printRelativeTime(t1, t2, tz, precision, null, null);
+        return this.printRelative(t1, t2, delta, tz, precision, null, null);
 
     }
 
@@ -1523,14 +1582,7 @@ public final class PrettyTime {
         Moment t2 = Moment.from(moment);
         long delta = t1.until(t2, TimeUnit.SECONDS);
 
-        if (
-            (precision.compareTo(TimeUnit.SECONDS) <= 0)
-            && (Math.abs(delta) < 60L)
-        ) {
-            return this.printRelativeSeconds(t1, t2, delta);
-        }
-
-        return this.printRelativeTime(t1, t2, tz, precision, maxRelativeUnit, formatter);
+        return this.printRelative(t1, t2, delta, tz, precision, maxRelativeUnit, formatter);
 
     }
 
@@ -1604,35 +1656,101 @@ public final class PrettyTime {
 
     }
 
-    private String printRelativeSeconds(
+    private String printRelative(
         Moment t1,
         Moment t2,
-        long delta
+        long delta,
+        Timezone tz,
+        TimeUnit precision,
+        CalendarUnit maxRelativeUnit,
+        TemporalFormatter<Moment> formatter
     ) {
 
+        StringBuilder sb = new StringBuilder(32);
+
+        try {
+            if (
+                (precision.compareTo(TimeUnit.SECONDS) <= 0)
+                && (Math.abs(delta) < 60L)
+            ) {
+                this.printRelativeSeconds(t1, t2, delta, sb);
+            } else {
+                this.printRelativeTime(t1, t2, tz, precision, maxRelativeUnit, formatter, sb);
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return sb.toString();
+
+    }
+
+    private void printRelativeSeconds(
+        Moment t1,
+        Moment t2,
+        long delta,
+        Appendable buffer
+    ) throws IOException {
+
         if (t1.getPosixTime() >= START_1972 && t2.getPosixTime() >= START_1972) {
             delta = SI.SECONDS.between(t1, t2); // leap second correction
         }
         if (delta == 0) {
-            return UnitPatterns.of(this.locale).getNowWord();
+            buffer.append(UnitPatterns.of(this.locale).getNowWord());
+        } else {
+            long amount = Math.abs(delta);
+            this.getRelativePattern(amount, ClockUnit.SECONDS, delta < 0).print(amount, this, buffer);
         }
-        long amount = Math.abs(delta);
-        String pattern = (
-            (delta < 0)
-            ? this.getPastPattern(amount, ClockUnit.SECONDS)
-            : this.getFuturePattern(amount, ClockUnit.SECONDS));
-        return this.format(pattern, amount);
 
     }
 
-    private String printRelativeTime(
+    private void printRelativeTime(
         Moment ref,
         Moment moment,
         Timezone tz,
         TimeUnit precision,
         CalendarUnit maxRelativeUnit,
-        TemporalFormatter<Moment> formatter
-    ) {
+        TemporalFormatter<Moment> formatter,
+        Appendable buffer
+    ) throws IOException {
+
+        long secs = moment.getPosixTime() - ref.getPosixTime();
+
+        if (
+            (Math.abs(secs) <= 86400L)
+            && !ref.isLeapSecond()
+            && !moment.isLeapSecond()
+            && isWithoutTransition(tz, ref, moment)
+        ) {
+            // schneller Weg: unter einem Tag gibt es nur Uhrzeiteinheiten, die Differenz der
+            // lokalen Zeitstempel ist dann gleich der Differenz auf dem POSIX-Zeitstrahl
+            long nanos = secs * 1_000_000_000L + moment.getNanosecond() - ref.getNanosecond();
+            long len = Math.abs(nanos);
+
+            if (len < 86400_000_000_000L) {
+                ClockUnit unit;
+                long amount;
+
+                if (len >= 3600_000_000_000L) {
+                    unit = ClockUnit.HOURS;
+                    amount = len / 3600_000_000_000L;
+                } else if (len >= 60_000_000_000L) {
+                    unit = ClockUnit.MINUTES;
+                    amount = len / 60_000_000_000L;
+                } else {
+                    unit = ClockUnit.SECONDS;
+                    amount = len / 1_000_000_000L;
+                }
+
+                if ((amount == 0) || (5 - unit.ordinal() < precision.ordinal())) {
+                    buffer.append(this.getEmptyRelativeString(precision));
+                } else {
+                    this.getRelativePattern(amount, unit, nanos < 0).print(amount, this, buffer);
+                }
+
+                return;
+            }
+        }
 
         PlainTimestamp start =
             PlainTimestamp.from(
@@ -1647,7 +1765,8 @@ public final class PrettyTime {
         Duration<IsoUnit> duration = Duration.in(tz, units).between(start, end);
 
         if (duration.isEmpty()) {
-            return this.getEmptyRelativeString(precision);
+            buffer.append(this.getEmptyRelativeString(precision));
+            return;
         }
 
         TimeSpan.Item<IsoUnit> item = duration.getTotalLength().get(0);
@@ -1656,42 +1775,57 @@ public final class PrettyTime {
 
         if (unit instanceof ClockUnit) {
             if (5 - ((ClockUnit) unit).ordinal() < precision.ordinal()) {
-                return this.getEmptyRelativeString(precision);
+                buffer.append(this.getEmptyRelativeString(precision));
+                return;
             }
         } else if (
             (maxRelativeUnit != null)
             && (Double.compare(unit.getLength(), maxRelativeUnit.getLength()) > 0)
         ) {
-            return formatter.format(moment);
+            buffer.append(formatter.format(moment));
+            return;
         } else if (unit.equals(CalendarUnit.DAYS)) {
             String replacement = this.getRelativeReplacement(end.toDate(), duration.isNegative(), amount);
 
             if (!replacement.isEmpty()) {
-                return replacement;
+                buffer.append(replacement);
+                return;
             }
         }
 
-        String pattern;
+        this.getRelativePattern(amount, unit, duration.isNegative()).print(amount, this, buffer);
 
-        if (duration.isNegative()) {
-            if (unit.isCalendrical()) {
-                assert (unit instanceof CalendarUnit);
-                pattern = this.getPastPattern(amount, (CalendarUnit) unit);
-            } else {
-                assert (unit instanceof ClockUnit);
-                pattern = this.getPastPattern(amount, (ClockUnit) unit);
-            }
-        } else {
-            if (unit.isCalendrical()) {
-                assert (unit instanceof CalendarUnit);
-                pattern = this.getFuturePattern(amount, (CalendarUnit) unit);
-            } else {
-                assert (unit instanceof ClockUnit);
-                pattern = this.getFuturePattern(amount, (ClockUnit) unit);
-            }
+    }
+
+    // keine Offset-Wechsel innerhalb eines Tages vor und nach dem Intervall
+    private static boolean isWithoutTransition(
+        Timezone tz,
+        Moment ref,
+        Moment moment
+    ) {
+
+        TransitionHistory history = tz.getHistory();
+
+        if (history == null) {
+            return tz.isFixed();
         }
 
-        return this.format(pattern, amount);
+        Moment min = ref;
+        Moment max = moment;
+
+        if (ref.isAfter(moment)) {
+            min = moment;
+            max = ref;
+        }
+
+        ZonalTransition previous = history.getStartTransition(min);
+
+        if ((previous != null) && (previous.getPosixTime() > min.getPosixTime() - 86400L)) {
+            return false;
+        }
+
+        Optional<ZonalTransition> next = history.findNextTransition(max);
+        return !(next.isPresent() && (next.get().getPosixTime() < max.getPosixTime() + 86400L));
 
     }
 
@@ -1782,6 +1916,41 @@ public final class PrettyTime {
 
     }
 
+    private RelativePattern getRelativePattern(
+        long amount,
+        IsoUnit unit,
+        boolean past
+    ) {
+
+        PluralCategory category = this.getCategory(amount);
+        int unitIndex = (
+            (unit instanceof CalendarUnit)
+            ? ((CalendarUnit) unit).ordinal()
+            : CalendarUnit.values().length + ((ClockUnit) unit).ordinal());
+        int index = ((past ? 0 : UNIT_COUNT) + unitIndex) * CATEGORY_COUNT + category.ordinal();
+        RelativePattern rp = this.relativePatterns[index];
+
+        if (rp == null) {
+            String pattern;
+
+            if (unit.isCalendrical()) {
+                assert (unit instanceof CalendarUnit);
+                CalendarUnit u = (CalendarUnit) unit;
+                pattern = (past ? this.getPastPattern(amount, u) : this.getFuturePattern(amount, u));
+            } else {
+                assert (unit instanceof ClockUnit);
+                ClockUnit u = (ClockUnit) unit;
+                pattern = (past ? this.getPastPattern(amount, u) : this.getFuturePattern(amount, u));
+            }
+
+            rp = new RelativePattern(pattern);
+            this.relativePatterns[index] = rp; // idempotent, ein Wettlauf ist harmlos
+        }
+
+        return rp;
+
+    }
+
     private static void pushDuration(
         long[] values,
         Duration<?> duration,
@@ -1993,4 +2162,65 @@ public final class PrettyTime {
 
     }
 
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // in Präfix und Suffix um den Platzhalter {0} zerlegtes Muster
+    private static class RelativePattern {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String prefix;
+        private final String suffix; // null, wenn es keinen Platzhalter gibt
+
+        //~ Konstruktoren -------------------------------------------------
+
+        RelativePattern(String pattern) {
+            super();
+
+            int pos = pattern.indexOf("{0}");
+
+            if (pos == -1) {
+                this.prefix = pattern;
+                this.suffix = null;
+            } else {
+                this.prefix = pattern.substring(0, pos);
+                this.suffix = pattern.substring(pos + 3);
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // amount >= 0
+        void print(
+            long amount,
+            PrettyTime pt,
+            Appendable buffer
+        ) throws IOException {
+
+            buffer.append(this.prefix);
+
+            if (this.suffix != null) {
+                char zero = pt.zeroDigit;
+                long divisor = 1;
+
+                while (divisor <= amount / 10) {
+                    divisor *= 10;
+                }
+
+                do {
+                    int digit = (int) (amount / divisor);
+                    buffer.append((char) (zero + digit));
+                    amount -= digit * divisor;
+                    divisor /= 10;
+                } while (divisor > 0);
+
+                buffer.append(this.suffix);
+            }
+
+        }
+
+    }
+
 }
@@ -25,6 +25,7 @@ import net.time4j.base.MathUtils;
 import net.time4j.base.TimeSource;
 import net.time4j.engine.ChronoException;
 import net.time4j.engine.Converter;
+import net.time4j.engine.EpochDays;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
@@ -45,6 +46,9 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 
 /**
@@ -77,6 +81,7 @@ public abstract class TemporalType<S, T>
     //~ Statische Felder/Initialisierungen --------------------------------
 
     private static final int MIO = 1_000_000;
+    private static final int PARALLEL_THRESHOLD = 8192;
 
     /**
      * <p>Bridge between a traditional Java timestamp of type
@@ -514,6 +519,562 @@ public abstract class TemporalType<S, T>
      */
     public abstract S from(T time4j);
 
+    /**
+     * <p>Converts all external objects to Time4J-objects in one pass. </p>
+     *
+     * <p>Both arrays must have the same length. Any {@code null}-element will be translated
+     * to {@code null}. If {@code parallel} is {@code true} and the array is large enough then
+     * the conversion will be done in parallel using the common fork-join-pool. The result is
+     * always the same as calling {@link #translate(Object)} for every single element. </p>
+     *
+     * @param   sources     array of external objects
+     * @param   targets     array where the translated Time4J-objects will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @throws  ChronoException  if conversion fails
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert alle externen Objekte in einem Durchgang nach Time4J. </p>
+     *
+     * <p>Beide Arrays m&uuml;ssen die gleiche L&auml;nge haben. Jedes {@code null}-Element
+     * wird zu {@code null} &uuml;bersetzt. Wenn {@code parallel} gleich {@code true} und das Array
+     * gro&szlig; genug ist, wird die Konversion mit Hilfe des gemeinsamen Fork-Join-Pools parallel
+     * ausgef&uuml;hrt. Das Ergebnis ist immer dasselbe wie beim Aufruf von {@link #translate(Object)}
+     * f&uuml;r jedes einzelne Element. </p>
+     *
+     * @param   sources     array of external objects
+     * @param   targets     array where the translated Time4J-objects will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @throws  ChronoException  if conversion fails
+     * @since   5.8
+     */
+    public void translateAll(
+        S[] sources,
+        T[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(sources.length, targets.length);
+
+        process(
+            sources.length,
+            parallel,
+            i -> {
+                S source = sources[i];
+                targets[i] = ((source == null) ? null : this.translate(source));
+            }
+        );
+
+    }
+
+    /**
+     * <p>Converts all Time4J-objects to external objects in one pass. </p>
+     *
+     * <p>Both arrays must have the same length. Any {@code null}-element will be translated
+     * to {@code null}. If {@code parallel} is {@code true} and the array is large enough then
+     * the conversion will be done in parallel using the common fork-join-pool. The result is
+     * always the same as calling {@link #from(Object)} for every single element. </p>
+     *
+     * @param   values      array of Time4J-objects
+     * @param   targets     array where the translated external objects will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @throws  ChronoException  if conversion fails
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert alle Time4J-Objekte in einem Durchgang zu externen Objekten. </p>
+     *
+     * <p>Beide Arrays m&uuml;ssen die gleiche L&auml;nge haben. Jedes {@code null}-Element
+     * wird zu {@code null} &uuml;bersetzt. Wenn {@code parallel} gleich {@code true} und das Array
+     * gro&szlig; genug ist, wird die Konversion mit Hilfe des gemeinsamen Fork-Join-Pools parallel
+     * ausgef&uuml;hrt. Das Ergebnis ist immer dasselbe wie beim Aufruf von {@link #from(Object)}
+     * f&uuml;r jedes einzelne Element. </p>
+     *
+     * @param   values      array of Time4J-objects
+     * @param   targets     array where the translated external objects will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @throws  ChronoException  if conversion fails
+     * @since   5.8
+     */
+    public void fromAll(
+        T[] values,
+        S[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(values.length, targets.length);
+
+        process(
+            values.length,
+            parallel,
+            i -> {
+                T value = values[i];
+                targets[i] = ((value == null) ? null : this.from(value));
+            }
+        );
+
+    }
+
+    /**
+     * <p>Converts an array of epoch values on the POSIX-scale since [1970-01-01T00:00:00Z]
+     * to moments. </p>
+     *
+     * <p>This is the columnar equivalent of {@code Moment.of(seconds, nanos, TimeScale.POSIX)}
+     * for every element. Epoch values in milliseconds correspond to {@link #MILLIS_SINCE_UNIX}. </p>
+     *
+     * @param   epochValues elapsed time since UNIX epoch in given unit (can be negative)
+     * @param   unit        time unit of epoch values
+     * @param   targets     array where the moments will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von Epochenwerten auf der POSIX-Skala seit [1970-01-01T00:00:00Z]
+     * zu Momenten. </p>
+     *
+     * <p>Das ist die spaltenweise Entsprechung von {@code Moment.of(seconds, nanos, TimeScale.POSIX)}
+     * f&uuml;r jedes Element. Epochenwerte in Millisekunden entsprechen {@link #MILLIS_SINCE_UNIX}. </p>
+     *
+     * @param   epochValues elapsed time since UNIX epoch in given unit (can be negative)
+     * @param   unit        time unit of epoch values
+     * @param   targets     array where the moments will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.8
+     */
+    public static void toMoments(
+        long[] epochValues,
+        TimeUnit unit,
+        Moment[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(epochValues.length, targets.length);
+        long perSecond = perSecond(unit);
+
+        process(
+            epochValues.length,
+            parallel,
+            i -> {
+                long v = epochValues[i];
+                targets[i] = Moment.of(toSeconds(v, unit, perSecond), toNanos(v, perSecond), TimeScale.POSIX);
+            }
+        );
+
+    }
+
+    /**
+     * <p>Converts an array of moments to epoch values on the POSIX-scale since
+     * [1970-01-01T00:00:00Z]. </p>
+     *
+     * <p>Fractions smaller than given unit will be truncated (rounding towards the past).
+     * Leap seconds are mapped to the preceding second as in {@code Moment.getPosixTime()}. </p>
+     *
+     * @param   moments     array of moments (without {@code null}-elements)
+     * @param   unit        time unit of epoch values
+     * @param   targets     array where the epoch values will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von Momenten zu Epochenwerten auf der POSIX-Skala seit
+     * [1970-01-01T00:00:00Z]. </p>
+     *
+     * <p>Bruchteile kleiner als die angegebene Einheit werden abgeschnitten (Rundung in
+     * Richtung Vergangenheit). Schaltsekunden werden wie in {@code Moment.getPosixTime()}
+     * auf die vorangehende Sekunde abgebildet. </p>
+     *
+     * @param   moments     array of moments (without {@code null}-elements)
+     * @param   unit        time unit of epoch values
+     * @param   targets     array where the epoch values will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.8
+     */
+    public static void fromMoments(
+        Moment[] moments,
+        TimeUnit unit,
+        long[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(moments.length, targets.length);
+        long perSecond = perSecond(unit);
+
+        process(
+            moments.length,
+            parallel,
+            i -> {
+                Moment m = moments[i];
+                targets[i] = toEpochValue(m.getPosixTime(), m.getNanosecond(), unit, perSecond);
+            }
+        );
+
+    }
+
+    /**
+     * <p>Converts an array of days since [1970-01-01] to calendar dates. </p>
+     *
+     * @param   epochDays   count of days since UNIX epoch (can be negative)
+     * @param   targets     array where the calendar dates will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     * @see     net.time4j.engine.EpochDays#UNIX
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von Tagen seit [1970-01-01] zu Kalenderdaten. </p>
+     *
+     * @param   epochDays   count of days since UNIX epoch (can be negative)
+     * @param   targets     array where the calendar dates will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     * @see     net.time4j.engine.EpochDays#UNIX
+     * @since   5.8
+     */
+    public static void toPlainDates(
+        long[] epochDays,
+        PlainDate[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(epochDays.length, targets.length);
+
+        process(
+            epochDays.length,
+            parallel,
+            i -> targets[i] = PlainDate.of(epochDays[i], EpochDays.UNIX)
+        );
+
+    }
+
+    /**
+     * <p>Converts an array of calendar dates to days since [1970-01-01]. </p>
+     *
+     * @param   dates       array of calendar dates (without {@code null}-elements)
+     * @param   targets     array where the count of days since UNIX epoch will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @see     net.time4j.engine.EpochDays#UNIX
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von Kalenderdaten zu Tagen seit [1970-01-01]. </p>
+     *
+     * @param   dates       array of calendar dates (without {@code null}-elements)
+     * @param   targets     array where the count of days since UNIX epoch will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @see     net.time4j.engine.EpochDays#UNIX
+     * @since   5.8
+     */
+    public static void fromPlainDates(
+        PlainDate[] dates,
+        long[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(dates.length, targets.length);
+
+        process(
+            dates.length,
+            parallel,
+            i -> targets[i] = toUnixDays(dates[i])
+        );
+
+    }
+
+    /**
+     * <p>Converts an array of elapsed times since midnight to wall times. </p>
+     *
+     * <p>The value of one full day will be translated to {@code T24:00}. </p>
+     *
+     * @param   values      elapsed times since midnight in given unit
+     * @param   unit        time unit of values
+     * @param   targets     array where the wall times will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von seit Mitternacht verstrichenen Zeiten zu Uhrzeiten. </p>
+     *
+     * <p>Der Wert eines vollen Tages wird zu {@code T24:00} &uuml;bersetzt. </p>
+     *
+     * @param   values      elapsed times since midnight in given unit
+     * @param   unit        time unit of values
+     * @param   targets     array where the wall times will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     * @since   5.8
+     */
+    public static void toPlainTimes(
+        long[] values,
+        TimeUnit unit,
+        PlainTime[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(values.length, targets.length);
+        long max = unit.convert(1, TimeUnit.DAYS);
+
+        process(
+            values.length,
+            parallel,
+            i -> {
+                long v = values[i];
+                if ((v < 0) || (v > max)) {
+                    throw new IllegalArgumentException("Time of day out of range: " + v + " " + unit);
+                }
+                targets[i] = PlainTime.createFromNanos(unit.toNanos(v));
+            }
+        );
+
+    }
+
+    /**
+     * <p>Converts an array of wall times to elapsed times since midnight. </p>
+     *
+     * <p>Fractions smaller than given unit will be truncated. The time {@code T24:00}
+     * yields the value of one full day. </p>
+     *
+     * @param   times       array of wall times (without {@code null}-elements)
+     * @param   unit        time unit of values
+     * @param   targets     array where the elapsed times since midnight will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von Uhrzeiten zu seit Mitternacht verstrichenen Zeiten. </p>
+     *
+     * <p>Bruchteile kleiner als die angegebene Einheit werden abgeschnitten. Die Uhrzeit
+     * {@code T24:00} ergibt den Wert eines vollen Tages. </p>
+     *
+     * @param   times       array of wall times (without {@code null}-elements)
+     * @param   unit        time unit of values
+     * @param   targets     array where the elapsed times since midnight will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   5.8
+     */
+    public static void fromPlainTimes(
+        PlainTime[] times,
+        TimeUnit unit,
+        long[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(times.length, targets.length);
+
+        process(
+            times.length,
+            parallel,
+            i -> targets[i] = unit.convert(times[i].getNanoOfDay(), TimeUnit.NANOSECONDS)
+        );
+
+    }
+
+    /**
+     * <p>Converts an array of local epoch values since [1970-01-01T00:00] to timestamps
+     * without any time zone. </p>
+     *
+     * @param   epochValues elapsed local time since [1970-01-01T00:00] in given unit (can be negative)
+     * @param   unit        time unit of epoch values
+     * @param   targets     array where the timestamps will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von lokalen Epochenwerten seit [1970-01-01T00:00] zu
+     * Zeitstempeln ohne Zeitzone. </p>
+     *
+     * @param   epochValues elapsed local time since [1970-01-01T00:00] in given unit (can be negative)
+     * @param   unit        time unit of epoch values
+     * @param   targets     array where the timestamps will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths or any value is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.8
+     */
+    public static void toPlainTimestamps(
+        long[] epochValues,
+        TimeUnit unit,
+        PlainTimestamp[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(epochValues.length, targets.length);
+        long perSecond = perSecond(unit);
+
+        process(
+            epochValues.length,
+            parallel,
+            i -> {
+                long v = epochValues[i];
+                long seconds = toSeconds(v, unit, perSecond);
+                PlainDate date = PlainDate.of(MathUtils.floorDivide(seconds, 86400), EpochDays.UNIX);
+                long nanoOfDay = MathUtils.floorModulo(seconds, 86400) * 1_000_000_000L + toNanos(v, perSecond);
+                targets[i] = PlainTimestamp.of(date, PlainTime.createFromNanos(nanoOfDay));
+            }
+        );
+
+    }
+
+    /**
+     * <p>Converts an array of timestamps to local epoch values since [1970-01-01T00:00]. </p>
+     *
+     * <p>Fractions smaller than given unit will be truncated (rounding towards the past). </p>
+     *
+     * @param   timestamps  array of timestamps (without {@code null}-elements)
+     * @param   unit        time unit of epoch values
+     * @param   targets     array where the local epoch values will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von Zeitstempeln zu lokalen Epochenwerten seit [1970-01-01T00:00]. </p>
+     *
+     * <p>Bruchteile kleiner als die angegebene Einheit werden abgeschnitten (Rundung in
+     * Richtung Vergangenheit). </p>
+     *
+     * @param   timestamps  array of timestamps (without {@code null}-elements)
+     * @param   unit        time unit of epoch values
+     * @param   targets     array where the local epoch values will be stored
+     * @param   parallel    is a parallel conversion of large arrays permitted?
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.8
+     */
+    public static void fromPlainTimestamps(
+        PlainTimestamp[] timestamps,
+        TimeUnit unit,
+        long[] targets,
+        boolean parallel
+    ) {
+
+        checkLength(timestamps.length, targets.length);
+        long perSecond = perSecond(unit);
+
+        process(
+            timestamps.length,
+            parallel,
+            i -> {
+                PlainTimestamp tsp = timestamps[i];
+                long nanoOfDay = tsp.getWallTime().getNanoOfDay();
+                long seconds =
+                    MathUtils.safeAdd(
+                        MathUtils.safeMultiply(toUnixDays(tsp.getCalendarDate()), 86400),
+                        nanoOfDay / 1_000_000_000L);
+                targets[i] = toEpochValue(seconds, (int) (nanoOfDay % 1_000_000_000L), unit, perSecond);
+            }
+        );
+
+    }
+
+    private static void checkLength(
+        int sourceLength,
+        int targetLength
+    ) {
+
+        if (sourceLength != targetLength) {
+            throw new IllegalArgumentException(
+                "Array lengths are different: " + sourceLength + " != " + targetLength);
+        }
+
+    }
+
+    private static void process(
+        int len,
+        boolean parallel,
+        IntConsumer action
+    ) {
+
+        if (parallel && (len >= PARALLEL_THRESHOLD)) {
+            IntStream.range(0, len).parallel().forEach(action);
+        } else {
+            for (int i = 0; i < len; i++) {
+                action.accept(i);
+            }
+        }
+
+    }
+
+    // Anzahl der Einheiten pro Sekunde (0 bei gröberen Einheiten als Sekunden)
+    private static long perSecond(TimeUnit unit) {
+
+        return unit.convert(1, TimeUnit.SECONDS);
+
+    }
+
+    private static long toSeconds(
+        long value,
+        TimeUnit unit,
+        long perSecond
+    ) {
+
+        if (perSecond <= 1) {
+            return MathUtils.safeMultiply(value, unit.toSeconds(1));
+        }
+
+        return MathUtils.floorDivide(value, (int) perSecond);
+
+    }
+
+    private static int toNanos(
+        long value,
+        long perSecond
+    ) {
+
+        if (perSecond <= 1) {
+            return 0;
+        }
+
+        return (int) (MathUtils.floorModulo(value, (int) perSecond) * (1_000_000_000L / perSecond));
+
+    }
+
+    private static long toEpochValue(
+        long seconds,
+        int nanos,
+        TimeUnit unit,
+        long perSecond
+    ) {
+
+        if (perSecond <= 1) {
+            return Math.floorDiv(seconds, unit.toSeconds(1));
+        }
+
+        return MathUtils.safeAdd(
+            MathUtils.safeMultiply(seconds, perSecond),
+            nanos / (1_000_000_000L / perSecond));
+
+    }
+
+    private static long toUnixDays(PlainDate date) {
+
+        return EpochDays.UNIX.transform(date.getDaysSinceEpochUTC(), EpochDays.UTC);
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     private static class JavaUtilDateRule
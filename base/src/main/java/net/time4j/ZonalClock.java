@@ -32,6 +32,11 @@ import net.time4j.engine.VariantSource;
 import net.time4j.format.Attributes;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.util.Optional;
 
 
 /**
@@ -75,6 +80,7 @@ public final class ZonalClock {
 
     private final TimeSource<?> timeSource;
     private final Timezone timezone;
+    private volatile DayCache dayCache = null;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -200,6 +206,10 @@ public final class ZonalClock {
      * <p>The result dynamically depends on the associated timezone meaning if and only if the underlying
      * timezone is the system timezone. </p>
      *
+     * <p>The result is cached until the next local midnight or offset change so repeated
+     * calls in combination with a fast time source like {@link net.time4j.clock.CoarseClock}
+     * are cheap. </p>
+     *
      * @return  calendar date representing today
      */
     /*[deutsch]
@@ -208,13 +218,48 @@ public final class ZonalClock {
      * <p>Das Ergebnis h&auml;ngt genau dann dynamisch von der assoziierten Zeitzone ab, wenn die
      * System-Zeitzone vorliegt. </p>
      *
+     * <p>Das Ergebnis wird bis zur n&auml;chsten lokalen Mitternacht oder zum n&auml;chsten
+     * Offset-Wechsel zwischengespeichert, so da&szlig; wiederholte Aufrufe zusammen mit einer
+     * schnellen Zeitquelle wie {@link net.time4j.clock.CoarseClock} g&uuml;nstig sind. </p>
+     *
      * @return  calendar date representing today
      */
     public PlainDate today() {
 
         final UnixTime ut = this.timeSource.currentTime();
         Timezone tz = (this.timezone == null) ? Timezone.ofSystem() : this.timezone;
-        return PlainDate.from(ut, tz.getOffset(ut));
+        long posix = ut.getPosixTime();
+        DayCache cache = this.dayCache;
+
+        if ((cache != null) && (cache.tz == tz) && (posix >= cache.start) && (posix < cache.end)) {
+            return cache.date;
+        }
+
+        ZonalOffset offset = tz.getOffset(ut);
+        PlainDate date = PlainDate.from(ut, offset);
+
+        if (offset.getFractionalAmount() == 0) {
+            TransitionHistory history = tz.getHistory();
+            if (tz.isFixed() || (history != null)) {
+                // Gültigkeit des Datums: lokaler Tag, begrenzt durch benachbarte Offset-Wechsel
+                long start = Math.floorDiv(posix + offset.getIntegralAmount(), 86400) * 86400
+                    - offset.getIntegralAmount();
+                long end = start + 86400;
+                if (!tz.isFixed()) {
+                    ZonalTransition previous = history.getStartTransition(ut);
+                    if (previous != null) {
+                        start = Math.max(start, previous.getPosixTime());
+                    }
+                    Optional<ZonalTransition> next = history.findNextTransition(ut);
+                    if (next.isPresent()) {
+                        end = Math.min(end, next.get().getPosixTime());
+                    }
+                }
+                this.dayCache = new DayCache(tz, start, end, date); // idempotent, ein Wettlauf ist harmlos
+            }
+        }
+
+        return date;
 
     }
 
@@ -450,4 +495,34 @@ public final class ZonalClock {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class DayCache {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Timezone tz;
+        private final long start; // inklusive, POSIX-Sekunden
+        private final long end; // exklusive, POSIX-Sekunden
+        private final PlainDate date;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DayCache(
+            Timezone tz,
+            long start,
+            long end,
+            PlainDate date
+        ) {
+            super();
+
+            this.tz = tz;
+            this.start = start;
+            this.end = end;
+            this.date = date;
+
+        }
+
+    }
+
 }
@@ -56,6 +56,15 @@ public final class GregorianMath {
     // Tage zwischen [0000-03-01] und [1970-01-01] minus MJD-Epoche
     private static final int OFFSET = 719468 - 40587;
 
+    // Verschiebung um ganze 400-Jahres-Zyklen, damit alle Tages- und Jahreszahlen nicht-negativ werden
+    private static final long SHIFT_CYCLES = 2_500_000L;
+    private static final long SHIFT_DAYS = SHIFT_CYCLES * 146097;
+    private static final long SHIFT_YEARS = SHIFT_CYCLES * 400;
+
+    // Tage seit [0000-03-01] für die Grenzen des unterstützten Jahresbereichs
+    private static final long MIN_DAYS = toMJD(MIN_YEAR, 1, 1) + OFFSET;
+    private static final long MAX_DAYS = toMJD(MAX_YEAR, 12, 31) + OFFSET;
+
     //~ Konstruktoren -----------------------------------------------------
 
     private GregorianMath() {
@@ -378,71 +387,26 @@ public final class GregorianMath {
      */
     public static long toPackedDate(long mjd) {
 
-        long y;
-        int m;
-        int d;
-
         long days = Math.addExact(mjd, OFFSET);
 
-        if (days >= 694266 && days < 766950) { // year range 1901-2099
-            days += 15;
-            long q4 = Math.floorDiv(days, 1461);
-            int r4 = (int) Math.floorMod(days, 1461);
-
-            if (r4 == 1460) {
-                y = (q4 + 1) * 4;
-                m = 2;
-                d = 29;
-            } else {
-                int q1 = (r4 / 365);
-                int r1 = (r4 % 365);
-
-                y = q4 * 4 + q1;
-                m = (((r1 + 31) * 5) / 153) + 2;
-                d = r1 - (((m + 1) * 153) / 5) + 123;
-
-                if (m > 12) {
-                    y++;
-                    m -= 12;
-                }
-            }
-        } else {
-            long q400 = Math.floorDiv(days, 146097);
-            int r400 = (int) Math.floorMod(days, 146097);
-
-            if (r400 == 146096) {
-                y = (q400 + 1) * 400;
-                m = 2;
-                d = 29;
-            } else {
-                int q100 = (r400 / 36524);
-                int r100 = (r400 % 36524);
-
-                int q4 = (r100 / 1461);
-                int r4 = (r100 % 1461);
-
-                if (r4 == 1460) {
-                    y = (q400 * 400 + q100 * 100 + (q4 + 1) * 4);
-                    m = 2;
-                    d = 29;
-                } else {
-                    int q1 = (r4 / 365);
-                    int r1 = (r4 % 365);
-
-                    y = (q400 * 400 + q100 * 100 + q4 * 4 + q1);
-                    m = (((r1 + 31) * 5) / 153) + 2;
-                    d = r1 - (((m + 1) * 153) / 5) + 123;
-
-                    if (m > 12) {
-                        y++;
-                        m -= 12;
-                    }
-                }
-            }
+        if ((days < MIN_DAYS) || (days > MAX_DAYS)) {
+            throw new IllegalArgumentException("Year out of range: " + mjd + " (modified julian date)");
+        }
 
-            if (y < GregorianMath.MIN_YEAR || y > GregorianMath.MAX_YEAR) {
-                throw new IllegalArgumentException("Year out of range: " + y);
-            }
+        // Neri-Schneider (2022): Euklidische Affinfunktionen im computationalen Kalender ab [0000-03-01]
+        long n1 = 4 * (days + SHIFT_DAYS) + 3;
+        long century = n1 / 146097;
+        long n2 = ((n1 % 146097) | 3);
+        long p2 = 2939745L * n2;
+        int dayOfYear = (int) ((p2 & 0xFFFFFFFFL) / 11758980L); // 2939745 * 4
+        long y = 100 * century + (p2 >>> 32) - SHIFT_YEARS;
+        int n3 = 2141 * dayOfYear + 197913;
+        int m = (n3 >>> 16);
+        int d = ((n3 & 0xFFFF) / 2141) + 1;
+
+        if (dayOfYear >= 306) { // Januar oder Februar
+            y++;
+            m -= 12;
         }
 
         long result = (y << 32);
@@ -500,7 +464,8 @@ public final class GregorianMath {
 
         checkDate(year, month, dayOfMonth);
 
-        long y = year;
+        // Neri-Schneider (2022): computationaler Kalender mit Jahresbeginn am 1. März
+        long y = year + SHIFT_YEARS;
         int m = month;
 
         if (m < 3) {
@@ -508,20 +473,9 @@ public final class GregorianMath {
             m += 12;
         }
 
-        long days = (
-            (y * 365)
-            + Math.floorDiv(y, 4)
-            + (((m + 1) * 153) / 5) - 123
-            + dayOfMonth
-        );
-
-        if ((year >= 1901) && (year < 2100)) {
-            days -= 15;
-        } else {
-            days = days - Math.floorDiv(y, 100) + Math.floorDiv(y, 400);
-        }
-
-        return days - OFFSET;
+        long century = y / 100;
+        long days = ((1461 * y) >>> 2) - century + (century >>> 2) + ((979 * m - 2919) >>> 5) + dayOfMonth - 1;
+        return days - SHIFT_DAYS - OFFSET;
 
     }
 
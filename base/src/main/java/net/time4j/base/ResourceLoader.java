@@ -55,6 +55,8 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
@@ -118,11 +120,21 @@ public abstract class ResourceLoader {
     private static final ResourceLoader INSTANCE;
     private static final boolean ENFORCE_USE_OF_CLASSLOADER;
     private static final Map<Class<?>, List<Object>> REGISTERED_SERVICES;
+    private static final ClassValue<AtomicReference<CachedServices>> SERVICE_CACHE =
+        new ClassValue<AtomicReference<CachedServices>>() {
+            @Override
+            protected AtomicReference<CachedServices> computeValue(Class<?> type) {
+                return new AtomicReference<>();
+            }
+        };
+    private static final AtomicInteger SERVICE_MODIFICATIONS;
+    private static volatile boolean servicesFrozen = false;
 
     static {
         ANDROID = "Dalvik".equalsIgnoreCase(System.getProperty("java.vm.name"));
         ENFORCE_USE_OF_CLASSLOADER = !ANDROID && Boolean.getBoolean(USE_OF_CLASSLOADER_ONLY);
         REGISTERED_SERVICES = new ConcurrentHashMap<>();
+        SERVICE_MODIFICATIONS = new AtomicInteger(0);
         String rl = System.getProperty(EXTERNAL_RESOURCE_LOADER);
 
         if (rl == null) {
@@ -279,6 +291,10 @@ public abstract class ResourceLoader {
     /**
      * <p>Finds a collection of service providers available for given service provider interface. </p>
      *
+     * <p>The standard implementation caches the found service providers per service interface
+     * so the service loader mechanism is only used once for every interface. The cache will be
+     * automatically invalidated if a new service is registered. </p>
+     *
      * @param   <S> generic service type
      * @param   serviceInterface    service provider interface
      * @return  iterable collection of service providers
@@ -288,6 +304,11 @@ public abstract class ResourceLoader {
      * <p>Findet eine Menge von <i>Service Provider</i>-Objekten, die zum angegebenen Interface
      * verf&uuml;gbar sind. </p>
      *
+     * <p>Die Standardimplementierung speichert die gefundenen <i>Service Provider</i> pro Interface
+     * zwischen, so da&szlig; der <i>service loader</i>-Mechanismus f&uuml;r jedes Interface nur einmal
+     * benutzt wird. Der Zwischenspeicher wird automatisch ung&uuml;ltig, wenn ein neuer Service
+     * registriert wird. </p>
+     *
      * @param   <S> generic service type
      * @param   serviceInterface    service provider interface
      * @return  iterable collection of service providers
@@ -348,6 +369,8 @@ public abstract class ResourceLoader {
 
         if (this.getClass() != StdResourceLoader.class) {
             throw new IllegalStateException("Can only be called on standard resource loader.");
+        } else if (servicesFrozen) {
+            throw new IllegalStateException("Services are already frozen: " + serviceInterface.getName());
         }
 
         List<Object> list = REGISTERED_SERVICES.get(serviceInterface);
@@ -362,6 +385,92 @@ public abstract class ResourceLoader {
 
         list.add(implementation);
         REGISTERED_SERVICES.put(serviceInterface, list);
+        SERVICE_MODIFICATIONS.incrementAndGet(); // macht alle zwischengespeicherten Services ungültig
+
+    }
+
+    /**
+     * <p>Discards all cached service providers so that the next call of {@link #services(Class)}
+     * will look up the service providers again. </p>
+     *
+     * <p>This method is only relevant if new service providers become visible at runtime, for example
+     * after the installation of a new module. It has no effect on non-standard resource loaders. </p>
+     *
+     * <p><strong>Attention:</strong> The cache is global. Refreshing it affects every caller of
+     * {@code ResourceLoader.getInstance()} in the whole application (precisely: all code which uses
+     * the Time4J-classes loaded by the same class loader, usually the whole JVM). </p>
+     *
+     * @throws  IllegalStateException if the services are already frozen
+     * @see     #freezeServices(Class[])
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Verwirft alle zwischengespeicherten <i>Service Provider</i>, so da&szlig; der n&auml;chste
+     * Aufruf von {@link #services(Class)} die <i>Service Provider</i> neu sucht. </p>
+     *
+     * <p>Diese Methode ist nur relevant, wenn neue <i>Service Provider</i> zur Laufzeit sichtbar werden,
+     * zum Beispiel nach der Installation eines neuen Moduls. Sie hat keine Wirkung auf andere als den
+     * Standard-{@code ResourceLoader}. </p>
+     *
+     * <p><strong>Achtung:</strong> Der Zwischenspeicher ist global. Das Auffrischen betrifft jeden
+     * Aufrufer von {@code ResourceLoader.getInstance()} in der ganzen Anwendung (genau: allen Code,
+     * der die vom selben <i>Classloader</i> geladenen Time4J-Klassen benutzt, normalerweise die ganze
+     * JVM). </p>
+     *
+     * @throws  IllegalStateException if the services are already frozen
+     * @see     #freezeServices(Class[])
+     * @since   5.8
+     */
+    public synchronized void refreshServices() {
+
+        if (servicesFrozen) {
+            throw new IllegalStateException("Services are already frozen.");
+        }
+
+        SERVICE_MODIFICATIONS.incrementAndGet();
+
+    }
+
+    /**
+     * <p>Loads the service providers of given service interfaces in advance and freezes all
+     * registered and cached services. </p>
+     *
+     * <p>Applications can call this method once at startup after all external services have been
+     * registered in order to achieve a fast and predictable initialization. Afterwards, neither
+     * {@link #registerService(Class, Object)} nor {@link #refreshServices()} can be called any longer. </p>
+     *
+     * <p><strong>Attention:</strong> Freezing is global and irreversible. It affects every caller of
+     * {@code ResourceLoader.getInstance()} in the whole application (precisely: all code which uses
+     * the Time4J-classes loaded by the same class loader, usually the whole JVM). Libraries should
+     * therefore never call this method, only the application itself. </p>
+     *
+     * @param   serviceInterfaces   service interfaces whose providers shall be loaded in advance
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>L&auml;dt die <i>Service Provider</i> der angegebenen Interfaces vorab und friert alle
+     * registrierten und zwischengespeicherten Services ein. </p>
+     *
+     * <p>Anwendungen k&ouml;nnen diese Methode einmal beim Start aufrufen, nachdem alle externen Services
+     * registriert wurden, um eine schnelle und vorhersagbare Initialisierung zu erreichen. Danach
+     * k&ouml;nnen weder {@link #registerService(Class, Object)} noch {@link #refreshServices()} aufgerufen
+     * werden. </p>
+     *
+     * <p><strong>Achtung:</strong> Das Einfrieren ist global und nicht umkehrbar. Es betrifft jeden
+     * Aufrufer von {@code ResourceLoader.getInstance()} in der ganzen Anwendung (genau: allen Code,
+     * der die vom selben <i>Classloader</i> geladenen Time4J-Klassen benutzt, normalerweise die ganze
+     * JVM). Bibliotheken sollten diese Methode daher nie aufrufen, sondern nur die Anwendung selbst. </p>
+     *
+     * @param   serviceInterfaces   service interfaces whose providers shall be loaded in advance
+     * @since   5.8
+     */
+    public synchronized void freezeServices(Class<?>... serviceInterfaces) {
+
+        for (Class<?> serviceInterface : serviceInterfaces) {
+            this.services(serviceInterface).iterator();
+        }
+
+        servicesFrozen = true;
 
     }
 
@@ -451,6 +560,23 @@ public abstract class ResourceLoader {
         @Override
         public <S> Iterable<S> services(Class<S> serviceInterface) {
 
+            // ClassValue: der Zwischenspeicher hängt am Interface und hält dessen Classloader nicht fest
+            AtomicReference<CachedServices> ref = SERVICE_CACHE.get(serviceInterface);
+            int modifications = SERVICE_MODIFICATIONS.get();
+            CachedServices cached = ref.get();
+
+            if ((cached == null) || (cached.modifications != modifications)) {
+                // concurrent registration or refresh yields an outdated stamp and so a new lookup next time
+                cached = new CachedServices(modifications, lookupServices(serviceInterface));
+                ref.set(cached);
+            }
+
+            return cast(cached.services);
+
+        }
+
+        private static <S> Set<S> lookupServices(Class<S> serviceInterface) {
+
             Set<S> set = new LinkedHashSet<>();
             List<?> ext = REGISTERED_SERVICES.get(serviceInterface);
 
@@ -479,6 +605,34 @@ public abstract class ResourceLoader {
 
         }
 
+        @SuppressWarnings("unchecked")
+        private static <T> T cast(Object obj) {
+
+            return (T) obj;
+
+        }
+
+    }
+
+    private static class CachedServices {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int modifications;
+        private final Set<?> services;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        CachedServices(
+            int modifications,
+            Set<?> services
+        ) {
+            super();
+
+            this.modifications = modifications;
+            this.services = Collections.unmodifiableSet(services);
+        }
+
     }
 
     private static class InternalServices {
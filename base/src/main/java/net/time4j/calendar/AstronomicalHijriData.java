@@ -44,6 +44,8 @@ import java.util.Properties;
  * variant name. Such a file has the extension &quot;.data&quot; and is located in the data-directory relative
  * to the class path. </p>
  *
+ * <p>Adjusted variants share the month tables of their base variant and only store the day offset. </p>
+ *
  * @since   3.5/4.3
  */
 final class AstronomicalHijriData
@@ -70,8 +72,8 @@ final class AstronomicalHijriData
     private final int maxYear;
     private final long minUTC;
     private final long maxUTC;
-    private final int[] lengthOfMonth;
-    private final long[] firstOfMonth;
+    private final int[] lengthOfMonth; // gemeinsam genutzt mit allen angepassten Varianten
+    private final long[] firstOfMonth; // gemeinsam genutzt mit allen angepassten Varianten
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -202,8 +204,49 @@ final class AstronomicalHijriData
 
     }
 
+    private AstronomicalHijriData(
+        AstronomicalHijriData base,
+        String variant,
+        int adjustment
+    ) {
+        super();
+
+        this.variant = variant;
+        this.adjustment = adjustment;
+        this.version = base.version;
+        this.minYear = base.minYear;
+        this.maxYear = base.maxYear;
+        this.minUTC = base.minUTC;
+        this.maxUTC = base.maxUTC;
+        this.lengthOfMonth = base.lengthOfMonth;
+        this.firstOfMonth = base.firstOfMonth;
+
+    }
+
     //~ Methoden ----------------------------------------------------------
 
+    /**
+     * <p>Derives an adjusted variant which shares the underlying month data with this instance. </p>
+     *
+     * @param   ha      day adjustment relative to the base variant of this instance
+     * @return  calendar system for the adjusted variant
+     * @throws  IllegalArgumentException if this instance is already adjusted or belongs to another base variant
+     * @since   5.8
+     */
+    AstronomicalHijriData withAdjustment(HijriAdjustment ha) {
+
+        if (this.adjustment != 0) {
+            throw new IllegalArgumentException("Base variant expected: " + this.variant);
+        } else if (!ha.getBaseVariant().equals(this.variant)) {
+            throw new IllegalArgumentException("Different base variant: " + ha.getVariant());
+        } else if (ha.getValue() == 0) {
+            return this;
+        }
+
+        return new AstronomicalHijriData(this, ha.getVariant(), ha.getValue());
+
+    }
+
     @Override
     public HijriCalendar transform(long utcDays) {
 
@@ -1386,7 +1386,9 @@ public final class HijriCalendar
     /**
      * <p>Registers a regional variant of the Hijri calendar. </p>
      *
-     * <p>Repeated calls with the same variant will effectively update the existing registered variant. </p>
+     * <p>Repeated calls with the same variant will effectively update the existing registered variant.
+     * Adjusted forms of the registered variant (like &quot;islamic-xyz:+1&quot;) share its data and will
+     * follow such an update, too. </p>
      *
      * @param   hijriData   interface for regional Hijri variant
      * @throws  IllegalStateException if the initialization of Hijri data fails
@@ -1397,7 +1399,9 @@ public final class HijriCalendar
      * <p>Registriert eine regionale Variante des Hijri-Kalenders. </p>
      *
      * <p>Wiederholte Aufrufe dieser Methode mit derselben Variante werden effektiv die vorhandene
-     * registrierte Variante aktualisieren. </p>
+     * registrierte Variante aktualisieren. Angepasste Formen der registrierten Variante (wie
+     * &quot;islamic-xyz:+1&quot;) teilen sich deren Daten und folgen einer solchen Aktualisierung
+     * ebenfalls. </p>
      *
      * @param   hijriData   interface for regional Hijri variant
      * @throws  IllegalStateException if the initialization of Hijri data fails
@@ -1412,6 +1416,8 @@ public final class HijriCalendar
         try {
             EraYearMonthDaySystem<HijriCalendar> calsys = new AstronomicalHijriData(hijriData);
             CALSYS.put(variant, calsys);
+            String prefix = variant + ":";
+            CALSYS.keySet().removeIf(key -> key.startsWith(prefix)); // angepasste Varianten neu ableiten
         } catch (RuntimeException re) {
             throw new IllegalArgumentException("Invalid Hijri data.", re);
         }
@@ -1698,10 +1704,19 @@ public final class HijriCalendar
                     }
 
                     if (calsys == null) {
-                        try {
-                            calsys = new AstronomicalHijriData(variant);
-                        } catch (ChronoException | IOException ex) {
-                            return null;
+                        if (ha.getValue() == 0) {
+                            try {
+                                calsys = new AstronomicalHijriData(variant);
+                            } catch (ChronoException | IOException ex) {
+                                return null;
+                            }
+                        } else {
+                            EraYearMonthDaySystem<HijriCalendar> base = this.get(baseVariant);
+                            if (base instanceof AstronomicalHijriData) { // gemeinsame Monatsdaten
+                                calsys = AstronomicalHijriData.class.cast(base).withAdjustment(ha);
+                            } else {
+                                return null;
+                            }
                         }
                     }
                 }
@@ -33,6 +33,10 @@ import net.time4j.format.Attributes;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 
 /**
  * <p>Enumeration of different calculation methods for the Persian calendar. </p>
@@ -377,9 +381,7 @@ public enum PersianAlgorithm {
             if (pYear < 1 || pYear > this.getMaxPersianYear()) {
                 throw new IllegalArgumentException("Out of range: " + pYear);
             }
-            PersianCalendar nextYear = new PersianCalendar(pYear + 1, 1, 1);
-            PersianCalendar thisYear = new PersianCalendar(pYear, 1, 1);
-            return (this.transform(nextYear, offset) - this.transform(thisYear, offset) == 366L);
+            return (vernalEquinox(pYear + 1, offset) - vernalEquinox(pYear, offset) == 366L);
         }
         @Override
         PersianCalendar transform(
@@ -394,12 +396,10 @@ public enum PersianAlgorithm {
             if (date.getMonth() < 3) {
                 pyear--; // optimization
             }
-            PlainDate equinox = vernalEquinox(pyear, offset);
-            long delta = CalendarUnit.DAYS.between(equinox, date);
+            long delta = utcDays - vernalEquinox(pyear, offset);
             while (delta < 0) {
                 pyear--;
-                equinox = vernalEquinox(pyear, offset);
-                delta = CalendarUnit.DAYS.between(equinox, date);
+                delta = utcDays - vernalEquinox(pyear, offset);
             }
             int pmonth = 1;
             while (pmonth < 12) {
@@ -421,11 +421,37 @@ public enum PersianAlgorithm {
         ) {
             int pyear = date.getYear();
             int pmonth = date.getMonth().getValue();
-            long utcDays = vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+            long utcDays = vernalEquinox(pyear, offset);
             utcDays += ((pmonth) - 1) * 31 - ((pmonth / 7) * (pmonth - 7)) + date.getDayOfMonth() - 1;
             return utcDays;
         }
-        private PlainDate vernalEquinox(
+        private long vernalEquinox(
+            int pyear,
+            ZonalOffset offset
+        ) {
+            int[] table = VERNAL_EQUINOX_DAYS.get(offset);
+            if (table == null) {
+                if (VERNAL_EQUINOX_DAYS.size() >= MAX_CACHED_OFFSETS) {
+                    return calculateVernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+                }
+                table = new int[this.getMaxPersianYear() + 2];
+                Arrays.fill(table, Integer.MIN_VALUE);
+                int[] old = VERNAL_EQUINOX_DAYS.putIfAbsent(offset, table);
+                if (old != null) {
+                    table = old;
+                }
+            }
+            if ((pyear < 0) || (pyear >= table.length)) {
+                return calculateVernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+            }
+            int utcDays = table[pyear];
+            if (utcDays == Integer.MIN_VALUE) {
+                utcDays = (int) calculateVernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+                table[pyear] = utcDays; // idempotent, ein Wettlauf ist harmlos
+            }
+            return utcDays;
+        }
+        private PlainDate calculateVernalEquinox(
             int pyear,
             ZonalOffset offset
         ) {
@@ -445,6 +471,9 @@ public enum PersianAlgorithm {
     private static final long REFERENCE_ZERO_KHAYYAM = 493363L;
     private static final long START_OF_BIRASHK_CYCLE = -319872L;
 
+    private static final int MAX_CACHED_OFFSETS = 16;
+    private static final ConcurrentMap<ZonalOffset, int[]> VERNAL_EQUINOX_DAYS = new ConcurrentHashMap<>();
+
     private static final AttributeKey<PersianAlgorithm> ATTRIBUTE =
         Attributes.createKey("PERSIAN_ALGORITHM", PersianAlgorithm.class);
 
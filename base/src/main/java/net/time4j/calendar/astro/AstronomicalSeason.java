@@ -27,6 +27,8 @@ import net.time4j.scale.LeapSeconds;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.ZonalOffset;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 
 /**
  * <p>The four astronomical seasons (Spring, Summer, Autumn and Winter). </p>
@@ -86,6 +88,15 @@ public enum AstronomicalSeason {
 	 */
 	WINTER_SOLSTICE;
 
+	private static final int MIN_YEAR = -2000;
+	private static final int MAX_YEAR = 3000;
+
+	//~ Instanzvariablen --------------------------------------------------
+
+	// dichte Tabelle aller bereits berechneten Zeitpunkte, Index: year - MIN_YEAR
+	private final transient AtomicReferenceArray<Moment> moments =
+		new AtomicReferenceArray<>(MAX_YEAR - MIN_YEAR + 1);
+
 	//~ Methoden ----------------------------------------------------------
 
 	/**
@@ -155,6 +166,21 @@ public enum AstronomicalSeason {
 	public Moment inYear(int year) {
 
 		checkYear(year);
+		int index = year - MIN_YEAR;
+		Moment moment = this.moments.get(index);
+
+		if (moment == null) {
+			moment = this.calculate(year);
+			this.moments.set(index, moment); // idempotent, ein Wettlauf ist harmlos
+		}
+
+		return moment;
+
+	}
+
+	// wird nur einmal je Jahr aufgerufen, danach liefert inYear() den gespeicherten Wert
+	private Moment calculate(int year) {
+
 		double tt = (this.jdEphemerisDays(year) - 2441317.5) * 86400.0;
 		boolean ls = LeapSeconds.getInstance().isEnabled();
 
@@ -264,7 +290,7 @@ public enum AstronomicalSeason {
 
 	private static void checkYear(int year) {
 
-		if ((year < -2000) || (year > 3000)) {
+		if ((year < MIN_YEAR) || (year > MAX_YEAR)) {
 			throw new IllegalArgumentException("Year out of supported range: -2000 <= " + year + " <= +3000");
 		}
 
@@ -27,6 +27,7 @@ import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.engine.CalendarDate;
+import net.time4j.engine.EpochDays;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
@@ -34,6 +35,9 @@ import net.time4j.tz.Timezone;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -348,23 +352,103 @@ public final class LunarTime
      */
     public Moonlight on(CalendarDate date) {
 
-        // initialization
         PlainDate d = SolarTime.toGregorian(date);
         Timezone tz = Timezone.of(this.observerZoneID);
-        Moment start =
-            ((tz.getHistory() == null)
+        Moment start = this.startOfDay(d, tz);
+        double mjd0 = JulianDay.ofMeanSolarTime(start).getMJD();
+        return this.on(d, tz, start, new Ephemeris(mjd0, mjd0 + 26.0 / 24));
+
+    }
+
+    /**
+     * <p>Determines moonrise and moonset for every calendar date from start to end (inclusive). </p>
+     *
+     * <p>This method is faster than calling {@link #on(CalendarDate)} for every single day because
+     * it resolves the timezone only once and calculates the lunar positions for the whole range
+     * in one series of six-hour-steps which are shared by all days. The results are identical
+     * to those of {@code on(CalendarDate)}. </p>
+     *
+     * @param   start   first calendar date
+     * @param   end     last calendar date (inclusive)
+     * @return  unmodifiable list of data with moonrise and moonset for every day in ascending order
+     * @throws  IllegalArgumentException if start is after end or any date is out of supported range
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Daten von Mondaufgang und Monduntergang f&uuml;r jedes Kalenderdatum vom Start
+     * bis zum Ende (inklusive). </p>
+     *
+     * <p>Diese Methode ist schneller als der Aufruf von {@link #on(CalendarDate)} f&uuml;r jeden einzelnen
+     * Tag, weil sie die Zeitzone nur einmal bestimmt und die Mondpositionen f&uuml;r den ganzen Bereich
+     * in einer Serie von Sechs-Stunden-Schritten berechnet, die alle Tage gemeinsam nutzen. Die Ergebnisse
+     * sind mit denen von {@code on(CalendarDate)} identisch. </p>
+     *
+     * @param   start   first calendar date
+     * @param   end     last calendar date (inclusive)
+     * @return  unmodifiable list of data with moonrise and moonset for every day in ascending order
+     * @throws  IllegalArgumentException if start is after end or any date is out of supported range
+     * @since   5.8
+     */
+    public List<Moonlight> on(
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start after end: " + start + "/" + end);
+        }
+
+        Timezone tz = Timezone.of(this.observerZoneID);
+        int count = (int) (CalendarUnit.DAYS.between(start, end) + 1);
+        List<Moonlight> list = new ArrayList<>(count);
+        PlainDate d = start;
+        Moment startOfDay = this.startOfDay(d, tz);
+        Moment endOfRange = this.startOfDay(end.plus(1, CalendarUnit.DAYS), tz);
+        Ephemeris ephemeris =
+            new Ephemeris(
+                JulianDay.ofMeanSolarTime(startOfDay).getMJD(),
+                JulianDay.ofMeanSolarTime(endOfRange).getMJD() + 3.0 / 24); // letzter Tag mit mindestens 23 Stunden
+
+        for (int i = 0; i < count; i++) {
+            Moonlight moonlight = this.on(d, tz, startOfDay, ephemeris);
+            list.add(moonlight);
+            d = d.plus(1, CalendarUnit.DAYS);
+            startOfDay = moonlight.endOfDay;
+        }
+
+        return Collections.unmodifiableList(list);
+
+    }
+
+    private Moment startOfDay(
+        PlainDate d,
+        Timezone tz
+    ) {
+
+        return (
+            (tz.getHistory() == null)
                 ? d.at(PlainTime.midnightAtStartOfDay()).in(tz)
                 : d.atFirstMoment(this.observerZoneID));
 
+    }
+
+    private Moonlight on(
+        PlainDate d,
+        Timezone tz,
+        Moment start,
+        Ephemeris ephemeris
+    ) {
+
+        // initialization
+        Moment end = this.startOfDay(d.plus(1, CalendarUnit.DAYS), tz);
         double mjd0 = JulianDay.ofMeanSolarTime(start).getMJD();
         double longitudeRad = Math.toRadians(this.longitude);
         double cosLatitude = Math.cos(Math.toRadians(this.latitude));
         double sinLatitude = Math.sin(Math.toRadians(this.latitude));
         double geodeticAngle = StdSolarCalculator.TIME4J.getGeodeticAngle(this.latitude, this.altitude);
         double refraction = AstroUtils.refractionFactorOfStdAtmosphere(this.altitude) * SolarTime.STD_REFRACTION / 60;
-        double deltaT = TimeScale.deltaT(d);
         double hour = 1.0;
-        double y_minus = sinAlt(mjd0, 0.0, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction, deltaT);
+        double y_minus = ephemeris.sinAlt(mjd0, 0.0, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction);
         double[] result = new double[4];
 
         // declaration of result data
@@ -377,9 +461,9 @@ public final class LunarTime
         // loop over 2-hour-search-intervals applying quadratic interpolation
         do {
             double y_0 =
-                sinAlt(mjd0, hour, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction, deltaT);
+                ephemeris.sinAlt(mjd0, hour, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction);
             double y_plus =
-                sinAlt(mjd0, hour + 1, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction, deltaT);
+                ephemeris.sinAlt(mjd0, hour + 1, longitudeRad, cosLatitude, sinLatitude, geodeticAngle, refraction);
             int count =
                 interpolate(y_minus, y_0, y_plus, result);
             if (count == 1) {
@@ -428,7 +512,7 @@ public final class LunarTime
             }
         }
 
-        return new Moonlight(d, this.observerZoneID, rising, setting, above);
+        return new Moonlight(this.observerZoneID, start, end, rising, setting, above);
 
     }
 
@@ -448,36 +532,6 @@ public final class LunarTime
 
     }
 
-    // sinus of moon altitude above or below horizon
-    private static double sinAlt(
-        double mjd0, // earliest moment of calendar date (usually midnight)
-        double hour,
-        double longitudeRad,
-        double cosLatitude,
-        double sinLatitude,
-        double geodeticAngle,
-        double refraction,
-        double deltaT
-    ) {
-
-        double mjd = mjd0 + hour / 24.0; // UT
-        double jct = toJulianCenturies(mjd + (deltaT / 86400));
-        double[] data = MoonPosition.calculateMeeus47(jct);
-        double nutationCorr = data[0] * Math.cos(Math.toRadians(data[1])); // for apparent sidereal time
-        double tau = AstroUtils.gmst(mjd) + Math.toRadians(nutationCorr) + longitudeRad - Math.toRadians(data[2]);
-        double decl = Math.toRadians(data[3]);
-
-        // transformation to horizontal coordinate system
-        double sinAltitude = sinLatitude * Math.sin(decl) + cosLatitude * Math.cos(decl) * Math.cos(tau);
-
-        // about impact of horizontal parallax on moon diameter see also Meeus (chapter 15)
-        double correction = 0.7275 * getHorizontalParallax(data[4]) - refraction - geodeticAngle;
-
-        // we search for the roots of this function
-        return sinAltitude - Math.sin(Math.toRadians(correction));
-
-    }
-
     private static double toJulianCenturies(double mjd) {
 
         return (mjd - 51544.5) / 36525;
@@ -877,8 +931,9 @@ public final class LunarTime
         //~ Konstruktoren -------------------------------------------------
 
         private Moonlight(
-            PlainDate date,
             TZID observerZoneID,
+            Moment startOfDay,
+            Moment endOfDay,
             Moment moonrise,
             Moment moonset,
             boolean above
@@ -886,17 +941,8 @@ public final class LunarTime
             super();
 
             this.observerZoneID = observerZoneID;
-            Timezone tz = Timezone.of(observerZoneID);
-            PlainDate next = date.plus(1, CalendarUnit.DAYS);
-
-            if (tz.getHistory() == null) {
-                this.startOfDay = date.atStartOfDay().in(tz);
-                this.endOfDay = next.atStartOfDay().in(tz);
-            } else {
-                this.startOfDay = date.atFirstMoment(observerZoneID);
-                this.endOfDay = next.atFirstMoment(observerZoneID);
-            }
-
+            this.startOfDay = startOfDay;
+            this.endOfDay = endOfDay;
             this.moonrise = moonrise;
             this.moonset = moonset;
             this.above = above;
@@ -1209,4 +1255,143 @@ public final class LunarTime
 
     }
 
+
+    // Mondpositionen in Sechs-Stunden-Schritten der Weltzeit, bei Bedarf berechnet und kubisch interpoliert
+    private static class Ephemeris {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int STEPS_PER_DAY = 4;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long first; // globaler Index des ersten Rasterpunkts (Schritte seit MJD 0)
+        private final double[] ra;
+        private final double[] decl;
+        private final double[] nutationCorr;
+        private final double[] parallax;
+        private final boolean[] calculated;
+        private long day = Long.MIN_VALUE;
+        private double deltaT = Double.NaN;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Ephemeris(
+            double mjdStart,
+            double mjdEnd
+        ) {
+            super();
+
+            this.first = (long) Math.floor(mjdStart * STEPS_PER_DAY) - 1;
+            int n = (int) ((long) Math.floor(mjdEnd * STEPS_PER_DAY) + 3 - this.first);
+            this.ra = new double[n];
+            this.decl = new double[n];
+            this.nutationCorr = new double[n];
+            this.parallax = new double[n];
+            this.calculated = new boolean[n];
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // sinus of moon altitude above or below horizon
+        double sinAlt(
+            double mjd0, // earliest moment of calendar date (usually midnight)
+            double hour,
+            double longitudeRad,
+            double cosLatitude,
+            double sinLatitude,
+            double geodeticAngle,
+            double refraction
+        ) {
+
+            double mjd = mjd0 + hour / 24.0; // UT
+            double x = mjd * STEPS_PER_DAY - this.first; // exakt, hängt also nicht vom Bereich ab
+            int i = (int) Math.floor(x);
+            double p = x - i;
+
+            for (int j = i - 1; j <= i + 2; j++) {
+                if (!this.calculated[j]) {
+                    this.calculate(j);
+                }
+            }
+
+            // Lagrange-Koeffizienten für die Stützstellen -1, 0, 1 und 2
+            double w0 = -p * (p - 1) * (p - 2) / 6;
+            double w1 = (p + 1) * (p - 1) * (p - 2) / 2;
+            double w2 = -(p + 1) * p * (p - 2) / 2;
+            double w3 = (p + 1) * p * (p - 1) / 6;
+
+            double ra0 = this.ra[i - 1];
+            double ra = (
+                w0 * ra0
+                + w1 * unwrap(this.ra[i], ra0)
+                + w2 * unwrap(this.ra[i + 1], ra0)
+                + w3 * unwrap(this.ra[i + 2], ra0));
+            double nutationCorr = interpolate(this.nutationCorr, i, w0, w1, w2, w3);
+            double tau = AstroUtils.gmst(mjd) + Math.toRadians(nutationCorr) + longitudeRad - Math.toRadians(ra);
+            double decl = Math.toRadians(interpolate(this.decl, i, w0, w1, w2, w3));
+
+            // transformation to horizontal coordinate system
+            double sinAltitude = sinLatitude * Math.sin(decl) + cosLatitude * Math.cos(decl) * Math.cos(tau);
+
+            // about impact of horizontal parallax on moon diameter see also Meeus (chapter 15)
+            double correction = 0.7275 * interpolate(this.parallax, i, w0, w1, w2, w3) - refraction - geodeticAngle;
+
+            // we search for the roots of this function
+            return sinAltitude - Math.sin(Math.toRadians(correction));
+
+        }
+
+        private void calculate(int j) {
+
+            long k = this.first + j;
+            long d = Math.floorDiv(k, STEPS_PER_DAY);
+
+            if (d != this.day) {
+                this.deltaT = TimeScale.deltaT(PlainDate.of(d, EpochDays.MODIFIED_JULIAN_DATE));
+                this.day = d;
+            }
+
+            double mjd = ((double) k) / STEPS_PER_DAY; // UT
+            double[] data = MoonPosition.calculateMeeus47(toJulianCenturies(mjd + (this.deltaT / 86400)));
+            this.nutationCorr[j] = data[0] * Math.cos(Math.toRadians(data[1])); // for apparent sidereal time
+            this.ra[j] = data[2];
+            this.decl[j] = data[3];
+            this.parallax[j] = getHorizontalParallax(data[4]);
+            this.calculated[j] = true;
+
+        }
+
+        // Rektaszension ohne Sprung bei 360 Grad relativ zum Referenzwert
+        private static double unwrap(
+            double value,
+            double reference
+        ) {
+
+            if (value - reference > 180.0) {
+                return value - 360.0;
+            } else if (reference - value > 180.0) {
+                return value + 360.0;
+            } else {
+                return value;
+            }
+
+        }
+
+        private static double interpolate(
+            double[] values,
+            int i,
+            double w0,
+            double w1,
+            double w2,
+            double w3
+        ) {
+
+            return w0 * values[i - 1] + w1 * values[i] + w2 * values[i + 1] + w3 * values[i + 2];
+
+        }
+
+    }
+
 }
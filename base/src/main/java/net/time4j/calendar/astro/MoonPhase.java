@@ -24,8 +24,10 @@ package net.time4j.calendar.astro;
 import net.time4j.Moment;
 import net.time4j.PlainTimestamp;
 import net.time4j.base.MathUtils;
+import net.time4j.scale.TimeScale;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 
 /**
@@ -80,6 +82,12 @@ public enum MoonPhase {
 	private static final double MEAN_SYNODIC_MONTH = 29.530588861;
 	private static final Moment ZERO_REF = PlainTimestamp.of(2000, 1, 6, 18, 13, 42).atUTC(); // NEW_MOON.atLunation(0)
 
+	// Cache-Eintrag: POSIX-Sekunden (Bits 17-63), Schaltsekunde (Bit 16), Lunation - minLunation() (Bits 0-15)
+	private static final int CACHE_SIZE = 256; // Zweierpotenz
+	private static final int LUNATION_MASK = 0xFFFF;
+	private static final long LEAP_FLAG = 0x10000L;
+	private static final int POSIX_SHIFT = 17;
+
 	private static final int[] W_NEW_FULL = {
 		0, 1, 0, 0, 1, 1, 2, 0, 0, 1, 0, 1, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0
 	};
@@ -124,11 +132,13 @@ public enum MoonPhase {
 	//~ Instanzvariablen --------------------------------------------------
 
 	private transient final int phase;
+	private transient final AtomicLongArray lunations; // direkt adressiert über den Lunationsindex, 0 = leer
 
 	//~ Konstruktoren -----------------------------------------------------
 
 	private MoonPhase(int phase) {
 		this.phase = phase;
+		this.lunations = new AtomicLongArray(CACHE_SIZE);
 	}
 
 	//~ Methoden ----------------------------------------------------------
@@ -150,19 +160,19 @@ public enum MoonPhase {
 	public Moment after(Moment moment) {
 
 		int estimation = this.getEstimatedLunations(moment);
-		Moment m = this.atLunation(estimation);
+		long m = this.lunation(estimation);
 		int n = estimation;
 
-		while (!m.isAfter(moment)) {
+		while (compare(m, moment) <= 0) {
 			n++;
-			m = this.atLunation(n);
+			m = this.lunation(n);
 		}
 
 		if (n <= estimation) {
 			while (true) {
 				n--;
-				Moment test = this.atLunation(n);
-				if (test.isAfter(moment)) {
+				long test = this.lunation(n);
+				if (compare(test, moment) > 0) {
 					m = test;
 				} else {
 					break;
@@ -170,7 +180,7 @@ public enum MoonPhase {
 			}
 		}
 
-		return m;
+		return this.toMoment(m);
 
 	}
 
@@ -193,19 +203,19 @@ public enum MoonPhase {
 	public Moment atOrAfter(Moment moment) {
 
 		int estimation = this.getEstimatedLunations(moment);
-		Moment m = this.atLunation(estimation);
+		long m = this.lunation(estimation);
 		int n = estimation;
 
-		while (m.isBefore(moment)) {
+		while (compare(m, moment) < 0) {
 			n++;
-			m = this.atLunation(n);
+			m = this.lunation(n);
 		}
 
 		if (n <= estimation) {
 			while (true) {
 				n--;
-				Moment test = this.atLunation(n);
-				if (!test.isBefore(moment)) {
+				long test = this.lunation(n);
+				if (compare(test, moment) >= 0) {
 					m = test;
 				} else {
 					break;
@@ -213,7 +223,7 @@ public enum MoonPhase {
 			}
 		}
 
-		return m;
+		return this.toMoment(m);
 
 	}
 
@@ -234,19 +244,19 @@ public enum MoonPhase {
 	public Moment before(Moment moment) {
 
 		int estimation = this.getEstimatedLunations(moment);
-		Moment m = this.atLunation(estimation);
+		long m = this.lunation(estimation);
 		int n = estimation;
 
-		while (!m.isBefore(moment)) {
+		while (compare(m, moment) >= 0) {
 			n--;
-			m = this.atLunation(n);
+			m = this.lunation(n);
 		}
 
 		if (n >= estimation) {
-			while (m.plus(29, TimeUnit.DAYS).isBefore(moment)) { // optimization
+			while (compare((m >> POSIX_SHIFT) + 29 * 86400L, false, moment) < 0) { // optimization
 				n++;
-				Moment test = this.atLunation(n);
-				if (test.isBefore(moment)) {
+				long test = this.lunation(n);
+				if (compare(test, moment) < 0) {
 					m = test;
 				} else {
 					break;
@@ -254,7 +264,7 @@ public enum MoonPhase {
 			}
 		}
 
-		return m;
+		return this.toMoment(m);
 
 	}
 
@@ -328,6 +338,109 @@ public enum MoonPhase {
 	 */
 	public Moment atLunation(int n) {
 
+		int index = n - minLunation();
+
+		if ((index < 0) || (index > LUNATION_MASK)) {
+			return this.calculate(n);
+		}
+
+		return this.toMoment(this.lunation(n));
+
+	}
+
+	/**
+	 * <p>Obtains the time of n-th lunation in POSIX seconds (primitive variant of {@link #atLunation(int)}). </p>
+	 *
+	 * <p>A positive leap second is represented by its preceding POSIX second. </p>
+	 *
+	 * @param 	n	count of lunations (distance between two consecutive moon phases of same type)
+	 * @return	POSIX seconds of this phase after given lunations
+	 * @throws  IllegalArgumentException if the associated year is not in the range {@code -2000 <= year <= 3000}
+	 * @since 	5.8
+	 */
+	long atLunationInPosixSeconds(int n) {
+
+		int index = n - minLunation();
+
+		if ((index < 0) || (index > LUNATION_MASK)) {
+			return this.calculate(n).getPosixTime();
+		}
+
+		return (this.lunation(n) >> POSIX_SHIFT);
+
+	}
+
+	// liefert einen gepackten Cache-Eintrag
+	private long lunation(int n) {
+
+		int index = n - minLunation();
+
+		if ((index < 0) || (index > LUNATION_MASK)) {
+			return (this.calculate(n).getPosixTime() << POSIX_SHIFT); // außerhalb des Bereichs, ohne Cache
+		}
+
+		int slot = index & (CACHE_SIZE - 1);
+		long entry = this.lunations.get(slot);
+
+		if ((entry == 0) || ((entry & LUNATION_MASK) != index)) {
+			Moment m = this.calculate(n);
+			entry = (m.getPosixTime() << POSIX_SHIFT) | index;
+			if (m.isLeapSecond()) {
+				entry |= LEAP_FLAG;
+			}
+			this.lunations.set(slot, entry); // idempotent, ein Wettlauf ist harmlos
+		}
+
+		return entry;
+
+	}
+
+	private Moment toMoment(long entry) {
+
+		if ((entry & LEAP_FLAG) != 0) {
+			return this.calculate((int) (entry & LUNATION_MASK) + minLunation()); // sehr selten
+		}
+
+		return Moment.of(entry >> POSIX_SHIFT, TimeScale.POSIX);
+
+	}
+
+	private static int compare(
+		long entry,
+		Moment moment
+	) {
+
+		return compare(entry >> POSIX_SHIFT, (entry & LEAP_FLAG) != 0, moment);
+
+	}
+
+	// entspricht Moment.compareTo() für ganze Sekunden
+	private static int compare(
+		long posix,
+		boolean leap,
+		Moment moment
+	) {
+
+		long other = moment.getPosixTime();
+
+		if (posix < other) {
+			return -1;
+		} else if (posix > other) {
+			return 1;
+		}
+
+		boolean otherLeap = moment.isLeapSecond();
+
+		if (leap != otherLeap) {
+			return (leap ? 1 : -1);
+		}
+
+		return ((moment.getNanosecond() > 0) ? -1 : 0);
+
+	}
+
+	private Moment calculate(int n) {
+
 		// Meeus (Chapter 49)
 		double k = n + this.phase / 360.0;
 		double jct = k / 1236.85;
@@ -0,0 +1,657 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SolarEvents.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar.astro;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarDate;
+import net.time4j.engine.ChronoFunction;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Calculates sunrise or sunset (or a twilight event) for many locations and all days of a date range
+ * in one call. </p>
+ *
+ * <p>The results are stored as primitive arrays of POSIX epoch seconds, indexed first by the location
+ * and then by the day relative to the start date. Days without the event (midnight sun or polar night)
+ * are marked by {@link #ABSENT}. Example: </p>
+ *
+ * <pre>
+ *     SolarEvents events = SolarEvents.of(SolarTime.ofLocation(53.55, 10.0), SolarTime.ofLocation(48.14, 11.58));
+ *     long[][] sunrises = events.sunrise(PlainDate.of(2020, 1, 1), PlainDate.of(2020, 12, 31));
+ *     Moment sunriseInMunichOnFirstFebruary = Moment.of(sunrises[1][31], TimeScale.POSIX);
+ * </pre>
+ *
+ * <p>For locations using the calculators {@link StdSolarCalculator#NOAA NOAA} (default) or
+ * {@link StdSolarCalculator#TIME4J TIME4J}, the declination and the equation of time of the sun
+ * are only calculated once per day at midnight (UT) and then shared by all locations. The
+ * intermediate values are obtained by cubic interpolation whose deviation is far below one
+ * millisecond, so the results agree with the corresponding {@code ChronoFunction} of {@link SolarTime}
+ * (apart from very rare rounding cases at the boundary of a second).
+ * Other calculators are evaluated day by day via these functions. Furthermore, the batch offers
+ * a compact primitive result without any {@code Optional}- or {@code Moment}-objects and
+ * can distribute the locations over the worker threads of a {@code ForkJoinPool}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Berechnet Sonnenaufgang oder Sonnenuntergang (oder ein D&auml;mmerungsereignis) f&uuml;r viele
+ * Orte und alle Tage eines Datumsbereichs in einem Aufruf. </p>
+ *
+ * <p>Die Ergebnisse werden als primitive Arrays von POSIX-Sekunden gespeichert, zuerst nach dem Ort
+ * und dann nach dem Tag relativ zum Startdatum indiziert. Tage ohne das Ereignis (Mitternachtssonne oder
+ * Polarnacht) werden mit {@link #ABSENT} markiert. Beispiel: </p>
+ *
+ * <pre>
+ *     SolarEvents events = SolarEvents.of(SolarTime.ofLocation(53.55, 10.0), SolarTime.ofLocation(48.14, 11.58));
+ *     long[][] sunrises = events.sunrise(PlainDate.of(2020, 1, 1), PlainDate.of(2020, 12, 31));
+ *     Moment sunriseInMunichOnFirstFebruary = Moment.of(sunrises[1][31], TimeScale.POSIX);
+ * </pre>
+ *
+ * <p>F&uuml;r Orte mit den Berechnungsverfahren {@link StdSolarCalculator#NOAA NOAA} (Standard) oder
+ * {@link StdSolarCalculator#TIME4J TIME4J} werden die Deklination und die Zeitgleichung der Sonne
+ * nur einmal pro Tag um Mitternacht (UT) berechnet und dann von allen Orten gemeinsam genutzt. Die
+ * Zwischenwerte werden durch kubische Interpolation ermittelt, deren Abweichung weit unter einer
+ * Millisekunde liegt, so da&szlig; die Ergebnisse mit denen der entsprechenden {@code ChronoFunction}
+ * von {@link SolarTime} &uuml;bereinstimmen (abgesehen von sehr seltenen Rundungsf&auml;llen an einer
+ * Sekundengrenze). Andere Berechnungsverfahren werden Tag f&uuml;r Tag mit Hilfe
+ * dieser Funktionen ausgewertet. Au&szlig;erdem bietet die Stapelverarbeitung ein kompaktes primitives
+ * Ergebnis ohne {@code Optional}- oder {@code Moment}-Objekte und kann die Orte auf die Arbeits-Threads
+ * eines {@code ForkJoinPool} verteilen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {immutable}
+ */
+public final class SolarEvents {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Marks the absence of an event on a given day.
+     */
+    /*[deutsch]
+     * Markiert das Fehlen eines Ereignisses an einem gegebenen Tag.
+     */
+    public static final long ABSENT = Long.MIN_VALUE;
+
+    private static final int THRESHOLD = 4; // Anzahl der Orte je Teilaufgabe
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final List<SolarTime> locations;
+    private final Twilight twilight;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SolarEvents(
+        List<SolarTime> locations,
+        Twilight twilight
+    ) {
+        super();
+
+        this.locations = locations;
+        this.twilight = twilight;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a batch for given locations. </p>
+     *
+     * @param   locations   the geographical locations of the observers
+     * @return  new instance
+     * @throws  IllegalArgumentException if no location is given
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Stapelverarbeitung f&uuml;r die angegebenen Orte. </p>
+     *
+     * @param   locations   the geographical locations of the observers
+     * @return  new instance
+     * @throws  IllegalArgumentException if no location is given
+     */
+    public static SolarEvents of(SolarTime... locations) {
+
+        return SolarEvents.of(Arrays.asList(locations));
+
+    }
+
+    /**
+     * <p>Creates a batch for given locations. </p>
+     *
+     * @param   locations   the geographical locations of the observers
+     * @return  new instance
+     * @throws  IllegalArgumentException if no location is given
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Stapelverarbeitung f&uuml;r die angegebenen Orte. </p>
+     *
+     * @param   locations   the geographical locations of the observers
+     * @return  new instance
+     * @throws  IllegalArgumentException if no location is given
+     */
+    public static SolarEvents of(Collection<SolarTime> locations) {
+
+        List<SolarTime> list = new ArrayList<>(locations);
+
+        if (list.isEmpty()) {
+            throw new IllegalArgumentException("Missing locations.");
+        }
+
+        for (SolarTime location : list) {
+            if (location == null) {
+                throw new NullPointerException("Missing location.");
+            }
+        }
+
+        return new SolarEvents(Collections.unmodifiableList(list), null);
+
+    }
+
+    /**
+     * <p>Yields a copy which calculates given twilight instead of sunrise or sunset. </p>
+     *
+     * @param   twilight    relevant definition of twilight
+     * @return  changed copy
+     * @see     SolarTime#sunrise(Twilight)
+     * @see     SolarTime#sunset(Twilight)
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie, die die angegebene D&auml;mmerung statt Sonnenaufgang oder -untergang
+     * berechnet. </p>
+     *
+     * @param   twilight    relevant definition of twilight
+     * @return  changed copy
+     * @see     SolarTime#sunrise(Twilight)
+     * @see     SolarTime#sunset(Twilight)
+     */
+    public SolarEvents withTwilight(Twilight twilight) {
+
+        if (twilight == null) {
+            throw new NullPointerException("Missing twilight.");
+        }
+
+        return new SolarEvents(this.locations, twilight);
+
+    }
+
+    /**
+     * <p>Obtains the locations of this batch. </p>
+     *
+     * @return  unmodifiable list of locations in the order of the result arrays
+     */
+    /*[deutsch]
+     * <p>Liefert die Orte dieser Stapelverarbeitung. </p>
+     *
+     * @return  unmodifiable list of locations in the order of the result arrays
+     */
+    public List<SolarTime> getLocations() {
+
+        return this.locations;
+
+    }
+
+    /**
+     * <p>Calculates sunrise (or the twilight at sunrise) for all locations and days
+     * from start to end (inclusive) in the current thread. </p>
+     *
+     * @param   start       first calendar date
+     * @param   end         last calendar date (inclusive)
+     * @return  POSIX epoch seconds indexed by location and day, {@link #ABSENT} if there is no event
+     * @throws  IllegalArgumentException if start is after end, if there are more than
+     *          {@code Integer.MAX_VALUE} days or if any date is out of supported range
+     * @see     SolarTime#sunrise()
+     */
+    /*[deutsch]
+     * <p>Berechnet den Sonnenaufgang (oder die D&auml;mmerung zum Sonnenaufgang) f&uuml;r alle Orte
+     * und Tage vom Start bis zum Ende (inklusive) im aktuellen Thread. </p>
+     *
+     * @param   start       first calendar date
+     * @param   end         last calendar date (inclusive)
+     * @return  POSIX epoch seconds indexed by location and day, {@link #ABSENT} if there is no event
+     * @throws  IllegalArgumentException if start is after end, if there are more than
+     *          {@code Integer.MAX_VALUE} days or if any date is out of supported range
+     * @see     SolarTime#sunrise()
+     */
+    public long[][] sunrise(
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        return this.calculate(true, start, end, null);
+
+    }
+
+    /**
+     * <p>Calculates sunrise (or the twilight at sunrise) for all locations and days
+     * from start to end (inclusive) using given pool of worker threads. </p>
+     *
+     * @param   start       first calendar date
+     * @param   end         last calendar date (inclusive)
+     * @param   pool        pool of worker threads which will share the locations
+     * @return  POSIX epoch seconds indexed by location and day, {@link #ABSENT} if there is no event
+     * @throws  IllegalArgumentException if start is after end, if there are more than
+     *          {@code Integer.MAX_VALUE} days or if any date is out of supported range
+     * @see     SolarTime#sunrise()
+     */
+    /*[deutsch]
+     * <p>Berechnet den Sonnenaufgang (oder die D&auml;mmerung zum Sonnenaufgang) f&uuml;r alle Orte
+     * und Tage vom Start bis zum Ende (inklusive) mit Hilfe des angegebenen Thread-Pools. </p>
+     *
+     * @param   start       first calendar date
+     * @param   end         last calendar date (inclusive)
+     * @param   pool        pool of worker threads which will share the locations
+     * @return  POSIX epoch seconds indexed by location and day, {@link #ABSENT} if there is no event
+     * @throws  IllegalArgumentException if start is after end, if there are more than
+     *          {@code Integer.MAX_VALUE} days or if any date is out of supported range
+     * @see     SolarTime#sunrise()
+     */
+    public long[][] sunrise(
+        PlainDate start,
+        PlainDate end,
+        ForkJoinPool pool
+    ) {
+
+        if (pool == null) {
+            throw new NullPointerException("Missing pool.");
+        }
+
+        return this.calculate(true, start, end, pool);
+
+    }
+
+    /**
+     * <p>Calculates sunset (or the twilight at sunset) for all locations and days
+     * from start to end (inclusive) in the current thread. </p>
+     *
+     * @param   start       first calendar date
+     * @param   end         last calendar date (inclusive)
+     * @return  POSIX epoch seconds indexed by location and day, {@link #ABSENT} if there is no event
+     * @throws  IllegalArgumentException if start is after end, if there are more than
+     *          {@code Integer.MAX_VALUE} days or if any date is out of supported range
+     * @see     SolarTime#sunset()
+     */
+    /*[deutsch]
+     * <p>Berechnet den Sonnenuntergang (oder die D&auml;mmerung zum Sonnenuntergang) f&uuml;r alle Orte
+     * und Tage vom Start bis zum Ende (inklusive) im aktuellen Thread. </p>
+     *
+     * @param   start       first calendar date
+     * @param   end         last calendar date (inclusive)
+     * @return  POSIX epoch seconds indexed by location and day, {@link #ABSENT} if there is no event
+     * @throws  IllegalArgumentException if start is after end, if there are more than
+     *          {@code Integer.MAX_VALUE} days or if any date is out of supported range
+     * @see     SolarTime#sunset()
+     */
+    public long[][] sunset(
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        return this.calculate(false, start, end, null);
+
+    }
+
+    /**
+     * <p>Calculates sunset (or the twilight at sunset) for all locations and days
+     * from start to end (inclusive) using given pool of worker threads. </p>
+     *
+     * @param   start       first calendar date
+     * @param   end         last calendar date (inclusive)
+     * @param   pool        pool of worker threads which will share the locations
+     * @return  POSIX epoch seconds indexed by location and day, {@link #ABSENT} if there is no event
+     * @throws  IllegalArgumentException if start is after end, if there are more than
+     *          {@code Integer.MAX_VALUE} days or if any date is out of supported range
+     * @see     SolarTime#sunset()
+     */
+    /*[deutsch]
+     * <p>Berechnet den Sonnenuntergang (oder die D&auml;mmerung zum Sonnenuntergang) f&uuml;r alle Orte
+     * und Tage vom Start bis zum Ende (inklusive) mit Hilfe des angegebenen Thread-Pools. </p>
+     *
+     * @param   start       first calendar date
+     * @param   end         last calendar date (inclusive)
+     * @param   pool        pool of worker threads which will share the locations
+     * @return  POSIX epoch seconds indexed by location and day, {@link #ABSENT} if there is no event
+     * @throws  IllegalArgumentException if start is after end, if there are more than
+     *          {@code Integer.MAX_VALUE} days or if any date is out of supported range
+     * @see     SolarTime#sunset()
+     */
+    public long[][] sunset(
+        PlainDate start,
+        PlainDate end,
+        ForkJoinPool pool
+    ) {
+
+        if (pool == null) {
+            throw new NullPointerException("Missing pool.");
+        }
+
+        return this.calculate(false, start, end, pool);
+
+    }
+
+    private long[][] calculate(
+        boolean rise,
+        PlainDate start,
+        PlainDate end,
+        ForkJoinPool pool
+    ) {
+
+        long first = start.getDaysSinceEpochUTC();
+        long last = end.getDaysSinceEpochUTC();
+
+        if (first > last) {
+            throw new IllegalArgumentException("Start after end: " + start + "/" + end);
+        }
+
+        long days = last - first + 1;
+
+        if (days > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many days: " + start + "/" + end);
+        }
+
+        int count = (int) days;
+        long[][] results = new long[this.locations.size()][];
+
+        // die vom Ort unabhängigen Sonnendaten nur einmal je Tag und Berechnungsverfahren bestimmen
+        Map<SolarTime.Calculator, DayTerms> terms = new HashMap<>();
+
+        for (SolarTime location : this.locations) {
+            SolarTime.Calculator c = location.getCalculator();
+            if (DayTerms.supports(c) && !terms.containsKey(c)) {
+                terms.put(c, new DayTerms((StdSolarCalculator) c, first, count));
+            }
+        }
+
+        if (pool == null) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = this.calculate(rise, this.locations.get(i), terms, first, count);
+            }
+        } else {
+            pool.invoke(new Task(rise, terms, first, count, results, 0, results.length));
+        }
+
+        return results;
+
+    }
+
+    private long[] calculate(
+        boolean rise,
+        SolarTime location,
+        Map<SolarTime.Calculator, DayTerms> terms,
+        long first,
+        int count
+    ) {
+
+        SolarTime.Calculator c = location.getCalculator();
+        DayTerms dayTerms = terms.get(c);
+        long[] seconds = new long[count];
+
+        if (dayTerms == null) {
+            ChronoFunction<CalendarDate, Optional<Moment>> function;
+
+            if (this.twilight == null) {
+                function = (rise ? location.sunrise() : location.sunset());
+            } else {
+                function = (rise ? location.sunrise(this.twilight) : location.sunset(this.twilight));
+            }
+
+            for (int i = 0; i < count; i++) {
+                Optional<Moment> event = function.apply(PlainDate.of(first + i, EpochDays.UTC));
+                seconds[i] = (event.isPresent() ? event.get().getPosixTime() : ABSENT);
+            }
+        } else {
+            double latitude = location.getLatitude();
+            double zenith = (
+                (this.twilight == null)
+                    ? c.getZenithAngle(latitude, location.getAltitude())
+                    : 90.0 + c.getGeodeticAngle(latitude, location.getAltitude()) + this.twilight.getAngle());
+
+            for (int i = 0; i < count; i++) {
+                seconds[i] = dayTerms.event(rise, i, first + i, latitude, location.getLongitude(), zenith);
+            }
+        }
+
+        return seconds;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private class Task
+        extends RecursiveAction {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long serialVersionUID = 1L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean rise;
+        private final Map<SolarTime.Calculator, DayTerms> terms;
+        private final long first;
+        private final int count;
+        private final long[][] results;
+        private final int from;
+        private final int to;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Task(
+            boolean rise,
+            Map<SolarTime.Calculator, DayTerms> terms,
+            long first,
+            int count,
+            long[][] results,
+            int from,
+            int to
+        ) {
+            super();
+
+            this.rise = rise;
+            this.terms = terms;
+            this.first = first;
+            this.count = count;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected void compute() {
+
+            if (this.to - this.from <= THRESHOLD) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.results[i] =
+                        SolarEvents.this.calculate(
+                            this.rise, SolarEvents.this.locations.get(i), this.terms, this.first, this.count);
+                }
+            } else {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(
+                    new Task(this.rise, this.terms, this.first, this.count, this.results, this.from, mid),
+                    new Task(this.rise, this.terms, this.first, this.count, this.results, mid, this.to));
+            }
+
+        }
+
+    }
+
+    // vom Ort unabhängige Sonnendaten (Deklination und Zeitgleichung) je Tag um 0 Uhr UT
+    private static class DayTerms {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int BEFORE = 2; // Stützstellen vor dem ersten Tag
+        private static final int AFTER = 3; // Stützstellen nach dem letzten Tag
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final StdSolarCalculator calculator;
+        private final double[] declination;
+        private final double[] equationOfTime;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DayTerms(
+            StdSolarCalculator calculator,
+            long first,
+            int count
+        ) {
+            super();
+
+            int n = count + BEFORE + AFTER;
+            this.calculator = calculator;
+            this.declination = new double[n];
+            this.equationOfTime = new double[n];
+
+            for (int i = 0; i < n; i++) {
+                long secs = (first + i - BEFORE) * 86400;
+                TimeScale scale = TimeScale.UT;
+                if (!LeapSeconds.getInstance().isEnabled()) {
+                    secs += (86400 * 730);
+                    scale = TimeScale.POSIX;
+                }
+                double jde = JulianDay.getValue(Moment.of(secs, scale), TimeScale.TT);
+                this.declination[i] = calculator.declination(jde);
+                this.equationOfTime[i] = calculator.equationOfTime(jde);
+            }
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // nur Verfahren, deren Ereignisse allein von Deklination und Zeitgleichung abhängen
+        static boolean supports(SolarTime.Calculator c) {
+            return (c == StdSolarCalculator.NOAA) || (c == StdSolarCalculator.TIME4J);
+        }
+
+        // same algorithm as in StdSolarCalculator (NOAA or TIME4J), but with interpolated solar terms
+        long event(
+            boolean rise,
+            int index,
+            long utcDays,
+            double latitude,
+            double longitude,
+            double zenith
+        ) {
+            // local noon, numerical approximation of equation-of-time in two steps like SolarTime.fromLocalEvent()
+            double elapsed = utcDays * 86400 + 12 * 3600 - longitude * 240;
+            double x = index + (elapsed - utcDays * 86400) / 86400; // days relative to first day
+            double eot = this.interpolate(this.equationOfTime, x);
+            eot = this.interpolate(this.equationOfTime, x - eot / 86400);
+            x -= (eot / 86400);
+
+            double latInRad = Math.toRadians(latitude);
+            double sinLat = Math.sin(latInRad);
+            double cosLat = Math.cos(latInRad);
+            double cosZenith = Math.cos(Math.toRadians(zenith));
+            double h;
+
+            if (this.calculator == StdSolarCalculator.NOAA) {
+                h = this.hourAngle(rise, x, sinLat, cosLat, cosZenith);
+                if (!Double.isNaN(h)) {
+                    h = this.hourAngle(rise, x + h / 86400, sinLat, cosLat, cosZenith);
+                }
+            } else {
+                double oldH;
+                h = 0.0;
+                do {
+                    oldH = h;
+                    h = this.hourAngle(rise, x + oldH / 86400, sinLat, cosLat, cosZenith);
+                } while (!Double.isNaN(h) && (Math.abs(h - oldH) >= 15));
+            }
+
+            if (Double.isNaN(h)) {
+                return ABSENT;
+            }
+
+            long secs = (long) Math.floor(elapsed);
+            int nanos = (int) ((elapsed - secs) * 1_000_000_000);
+            TimeScale scale = TimeScale.UT;
+            if (!LeapSeconds.getInstance().isEnabled()) {
+                secs += (86400 * 730);
+                scale = TimeScale.POSIX;
+            }
+            Moment m = Moment.of(secs, nanos, scale);
+            secs = (long) Math.floor(eot);
+            nanos = (int) ((eot - secs) * 1_000_000_000);
+            m = m.minus(secs, TimeUnit.SECONDS).minus(nanos, TimeUnit.NANOSECONDS);
+            secs = (long) Math.floor(h);
+            nanos = (int) ((h - secs) * 1_000_000_000);
+            m = m.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS);
+            return m.with(Moment.PRECISION, TimeUnit.SECONDS).getPosixTime();
+        }
+
+        private double hourAngle(
+            boolean rise,
+            double x,
+            double sinLat,
+            double cosLat,
+            double cosZenith
+        ) {
+            double decInRad = Math.toRadians(this.interpolate(this.declination, x));
+            double cosH = (cosZenith - (Math.sin(decInRad) * sinLat)) / (Math.cos(decInRad) * cosLat);
+            if ((Double.compare(cosH, 1.0) > 0) || (Double.compare(cosH, -1.0) < 0)) {
+                return Double.NaN; // the sun never rises or sets on this location (on the specified date)
+            }
+            double hourAngle = Math.toDegrees(Math.acos(cosH)) * 240; // in decimal seconds
+            return (rise ? -hourAngle : hourAngle);
+        }
+
+        // cubic Lagrange interpolation between the four nearest daily values, x in range -1 <= x < count + 1
+        private double interpolate(
+            double[] y,
+            double x
+        ) {
+            double f = Math.floor(x);
+            int i = (int) f + BEFORE;
+            double u = x - f;
+            return (
+                -u * (u - 1) * (u - 2) / 6 * y[i - 1]
+                    + (u + 1) * (u - 1) * (u - 2) / 2 * y[i]
+                    - (u + 1) * u * (u - 2) / 2 * y[i + 1]
+                    + (u + 1) * u * (u - 1) / 6 * y[i + 2]);
+        }
+
+    }
+
+}
@@ -21,7 +21,6 @@
 
 package net.time4j.calendar.frenchrev;
 
-import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.base.MathUtils;
@@ -33,6 +32,8 @@ import net.time4j.format.Attributes;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 
+import java.util.Arrays;
+
 
 /**
  * Various calendar algorithm variants for the French revolutionary calendar.
@@ -63,8 +64,8 @@ public enum FrenchRepublicanAlgorithm {
             if (fyear < 1 || fyear > FrenchRepublicanCalendar.MAX_YEAR) {
                 throw new IllegalArgumentException("Out of range: " + fyear);
             }
-            long thisYear = autumnalEquinox(fyear).getDaysSinceEpochUTC();
-            long nextYear = autumnalEquinox(fyear + 1).getDaysSinceEpochUTC();
+            long thisYear = autumnalEquinox(fyear);
+            long nextYear = autumnalEquinox(fyear + 1);
             return ((nextYear - thisYear) == 366L);
         }
         @Override
@@ -75,22 +76,31 @@ public enum FrenchRepublicanAlgorithm {
             if (date.getMonth() < 9) {
                 fyear--; // optimization
             }
-            PlainDate equinox = autumnalEquinox(fyear);
-            long delta = CalendarUnit.DAYS.between(equinox, date);
+            long delta = utcDays - autumnalEquinox(fyear);
             while (delta < 0) {
                 fyear--;
-                equinox = autumnalEquinox(fyear);
-                delta = CalendarUnit.DAYS.between(equinox, date);
+                delta = utcDays - autumnalEquinox(fyear);
             }
             int fdoy = (int) (delta + 1);
             return new FrenchRepublicanCalendar(fyear, fdoy);
         }
         @Override
         long transform(FrenchRepublicanCalendar cal) {
-            long newYear = autumnalEquinox(cal.getYear()).getDaysSinceEpochUTC();
+            long newYear = autumnalEquinox(cal.getYear());
             return newYear + cal.getDayOfYear() - 1;
         }
-        private PlainDate autumnalEquinox(int fyear) {
+        private long autumnalEquinox(int fyear) {
+            if ((fyear < 0) || (fyear >= AUTUMNAL_EQUINOX_DAYS.length)) {
+                return calculateAutumnalEquinox(fyear).getDaysSinceEpochUTC();
+            }
+            int utcDays = AUTUMNAL_EQUINOX_DAYS[fyear];
+            if (utcDays == Integer.MIN_VALUE) {
+                utcDays = (int) calculateAutumnalEquinox(fyear).getDaysSinceEpochUTC();
+                AUTUMNAL_EQUINOX_DAYS[fyear] = utcDays; // idempotent, ein Wettlauf ist harmlos
+            }
+            return utcDays;
+        }
+        private PlainDate calculateAutumnalEquinox(int fyear) {
             PlainTimestamp tsp =
                 AstronomicalSeason.AUTUMNAL_EQUINOX
                     .inYear(fyear + 1791)
@@ -175,6 +185,12 @@ public enum FrenchRepublicanAlgorithm {
     private static final long ABOLITION = PlainDate.of(1806, 1, 1).get(EpochDays.UTC); // XIV-04-11
     private static final long EPOCH = PlainDate.of(1792, 9, 22).get(EpochDays.UTC); // I-01-01
 
+    private static final int[] AUTUMNAL_EQUINOX_DAYS = new int[FrenchRepublicanCalendar.MAX_YEAR + 2];
+
+    static {
+        Arrays.fill(AUTUMNAL_EQUINOX_DAYS, Integer.MIN_VALUE);
+    }
+
     private static final AttributeKey<FrenchRepublicanAlgorithm> ATTRIBUTE =
         Attributes.createKey("FRENCH_REPUBLICAN_ALGORITHM", FrenchRepublicanAlgorithm.class);
 
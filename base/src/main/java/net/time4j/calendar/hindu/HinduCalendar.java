@@ -167,6 +167,15 @@ import java.util.concurrent.ConcurrentHashMap;
  * {@code nextMonth()}. Any date input in doubt should also be validated using
  * {@link #isValid(HinduVariant, HinduEra, int, HinduMonth, HinduDay)} when creating a calendar date. </p>
  *
+ * <h4>Performance</h4>
+ *
+ * <p>The modern variants require expensive astronomical calculations for every conversion. Applications which
+ * convert many dates within a known period can set the system property
+ * &quot;net.time4j.calendar.hindu.table.range&quot; to a range of gregorian years like &quot;1900-2100&quot;.
+ * Then Time4J builds up a table of all Hindu dates per variant and gregorian year within this range
+ * on first access and will afterwards only look up the table. Dates outside of the range are still
+ * calculated exactly. </p>
+ *
  * @author  Meno Hochschild
  * @since   5.7
  * @see     IndianCalendar
@@ -269,6 +278,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * {@link #isValid(HinduVariant, HinduEra, int, HinduMonth, HinduDay)} zu pr&uuml;fen, wenn es um die
  * Erzeugung eines Kalenderdatums geht. </p>
  *
+ * <h4>Performance</h4>
+ *
+ * <p>Die modernen Varianten erfordern aufwendige astronomische Berechnungen f&uuml;r jede Umwandlung.
+ * Anwendungen, die viele Datumsangaben innerhalb eines bekannten Zeitraums umwandeln, k&ouml;nnen die
+ * System-Property &quot;net.time4j.calendar.hindu.table.range&quot; auf einen Bereich von gregorianischen
+ * Jahren wie &quot;1900-2100&quot; setzen. Dann baut Time4J beim ersten Zugriff eine Tabelle aller
+ * Hindu-Datumsangaben je Variante und gregorianischem Jahr innerhalb dieses Bereichs auf und schl&auml;gt
+ * danach nur noch in der Tabelle nach. Datumsangaben au&szlig;erhalb des Bereichs werden weiterhin
+ * exakt berechnet. </p>
+ *
  * @author  Meno Hochschild
  * @since   5.7
  * @see     IndianCalendar
@@ -0,0 +1,213 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (HinduDayTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar.hindu;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.IndianMonth;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * <p>Lazily filled table of Hindu dates per gregorian year for one modern variant. </p>
+ *
+ * <p>Every entry stores the Kali Yuga year, the month and the day of month of a Hindu date
+ * including the leap flags in packed form. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ */
+/*[deutsch]
+ * <p>Schrittweise gef&uuml;llte Tabelle von Hindu-Datumsangaben je gregorianischem Jahr f&uuml;r
+ * eine moderne Variante. </p>
+ *
+ * <p>Jeder Eintrag speichert das Kali-Yuga-Jahr, den Monat und den Tag des Monats eines Hindu-Datums
+ * einschlie&szlig;lich der Schaltkennzeichen in gepackter Form. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ */
+final class HinduDayTable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final String RANGE_PROPERTY = "net.time4j.calendar.hindu.table.range";
+
+    private static final int[] DEFAULT_RANGE = parseRange(System.getProperty(RANGE_PROPERTY));
+
+    private static final int DOM_LEAP = 1 << 6;
+    private static final int MONTH_SHIFT = 7;
+    private static final int MONTH_LEAP = 1 << 11;
+    private static final int YEAR_SHIFT = 12;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long[] yearStarts; // Index: gregorianisches Jahr - erstes Jahr (plus Endmarke)
+    private final AtomicReferenceArray<int[]> years;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new empty table for given range of gregorian years. </p>
+     *
+     * @param   minYear     first gregorian year
+     * @param   maxYear     last gregorian year (inclusive)
+     */
+    HinduDayTable(
+        int minYear,
+        int maxYear
+    ) {
+        super();
+
+        if (minYear > maxYear) {
+            throw new IllegalArgumentException("Invalid range: " + minYear + "-" + maxYear);
+        }
+
+        int n = maxYear - minYear + 1;
+        long[] starts = new long[n + 1];
+
+        for (int i = 0; i <= n; i++) {
+            starts[i] = PlainDate.of(minYear + i, 1, 1).getDaysSinceEpochUTC();
+        }
+
+        this.yearStarts = starts;
+        this.years = new AtomicReferenceArray<>(n);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Obtains a table according to the system property
+     * &quot;net.time4j.calendar.hindu.table.range&quot;. </p>
+     *
+     * @return  new empty table or {@code null} if the system property is not set
+     */
+    static HinduDayTable ofDefaultRange() {
+
+        return ((DEFAULT_RANGE == null) ? null : new HinduDayTable(DEFAULT_RANGE[0], DEFAULT_RANGE[1]));
+
+    }
+
+    /**
+     * <p>Looks up the Hindu date for given epoch days and fills the table for the whole
+     * gregorian year if necessary. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch
+     * @param   calsys      calendar system for the exact calculation
+     * @return  Hindu date or {@code null} if outside of the range of this table
+     */
+    HinduCalendar lookup(
+        long utcDays,
+        HinduVariant.ModernHinduCS calsys
+    ) {
+
+        long[] starts = this.yearStarts;
+
+        if ((utcDays < starts[0]) || (utcDays >= starts[starts.length - 1])) {
+            return null;
+        }
+
+        int index = Math.min((int) ((utcDays - starts[0]) / 365.2425), starts.length - 2);
+
+        while (utcDays < starts[index]) {
+            index--;
+        }
+
+        while (utcDays >= starts[index + 1]) {
+            index++;
+        }
+
+        int[] data = this.years.get(index);
+
+        if (data == null) {
+            long start = starts[index];
+            data = new int[(int) (starts[index + 1] - start)];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = pack(calsys.createExactly(start + i));
+            }
+            this.years.set(index, data); // idempotent, ein Wettlauf ist harmlos
+        }
+
+        int packed = data[(int) (utcDays - starts[index])];
+        HinduMonth month = HinduMonth.of(IndianMonth.valueOf((packed >> MONTH_SHIFT) & 0xF));
+        HinduDay dom = HinduDay.valueOf(packed & 0x3F);
+
+        if ((packed & MONTH_LEAP) != 0) {
+            month = month.withLeap();
+        }
+
+        if ((packed & DOM_LEAP) != 0) {
+            dom = dom.withLeap();
+        }
+
+        return new HinduCalendar(calsys.variant, packed >> YEAR_SHIFT, month, dom, utcDays);
+
+    }
+
+    private static int pack(HinduCalendar cal) {
+
+        int packed = (cal.getExpiredYearOfKaliYuga() << YEAR_SHIFT);
+        packed |= (cal.getMonth().getValue().getValue() << MONTH_SHIFT);
+        packed |= cal.getDayOfMonth().getValue();
+
+        if (cal.getMonth().isLeap()) {
+            packed |= MONTH_LEAP;
+        }
+
+        if (cal.getDayOfMonth().isLeap()) {
+            packed |= DOM_LEAP;
+        }
+
+        return packed;
+
+    }
+
+    // ungültige Werte der System-Property dürfen die Klasseninitialisierung nicht verhindern
+    static int[] parseRange(String range) {
+
+        if (range == null) {
+            return null;
+        }
+
+        int sep = range.indexOf('-', 1);
+
+        try {
+            if (sep != -1) {
+                int minYear = Integer.parseInt(range.substring(0, sep).trim());
+                int maxYear = Integer.parseInt(range.substring(sep + 1).trim());
+
+                if ((minYear >= 1) && (minYear <= maxYear) && (maxYear <= 9999)) {
+                    return new int[] {minYear, maxYear};
+                }
+            }
+        } catch (NumberFormatException nfe) {
+            // siehe Warnung unten
+        }
+
+        System.err.println(
+            "Warning: Invalid range of Hindu table ignored (expected: yyyy-yyyy within 1-9999): " + range);
+        return null;
+
+    }
+
+}
@@ -37,6 +37,8 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.LongFunction;
 
 
@@ -71,6 +73,9 @@ public final class HinduVariant
     private static final int TYPE_OLD_SOLAR = -1;
     private static final int TYPE_OLD_LUNAR = -2;
 
+    private static final int MAX_CACHED_SYSTEMS = 64;
+    private static final ConcurrentMap<HinduVariant, ModernHinduCS> CALSYS_CACHE = new ConcurrentHashMap<>();
+
     static final HinduVariant VAR_OLD_SOLAR = new HinduVariant(AryaSiddhanta.SOLAR);
     static final HinduVariant VAR_OLD_LUNAR = new HinduVariant(AryaSiddhanta.LUNAR);
 
@@ -661,7 +666,20 @@ public final class HinduVariant
             case TYPE_OLD_LUNAR:
                 return AryaSiddhanta.LUNAR.getCalendarSystem();
             default:
-                return new ModernHinduCS(this);
+                ModernHinduCS calsys = CALSYS_CACHE.get(this);
+                if (calsys == null) {
+                    if (CALSYS_CACHE.size() < MAX_CACHED_SYSTEMS) {
+                        calsys = new ModernHinduCS(this);
+                        ModernHinduCS old = CALSYS_CACHE.putIfAbsent(this, calsys);
+                        if (old != null) {
+                            calsys = old;
+                        }
+                    } else {
+                        // ohne Tabelle, denn deren Befüllung lohnt sich nur bei Wiederverwendung
+                        calsys = new ModernHinduCS(this, null);
+                    }
+                }
+                return calsys;
         }
     }
 
@@ -802,17 +820,39 @@ public final class HinduVariant
 
         private volatile long min = Long.MIN_VALUE;
         private volatile long max = Long.MAX_VALUE;
+        private final HinduDayTable table;
 
         //~ Konstruktoren -------------------------------------------------
 
         ModernHinduCS(HinduVariant variant) {
+            this(variant, HinduDayTable.ofDefaultRange());
+        }
+
+        ModernHinduCS(
+            HinduVariant variant,
+            HinduDayTable table
+        ) {
             super(variant);
+
+            this.table = table;
         }
 
         //~ Methoden ------------------------------------------------------
 
         @Override
         HinduCalendar create(long utcDays) {
+            if (this.table != null) {
+                HinduCalendar cal = this.table.lookup(utcDays, this);
+                if (cal != null) {
+                    return cal;
+                }
+            }
+
+            return this.createExactly(utcDays);
+        }
+
+        // astronomische Berechnung ohne Tabelle
+        HinduCalendar createExactly(long utcDays) {
             HinduVariant hv = super.variant;
 
             switch (this.getRule()) {
@@ -0,0 +1,281 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CoarseClock.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+import net.time4j.base.TimeSource;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Clock with reduced resolution which publishes the time of an underlying clock
+ * refreshed by a background ticker. </p>
+ *
+ * <p>Reading the time only consists of a volatile read of a cached moment, without
+ * any allocation or access to leap second data. This is useful for applications which
+ * query the current time very often but do not need more precision than the
+ * resolution of the ticker, for example for logging or metrics. </p>
+ *
+ * <pre>
+ *  CoarseClock clock = CoarseClock.ofSystem(1, TimeUnit.MILLISECONDS);
+ *  Moment now = clock.currentTime();
+ *  PlainDate today = clock.inLocalView().today();
+ * </pre>
+ *
+ * <p>The ticker runs on a daemon thread until {@link #stop()} is called. Afterwards
+ * this clock delegates every query directly to the underlying clock. The same happens
+ * temporarily if the underlying clock fails during an update, until the next successful
+ * update. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Uhr mit verringerter Aufl&ouml;sung, die die Zeit einer zugrundeliegenden Uhr
+ * ver&ouml;ffentlicht und von einem Hintergrund-Taktgeber aktualisiert wird. </p>
+ *
+ * <p>Das Ablesen der Zeit besteht nur aus dem volatilen Lesen eines zwischengespeicherten
+ * Moments, ohne Objekterzeugung oder Zugriff auf Schaltsekundendaten. Das ist f&uuml;r
+ * Anwendungen n&uuml;tzlich, die die aktuelle Zeit sehr oft abfragen, aber keine
+ * h&ouml;here Genauigkeit als die Aufl&ouml;sung des Taktgebers ben&ouml;tigen, zum
+ * Beispiel zum Loggen oder f&uuml;r Metriken. </p>
+ *
+ * <pre>
+ *  CoarseClock clock = CoarseClock.ofSystem(1, TimeUnit.MILLISECONDS);
+ *  Moment now = clock.currentTime();
+ *  PlainDate today = clock.inLocalView().today();
+ * </pre>
+ *
+ * <p>Der Taktgeber l&auml;uft auf einem Hintergrund-Thread, bis {@link #stop()} aufgerufen
+ * wird. Danach delegiert diese Uhr jede Abfrage direkt an die zugrundeliegende Uhr. Dasselbe
+ * geschieht vor&uuml;bergehend, wenn die zugrundeliegende Uhr w&auml;hrend einer Aktualisierung
+ * versagt, bis zur n&auml;chsten erfolgreichen Aktualisierung. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {threadsafe}
+ */
+public final class CoarseClock
+    extends AbstractClock {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIO = 1000000;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final TimeSource<?> source;
+    private final long resolution; // Mikrosekunden
+    private final ScheduledExecutorService ticker;
+
+    private volatile Moment current; // null nach stop() oder nach einem Fehler der Zeitquelle
+    private volatile boolean running;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CoarseClock(
+        TimeSource<?> source,
+        long resolution
+    ) {
+        super();
+
+        this.source = source;
+        this.resolution = resolution;
+        this.current = Moment.from(source.currentTime());
+        this.running = true;
+        this.ticker =
+            Executors.newSingleThreadScheduledExecutor(
+                r -> {
+                    Thread t = new Thread(r, "Time4J-CoarseClock");
+                    t.setDaemon(true);
+                    return t;
+                }
+            );
+        this.ticker.scheduleAtFixedRate(this::tick, resolution, resolution, TimeUnit.MICROSECONDS);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a coarse clock based on {@code SystemClock.INSTANCE}. </p>
+     *
+     * @param   resolution  interval between two updates of the cached time
+     * @param   unit        time unit of resolution
+     * @return  new coarse clock with a running ticker
+     * @throws  IllegalArgumentException if the resolution is smaller than one millisecond
+     * @see     SystemClock#INSTANCE
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine grobe Uhr auf der Basis von {@code SystemClock.INSTANCE}. </p>
+     *
+     * @param   resolution  interval between two updates of the cached time
+     * @param   unit        time unit of resolution
+     * @return  new coarse clock with a running ticker
+     * @throws  IllegalArgumentException if the resolution is smaller than one millisecond
+     * @see     SystemClock#INSTANCE
+     */
+    public static CoarseClock ofSystem(
+        long resolution,
+        TimeUnit unit
+    ) {
+
+        return CoarseClock.of(SystemClock.INSTANCE, resolution, unit);
+
+    }
+
+    /**
+     * <p>Creates a coarse clock based on given time source. </p>
+     *
+     * @param   source      underlying time source
+     * @param   resolution  interval between two updates of the cached time
+     * @param   unit        time unit of resolution
+     * @return  new coarse clock with a running ticker
+     * @throws  IllegalArgumentException if the resolution is smaller than one millisecond
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine grobe Uhr auf der Basis der angegebenen Zeitquelle. </p>
+     *
+     * @param   source      underlying time source
+     * @param   resolution  interval between two updates of the cached time
+     * @param   unit        time unit of resolution
+     * @return  new coarse clock with a running ticker
+     * @throws  IllegalArgumentException if the resolution is smaller than one millisecond
+     */
+    public static CoarseClock of(
+        TimeSource<?> source,
+        long resolution,
+        TimeUnit unit
+    ) {
+
+        if (source == null) {
+            throw new NullPointerException("Missing time source.");
+        }
+
+        long micros = unit.toMicros(resolution);
+
+        if (micros < 1000) {
+            throw new IllegalArgumentException("Resolution must be at least one millisecond: " + micros + "us");
+        }
+
+        return new CoarseClock(source, micros);
+
+    }
+
+    @Override
+    public Moment currentTime() {
+
+        Moment m = this.current;
+        return ((m == null) ? Moment.from(this.source.currentTime()) : m);
+
+    }
+
+    /**
+     * <p>Yields the cached time in milliseconds elapsed since [1970-01-01T00:00:00,000Z]. </p>
+     *
+     * @return  count of milliseconds since UNIX epoch without leap seconds
+     */
+    /*[deutsch]
+     * <p>Liefert die zwischengespeicherte seit [1970-01-01T00:00:00,000Z] verstrichene
+     * Zeit in Millisekunden. </p>
+     *
+     * @return  count of milliseconds since UNIX epoch without leap seconds
+     */
+    public long currentTimeInMillis() {
+
+        Moment m = this.currentTime();
+        return m.getPosixTime() * 1000 + m.getNanosecond() / MIO;
+
+    }
+
+    /**
+     * <p>Yields the interval between two updates of the cached time. </p>
+     *
+     * @param   unit    time unit of result
+     * @return  resolution (possibly truncated)
+     */
+    /*[deutsch]
+     * <p>Liefert das Intervall zwischen zwei Aktualisierungen der zwischengespeicherten Zeit. </p>
+     *
+     * @param   unit    time unit of result
+     * @return  resolution (possibly truncated)
+     */
+    public long getResolution(TimeUnit unit) {
+
+        return unit.convert(this.resolution, TimeUnit.MICROSECONDS);
+
+    }
+
+    /**
+     * <p>Is the background ticker still running? </p>
+     *
+     * @return  {@code false} if {@link #stop()} has been called else {@code true}
+     */
+    /*[deutsch]
+     * <p>L&auml;uft der Hintergrund-Taktgeber noch? </p>
+     *
+     * @return  {@code false} if {@link #stop()} has been called else {@code true}
+     */
+    public boolean isRunning() {
+
+        return this.running;
+
+    }
+
+    /**
+     * <p>Stops the background ticker. </p>
+     *
+     * <p>Afterwards every query of this clock will be delegated to the underlying clock. </p>
+     */
+    /*[deutsch]
+     * <p>Beendet den Hintergrund-Taktgeber. </p>
+     *
+     * <p>Danach wird jede Abfrage dieser Uhr an die zugrundeliegende Uhr delegiert. </p>
+     */
+    public synchronized void stop() {
+
+        this.running = false;
+        this.ticker.shutdownNow();
+        this.current = null;
+
+    }
+
+    private synchronized void tick() {
+
+        if (this.running) { // ein letzter Takt nach stop() darf den Cache nicht wiederbeleben
+            try {
+                this.current = Moment.from(this.source.currentTime());
+            } catch (RuntimeException re) {
+                // eine Ausnahme würde alle weiteren Takte des Executors stillschweigend abbrechen,
+                // bis zum nächsten erfolgreichen Takt liest currentTime() direkt die Zeitquelle
+                this.current = null;
+            }
+        }
+
+    }
+
+}
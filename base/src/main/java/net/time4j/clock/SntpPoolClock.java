@@ -0,0 +1,797 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SntpPoolClock.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+import net.time4j.scale.TimeScale;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Clock which synchronizes with several NTP-servers in parallel. </p>
+ *
+ * <p>Every synchronization sends the requests to all configured servers at the same time using
+ * one non-blocking datagram channel per server. The sample with the lowest round-trip-delay is chosen per server
+ * (the request count of the server configuration determines the number of samples). Then servers whose
+ * correctness interval does not overlap with the majority are rejected as false tickers, and the
+ * offsets of the remaining servers are combined weighted by their synchronization distance (similar
+ * to RFC 5905). </p>
+ *
+ * <p>Synchronization can be triggered manually by {@link #synchronize()} or periodically in background
+ * by {@link #start(long, TimeUnit)}. Repeated synchronizations also estimate the frequency error (drift)
+ * of the local clock. Reading the time or the offset never blocks and never causes network traffic. </p>
+ *
+ * <p>The addresses of the servers are resolved once and cached for one hour. A server without
+ * valid reply will be resolved again during the next synchronization. </p>
+ *
+ * <pre>
+ *  SntpPoolClock clock = new SntpPoolClock(&quot;ptbtime1.ptb.de&quot;, &quot;ptbtime2.ptb.de&quot;, &quot;time.nist.gov&quot;);
+ *  clock.start(15, TimeUnit.MINUTES);
+ *  System.out.println(clock.currentTime());
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Uhr, die sich parallel mit mehreren NTP-Servern synchronisiert. </p>
+ *
+ * <p>Jede Synchronisation schickt die Anfragen gleichzeitig &uuml;ber je einen nicht-blockierenden
+ * Datagramm-Kanal pro Server an alle konfigurierten Server. Je Server wird die Messung mit der kleinsten
+ * Umlaufzeit gew&auml;hlt (die Anzahl der Anfragen in der Serverkonfiguration legt die Anzahl der
+ * Messungen fest). Danach werden Server, deren Korrektheitsintervall sich nicht mit der Mehrheit
+ * &uuml;berschneidet, als Falschl&auml;ufer verworfen, und die Offsets der verbleibenden Server
+ * werden gewichtet nach ihrer Synchronisationsdistanz kombiniert (&auml;hnlich RFC 5905). </p>
+ *
+ * <p>Die Synchronisation kann manuell mit {@link #synchronize()} oder periodisch im Hintergrund
+ * mit {@link #start(long, TimeUnit)} angesto&szlig;en werden. Wiederholte Synchronisationen
+ * sch&auml;tzen auch den Frequenzfehler (Drift) der lokalen Uhr. Das Ablesen der Zeit oder des
+ * Offsets blockiert nie und verursacht nie Netzwerkverkehr. </p>
+ *
+ * <p>Die Adressen der Server werden einmal aufgel&ouml;st und eine Stunde lang zwischengespeichert.
+ * Ein Server ohne g&uuml;ltige Antwort wird bei der n&auml;chsten Synchronisation neu aufgel&ouml;st. </p>
+ *
+ * <pre>
+ *  SntpPoolClock clock = new SntpPoolClock(&quot;ptbtime1.ptb.de&quot;, &quot;ptbtime2.ptb.de&quot;, &quot;time.nist.gov&quot;);
+ *  clock.start(15, TimeUnit.MINUTES);
+ *  System.out.println(clock.currentTime());
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {threadsafe}
+ */
+public final class SntpPoolClock
+    extends AbstractClock {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIO = 1000000;
+    private static final int PACKET_SIZE = 48;
+    private static final double MINDISP = 0.01; // RFC 5905, minimale Dispersion in Sekunden
+    private static final double MAXFREQ = 500e-6; // RFC 5905, maximaler Frequenzfehler
+    private static final double FREQ_GAIN = 0.25;
+    private static final long MIN_DRIFT_INTERVAL = 16L * MIO; // RFC 5905, MINPOLL in Mikrosekunden
+    private static final long RESOLVE_TTL = TimeUnit.HOURS.toNanos(1); // Gültigkeit aufgelöster Adressen
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final List<SntpConfiguration> servers;
+    private final Object syncLock = new Object();
+    private final Object schedulerLock = new Object();
+    private final InetSocketAddress[] resolved; // geschützt durch syncLock
+    private final long[] resolvedAt; // geschützt durch syncLock
+
+    private volatile State state = null;
+    private volatile PrintWriter writer = null;
+    private ScheduledExecutorService scheduler = null; // geschützt durch schedulerLock
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new clock for given NTP4-servers using port 123 and one request per server. </p>
+     *
+     * @param   servers     addresses of NTP4-servers
+     * @throws  IllegalArgumentException if there is no server
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine neue Uhr f&uuml;r die angegebenen NTP4-Server mit Port 123 und einer
+     * Anfrage je Server. </p>
+     *
+     * @param   servers     addresses of NTP4-servers
+     * @throws  IllegalArgumentException if there is no server
+     */
+    public SntpPoolClock(String... servers) {
+        this(toConfigurations(servers));
+
+    }
+
+    /**
+     * <p>Creates a new clock for given server configurations. </p>
+     *
+     * <p>The clock shift window of the configurations is ignored. </p>
+     *
+     * @param   configurations  list of server configurations
+     * @throws  IllegalArgumentException if there is no server or if any configuration is invalid
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine neue Uhr f&uuml;r die angegebenen Serverkonfigurationen. </p>
+     *
+     * <p>Das Verschiebungsfenster der Konfigurationen wird ignoriert. </p>
+     *
+     * @param   configurations  list of server configurations
+     * @throws  IllegalArgumentException if there is no server or if any configuration is invalid
+     */
+    public SntpPoolClock(Collection<? extends SntpConfiguration> configurations) {
+        super();
+
+        if (configurations.isEmpty()) {
+            throw new IllegalArgumentException("Missing time server.");
+        }
+
+        for (SntpConfiguration config : configurations) {
+            String addr = config.getTimeServerAddress();
+            int port = config.getTimeServerPort();
+
+            if ((addr == null) || addr.trim().isEmpty()) {
+                throw new IllegalArgumentException("Missing time server address.");
+            } else if ((port < 0) || (port > 65535)) {
+                throw new IllegalArgumentException("Port out of range: " + port);
+            } else if (config.getConnectionTimeout() < 0) {
+                throw new IllegalArgumentException("Negative time out.");
+            } else if ((config.getRequestCount() < 0) || (config.getRequestCount() >= 1000)) {
+                throw new IllegalArgumentException("Wrong request count: " + config.getRequestCount());
+            }
+        }
+
+        this.servers = Collections.unmodifiableList(new ArrayList<>(configurations));
+        this.resolved = new InetSocketAddress[this.servers.size()];
+        this.resolvedAt = new long[this.servers.size()];
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the current time based on the local clock and the last synchronized offset. </p>
+     *
+     * <p>If there was no successful synchronization yet then this method yields the local time. </p>
+     *
+     * @return  Moment
+     * @see     #isSynchronized()
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Zeit auf Basis der lokalen Uhr und des zuletzt synchronisierten
+     * Offsets. </p>
+     *
+     * <p>Wenn es noch keine erfolgreiche Synchronisation gegeben hat, liefert diese Methode die
+     * lokale Zeit. </p>
+     *
+     * @return  Moment
+     * @see     #isSynchronized()
+     */
+    @Override
+    public Moment currentTime() {
+
+        long micros = this.currentTimeInMicros();
+
+        return Moment.of(
+            Math.floorDiv(micros, MIO),
+            (int) (Math.floorMod(micros, MIO) * 1000),
+            TimeScale.POSIX);
+
+    }
+
+    /**
+     * <p>Returns the current time in microseconds since the Unix epoch
+     * [1970-01-01T00:00:00,000000Z]. </p>
+     *
+     * <p>UTC leap seconds are never counted. </p>
+     *
+     * @return  count of microseconds since UNIX-epoch without leap seconds
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Zeit in Mikrosekunden seit dem Beginn der
+     * UNIX-Epoche, n&auml;mlich [1970-01-01T00:00:00,000000Z]. </p>
+     *
+     * <p>Es handelt sich immer um eine Zeitangabe ohne UTC-Schaltsekunden. </p>
+     *
+     * @return  count of microseconds since UNIX-epoch without leap seconds
+     */
+    public long currentTimeInMicros() {
+
+        long local = SystemClock.MONOTONIC.currentTimeInMicros();
+        State s = this.state;
+        return ((s == null) ? local : local + s.getOffset(local));
+
+    }
+
+    /**
+     * <p>Yields the current offset between net time and local time in microseconds
+     * including the estimated drift since last synchronization. </p>
+     *
+     * @return  offset in microseconds ({@code 0} if there was not any synchronization yet)
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Differenz zwischen Netz-Zeit und lokaler Zeit in Mikrosekunden
+     * inklusive der gesch&auml;tzten Drift seit der letzten Synchronisation. </p>
+     *
+     * @return  offset in microseconds ({@code 0} if there was not any synchronization yet)
+     */
+    public long getOffsetInMicros() {
+
+        State s = this.state;
+        return ((s == null) ? 0 : s.getOffset(SystemClock.MONOTONIC.currentTimeInMicros()));
+
+    }
+
+    /**
+     * <p>Yields the estimated frequency error of the local clock in parts per million. </p>
+     *
+     * <p>A positive value means that the local clock runs too slow. The estimation needs
+     * at least two synchronizations in a distance of 16 seconds or more. </p>
+     *
+     * @return  drift in ppm (limited to the range {@code -500 <= drift <= 500})
+     */
+    /*[deutsch]
+     * <p>Liefert den gesch&auml;tzten Frequenzfehler der lokalen Uhr in Millionstel. </p>
+     *
+     * <p>Ein positiver Wert bedeutet, da&szlig; die lokale Uhr zu langsam l&auml;uft. Die
+     * Sch&auml;tzung ben&ouml;tigt mindestens zwei Synchronisationen im Abstand von 16 Sekunden
+     * oder mehr. </p>
+     *
+     * @return  drift in ppm (limited to the range {@code -500 <= drift <= 500})
+     */
+    public double getDriftInPPM() {
+
+        State s = this.state;
+        return ((s == null) ? 0.0 : s.drift * MIO);
+
+    }
+
+    /**
+     * <p>Has this clock been successfully synchronized at least once? </p>
+     *
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Wurde diese Uhr wenigstens einmal erfolgreich synchronisiert? </p>
+     *
+     * @return  boolean
+     */
+    public boolean isSynchronized() {
+
+        return (this.state != null);
+
+    }
+
+    /**
+     * <p>Yields the configurations of all servers of this clock. </p>
+     *
+     * @return  unmodifiable list
+     */
+    /*[deutsch]
+     * <p>Liefert die Konfigurationen aller Server dieser Uhr. </p>
+     *
+     * @return  unmodifiable list
+     */
+    public List<SntpConfiguration> getServers() {
+
+        return this.servers;
+
+    }
+
+    /**
+     * <p>Queries all servers in parallel and updates the offset of this clock. </p>
+     *
+     * <p>Servers which do not reply within their connection timeout, send a kiss-o'-death-message
+     * or are not synchronized themselves are ignored. </p>
+     *
+     * <p>If any server has the connection timeout {@code 0} then this method waits without
+     * limit until every server has replied. </p>
+     *
+     * @throws  IOException if no valid reply was received or if the majority of servers does not agree
+     */
+    /*[deutsch]
+     * <p>Fragt alle Server parallel ab und aktualisiert den Offset dieser Uhr. </p>
+     *
+     * <p>Server, die nicht innerhalb ihrer Verbindungszeitschranke antworten, eine
+     * Kiss-o'-Death-Nachricht schicken oder selbst nicht synchronisiert sind, werden ignoriert. </p>
+     *
+     * <p>Hat irgendein Server die Verbindungszeitschranke {@code 0}, dann wartet diese Methode
+     * unbegrenzt, bis jeder Server geantwortet hat. </p>
+     *
+     * @throws  IOException if no valid reply was received or if the majority of servers does not agree
+     */
+    public void synchronize() throws IOException {
+
+        synchronized (this.syncLock) {
+            Sample[] best = this.query();
+            double offset = select(best);
+            long local = SystemClock.MONOTONIC.currentTimeInMicros();
+            long offsetMicros = Math.round(offset * MIO);
+            State old = this.state;
+            double drift = 0.0;
+
+            if (old != null) {
+                drift = old.drift;
+                long elapsed = local - old.localMicros;
+                if (elapsed >= MIN_DRIFT_INTERVAL) {
+                    double residual = offsetMicros - old.getOffset(local);
+                    drift += FREQ_GAIN * residual / elapsed;
+                    drift = Math.max(-MAXFREQ, Math.min(MAXFREQ, drift));
+                }
+            }
+
+            this.state = new State(local, offsetMicros, drift);
+
+            if (this.isLogEnabled()) {
+                this.log("SNTP-synchronization finished: ", "offset=" + offsetMicros + "us, drift=" + drift * MIO + "ppm");
+            }
+        }
+
+    }
+
+    /**
+     * <p>Starts the periodic synchronization on a background daemon thread. </p>
+     *
+     * <p>The first synchronization happens immediately. Failures are only logged. </p>
+     *
+     * @param   period  delay between the end of one synchronization and the start of next one
+     * @param   unit    time unit of period
+     * @throws  IllegalArgumentException if the period is not positive
+     * @throws  IllegalStateException if this clock has already been started
+     * @see     #stop()
+     */
+    /*[deutsch]
+     * <p>Startet die periodische Synchronisation auf einem Hintergrund-Thread. </p>
+     *
+     * <p>Die erste Synchronisation findet sofort statt. Fehler werden nur geloggt. </p>
+     *
+     * @param   period  delay between the end of one synchronization and the start of next one
+     * @param   unit    time unit of period
+     * @throws  IllegalArgumentException if the period is not positive
+     * @throws  IllegalStateException if this clock has already been started
+     * @see     #stop()
+     */
+    public void start(
+        long period,
+        TimeUnit unit
+    ) {
+
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+
+        synchronized (this.schedulerLock) {
+            if (this.scheduler != null) {
+                throw new IllegalStateException("Periodic synchronization already started.");
+            }
+
+            ScheduledExecutorService ses =
+                Executors.newSingleThreadScheduledExecutor(
+                    r -> {
+                        Thread t = new Thread(r, "Time4J-SntpPoolClock");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                );
+            ses.scheduleWithFixedDelay(this::resync, 0, period, unit);
+            this.scheduler = ses;
+        }
+
+    }
+
+    /**
+     * <p>Stops the periodic synchronization. </p>
+     *
+     * <p>The last synchronized offset remains valid. Does nothing if not started. </p>
+     *
+     * @see     #start(long, TimeUnit)
+     */
+    /*[deutsch]
+     * <p>Beendet die periodische Synchronisation. </p>
+     *
+     * <p>Der zuletzt synchronisierte Offset bleibt g&uuml;ltig. Macht nichts, wenn nicht gestartet. </p>
+     *
+     * @see     #start(long, TimeUnit)
+     */
+    public void stop() {
+
+        synchronized (this.schedulerLock) {
+            if (this.scheduler != null) {
+                this.scheduler.shutdownNow();
+                this.scheduler = null;
+            }
+        }
+
+    }
+
+    /**
+     * <p>Installs a logging stream for any messages during synchronization. </p>
+     *
+     * @param   out     output stream ({@code null} disables logging)
+     */
+    /*[deutsch]
+     * <p>Installiert einen Strom zum Loggen. </p>
+     *
+     * @param   out     Ausgabestrom ({@code null} schaltet das Loggen ab)
+     */
+    public void setLogWriter(PrintWriter out) {
+
+        this.writer = out;
+
+    }
+
+    private boolean isLogEnabled() {
+
+        return (this.writer != null);
+
+    }
+
+    private void log(
+        String prefix,
+        String message
+    ) {
+
+        final PrintWriter out = this.writer;
+
+        if (out != null) {
+            out.println(prefix + message);
+        }
+
+    }
+
+    private void resync() {
+
+        try {
+            this.synchronize();
+        } catch (IOException | RuntimeException ex) { // der Hintergrund-Thread darf nicht abbrechen
+            this.log("SNTP-synchronization failed: ", ex.toString());
+        }
+
+    }
+
+    // sendet alle Anfragen einer Runde gleichzeitig und liefert je Server die Messung mit der kleinsten Umlaufzeit
+    private Sample[] query() throws IOException {
+
+        int n = this.servers.size();
+        InetSocketAddress[] addresses = new InetSocketAddress[n];
+        boolean[] active = new boolean[n];
+        int rounds = 0;
+        long timeout = 0;
+        boolean unlimited = false;
+        long now = System.nanoTime();
+
+        for (int i = 0; i < n; i++) {
+            SntpConfiguration config = this.servers.get(i);
+            InetSocketAddress address = this.resolve(i, now);
+            if (address == null) {
+                this.log("Cannot resolve time server: ", config.getTimeServerAddress());
+            } else {
+                addresses[i] = address;
+                active[i] = true;
+                rounds = Math.max(rounds, Math.max(1, config.getRequestCount()));
+                timeout = Math.max(timeout, config.getConnectionTimeout() * 1000L);
+                if (config.getConnectionTimeout() == 0) {
+                    unlimited = true; // wie setSoTimeout(0) im SntpConnector
+                }
+            }
+        }
+
+        Sample[] best = new Sample[n];
+        DatagramChannel[] channels = new DatagramChannel[n];
+
+        // je Server ein eigener Kanal, damit auch mehrere Konfigurationen mit derselben Adresse ihre Antworten erhalten
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < n; i++) {
+                if (active[i]) {
+                    channels[i] = DatagramChannel.open();
+                    channels[i].configureBlocking(false);
+                    channels[i].register(selector, SelectionKey.OP_READ, i);
+                }
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(512);
+            double[] originates = new double[n];
+            byte[] versions = new byte[n];
+
+            for (int round = 0; round < rounds; round++) {
+                Arrays.fill(originates, Double.NaN);
+                int pending = 0;
+
+                for (int i = 0; i < n; i++) {
+                    SntpConfiguration config = this.servers.get(i);
+                    if (active[i] && (round < Math.max(1, config.getRequestCount()))) {
+                        SntpMessage request = new SntpMessage(config.isNTP4());
+                        originates[i] = request.getTransmitTimestamp();
+                        versions[i] = request.getVersion();
+                        channels[i].send(ByteBuffer.wrap(request.getBytes()), addresses[i]);
+                        pending++;
+                    }
+                }
+
+                long deadline = System.nanoTime() + timeout * MIO;
+
+                while (pending > 0) {
+                    if (unlimited) {
+                        if (selector.select() == 0) {
+                            continue;
+                        }
+                    } else {
+                        long wait = (deadline - System.nanoTime()) / MIO;
+                        if (wait <= 0) {
+                            break;
+                        } else if (selector.select(wait) == 0) {
+                            continue;
+                        }
+                    }
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        int index = (Integer) key.attachment();
+                        DatagramChannel channel = (DatagramChannel) key.channel();
+                        while (true) {
+                            buffer.clear();
+                            SocketAddress source = channel.receive(buffer);
+                            if (source == null) {
+                                break;
+                            }
+                            double destination = SntpMessage.getLocalTimestamp(); // sofort notieren
+                            if (
+                                !source.equals(addresses[index])
+                                || Double.isNaN(originates[index])
+                                || (buffer.position() < PACKET_SIZE)
+                            ) {
+                                continue; // unbekannte, verspätete oder doppelte Antwort
+                            }
+                            byte[] data = new byte[PACKET_SIZE];
+                            buffer.flip();
+                            buffer.get(data);
+                            SntpMessage reply;
+                            try {
+                                reply = new SntpMessage(data, originates[index], versions[index]);
+                            } catch (IOException ioe) {
+                                this.log("Invalid NTP-reply: ", ioe.getMessage());
+                                continue;
+                            }
+                            originates[index] = Double.NaN;
+                            pending--;
+                            if (reply.getStratum() == 0) {
+                                this.log("NTP-Server replied: ", "<kiss-o'-death> " + addresses[index]);
+                                active[index] = false;
+                            } else if (reply.getLeapIndicator() == 3) {
+                                this.log("NTP-Server not synchronized: ", addresses[index].toString());
+                                active[index] = false;
+                            } else {
+                                Sample sample = new Sample(reply, destination);
+                                if ((best[index] == null) || (sample.delay < best[index].delay)) {
+                                    best[index] = sample;
+                                }
+                            }
+                        }
+                    }
+                    selector.selectedKeys().clear();
+                }
+            }
+        } finally {
+            for (DatagramChannel channel : channels) {
+                if (channel != null) {
+                    channel.close();
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (best[i] == null) {
+                this.resolved[i] = null; // ohne gültige Antwort beim nächsten Mal neu auflösen
+            }
+        }
+
+        return best;
+
+    }
+
+    // liefert die zwischengespeicherte Adresse oder löst sie neu auf (null, wenn das nicht gelingt)
+    private InetSocketAddress resolve(
+        int index,
+        long now
+    ) {
+
+        InetSocketAddress address = this.resolved[index];
+
+        if ((address == null) || (now - this.resolvedAt[index] >= RESOLVE_TTL)) {
+            SntpConfiguration config = this.servers.get(index);
+            address = new InetSocketAddress(config.getTimeServerAddress(), config.getTimeServerPort());
+            if (address.isUnresolved()) {
+                address = null;
+            }
+            this.resolved[index] = address;
+            this.resolvedAt[index] = now;
+        }
+
+        return address;
+
+    }
+
+    // Schnittmengen-Algorithmus nach Marzullo und gewichtete Kombination der verbleibenden Offsets
+    private static double select(Sample[] best) throws IOException {
+
+        List<Sample> candidates = new ArrayList<>();
+
+        for (Sample sample : best) {
+            if (sample != null) {
+                candidates.add(sample);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            throw new IOException("No valid reply from any time server.");
+        }
+
+        double point = 0.0;
+        int maxCount = 0;
+
+        for (Sample c : candidates) {
+            double low = c.offset - c.distance;
+            int count = 0;
+            for (Sample other : candidates) {
+                if (other.contains(low)) {
+                    count++;
+                }
+            }
+            if (count > maxCount) {
+                maxCount = count;
+                point = low;
+            }
+        }
+
+        if (maxCount * 2 <= candidates.size()) {
+            throw new IOException("No majority of time servers agree: " + candidates);
+        }
+
+        double sum = 0.0;
+        double weights = 0.0;
+
+        for (Sample c : candidates) {
+            if (c.contains(point)) {
+                sum += c.offset / c.distance;
+                weights += 1.0 / c.distance;
+            }
+        }
+
+        return sum / weights;
+
+    }
+
+    private static List<SntpConfiguration> toConfigurations(String[] servers) {
+
+        List<SntpConfiguration> list = new ArrayList<>(servers.length);
+
+        for (String server : servers) {
+            list.add(new SntpConnector.SimpleNtpConfiguration(server));
+        }
+
+        return list;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // unveränderlicher Synchronisationsstand, wird von Lesern ohne Sperre verwendet
+    private static class State {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long localMicros;
+        private final long offsetMicros;
+        private final double drift;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        State(
+            long localMicros,
+            long offsetMicros,
+            double drift
+        ) {
+            super();
+
+            this.localMicros = localMicros;
+            this.offsetMicros = offsetMicros;
+            this.drift = drift;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        long getOffset(long local) {
+
+            if (this.drift == 0.0) {
+                return this.offsetMicros;
+            }
+
+            return this.offsetMicros + Math.round(this.drift * (local - this.localMicros));
+
+        }
+
+    }
+
+    private static class Sample {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final double offset; // Sekunden
+        private final double delay; // Sekunden
+        private final double distance; // Synchronisationsdistanz in Sekunden
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Sample(
+            SntpMessage reply,
+            double destination
+        ) {
+            super();
+
+            double t1 = reply.getOriginateTimestamp();
+            double t2 = reply.getReceiveTimestamp();
+            double t3 = reply.getTransmitTimestamp();
+
+            this.offset = ((t2 - t1) + (t3 - destination)) / 2;
+            this.delay = Math.max(0.0, (destination - t1) - (t3 - t2));
+            this.distance = (reply.getRootDelay() + this.delay) / 2 + reply.getRootDispersion() + MINDISP;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        boolean contains(double point) {
+
+            return ((this.offset - this.distance <= point) && (point <= this.offset + this.distance));
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "[offset=" + this.offset + ",delay=" + this.delay + ",distance=" + this.distance + "]";
+
+        }
+
+    }
+
+}
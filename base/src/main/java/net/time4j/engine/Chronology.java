@@ -23,17 +23,16 @@ package net.time4j.engine;
 
 import net.time4j.base.TimeSource;
 
-import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -55,8 +54,13 @@ public class Chronology<T>
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final List<ChronoReference> CHRONOS = new CopyOnWriteArrayList<>();
-    private static final ReferenceQueue<Chronology<?>> QUEUE = new ReferenceQueue<>();
+    private static final ClassValue<ChronoRegistration> CHRONOS =
+        new ClassValue<ChronoRegistration>() {
+            @Override
+            protected ChronoRegistration computeValue(Class<?> type) {
+                return new ChronoRegistration();
+            }
+        };
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -65,6 +69,9 @@ public class Chronology<T>
     private final Map<ChronoElement<?>, ElementRule<T, ?>> ruleMap;
     private final List<ChronoExtension> extensions;
     private final Map<ChronoElement<?>, IntElementRule<T>> intRules;
+    private final Map<ChronoElement<?>, IndexedRule<T>> indexedRules;
+    private final Map<ChronoElement<?>, IndexedRule<T>> equalRules;
+    private final ElementRule<T, ?>[] rules;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -86,6 +93,9 @@ public class Chronology<T>
         this.ruleMap = Collections.emptyMap();
         this.extensions = Collections.emptyList();
         this.intRules = Collections.emptyMap();
+        this.indexedRules = Collections.emptyMap();
+        this.equalRules = Collections.emptyMap();
+        this.rules = cast(new ElementRule<?, ?>[0]);
 
     }
 
@@ -136,6 +146,24 @@ public class Chronology<T>
         intRules.putAll(tmpRules);
         this.intRules = intRules;
 
+        // dense indices in order of registration (identity-based like the int-rules)
+        Map<ChronoElement<?>, IndexedRule<T>> identityMap = new IdentityHashMap<>(this.ruleMap.size());
+        Map<ChronoElement<?>, IndexedRule<T>> equalityMap = new HashMap<>(this.ruleMap.size() * 4 / 3 + 1);
+        ElementRule<?, ?>[] ruleArray = new ElementRule<?, ?>[this.ruleMap.size()];
+        int index = 0;
+
+        for (Map.Entry<ChronoElement<?>, ElementRule<T, ?>> entry : this.ruleMap.entrySet()) {
+            IndexedRule<T> indexedRule = new IndexedRule<>(index, entry.getValue());
+            identityMap.put(entry.getKey(), indexedRule);
+            equalityMap.put(entry.getKey(), indexedRule);
+            ruleArray[index] = entry.getValue();
+            index++;
+        }
+
+        this.indexedRules = identityMap;
+        this.equalRules = equalityMap;
+        this.rules = cast(ruleArray);
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -225,6 +253,80 @@ public class Chronology<T>
 
     }
 
+    /**
+     * <p>Yields the dense index of given registered chronological element. </p>
+     *
+     * <p>Every registered element gets an index in the range {@code 0 <= index < n} where
+     * {@code n} is the count of registered elements. The index is assigned once when this
+     * chronology is built and enables callers like formatters to bind the associated element
+     * rule in advance via {@link #getRule(int)} instead of looking up the rule again and again. </p>
+     *
+     * @param   element     element to be asked (optional)
+     * @return  non-negative index or {@code -1} if given element is not registered
+     * @see     #getRule(int)
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Liefert den dichten Index des angegebenen registrierten chronologischen Elements. </p>
+     *
+     * <p>Jedes registrierte Element bekommt einen Index im Bereich {@code 0 <= index < n}, wobei
+     * {@code n} die Anzahl der registrierten Elemente ist. Der Index wird einmalig beim Bauen dieser
+     * Chronologie vergeben und erlaubt Aufrufern wie Formatierern, die assoziierte Elementregel mit
+     * Hilfe von {@link #getRule(int)} vorab zu binden, statt die Regel immer wieder neu zu suchen. </p>
+     *
+     * @param   element     element to be asked (optional)
+     * @return  non-negative index or {@code -1} if given element is not registered
+     * @see     #getRule(int)
+     * @since   5.8
+     */
+    public int getElementIndex(ChronoElement<?> element) {
+
+        if (element == null) {
+            return -1;
+        }
+
+        IndexedRule<T> indexedRule = this.indexedRules.get(element);
+
+        if (indexedRule == null) {
+            indexedRule = this.equalRules.get(element); // rare case of equal but not identical element
+
+            if (indexedRule == null) {
+                return -1;
+            }
+        }
+
+        return indexedRule.index;
+
+    }
+
+    /**
+     * <p>Yields the element rule registered under given dense index. </p>
+     *
+     * @param   index   dense index of a registered element
+     * @return  associated element rule
+     * @throws  IndexOutOfBoundsException if the index does not belong to any registered element
+     * @see     #getElementIndex(ChronoElement)
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Liefert die unter dem angegebenen dichten Index registrierte Elementregel. </p>
+     *
+     * @param   index   dense index of a registered element
+     * @return  associated element rule
+     * @throws  IndexOutOfBoundsException if the index does not belong to any registered element
+     * @see     #getElementIndex(ChronoElement)
+     * @since   5.8
+     */
+    public ElementRule<T, ?> getRule(int index) {
+
+        if ((index < 0) || (index >= this.rules.length)) {
+            throw new IndexOutOfBoundsException("Invalid element index: " + index);
+        }
+
+        return this.rules[index];
+
+    }
+
     @Override
     public T createFrom(
         TimeSource<?> clock,
@@ -411,32 +513,21 @@ public class Chronology<T>
      */
     public static <T> Chronology<T> lookup(Class<T> chronoType) {
 
-        try {
-            // Initialisierung der Klasse anstoßen, wenn noch nicht erfolgt
-            Class.forName(
-                chronoType.getName(),
-                true,
-                chronoType.getClassLoader());
-        } catch (ClassNotFoundException cnfe) {
-            throw new IllegalStateException(cnfe);
-        }
-
-        Chronology<?> ret = null;
-        boolean purged = false;
-
-        for (ChronoReference cref : CHRONOS) {
-            Chronology<?> chronology = cref.get();
-
-            if (chronology == null) {
-                purged = true;
-            } else if (chronology.getChronoType() == chronoType) {
-                ret = chronology;
-                break;
+        ChronoRegistration registration = CHRONOS.get(chronoType);
+        Chronology<?> ret = registration.get();
+
+        if (ret == null) {
+            try {
+                // Initialisierung der Klasse anstoßen, wenn noch nicht erfolgt
+                Class.forName(
+                    chronoType.getName(),
+                    true,
+                    chronoType.getClassLoader());
+            } catch (ClassNotFoundException cnfe) {
+                throw new IllegalStateException(cnfe);
             }
-        }
 
-        if (purged) {
-            purgeQueue();
+            ret = registration.get();
         }
 
         return cast(ret); // type-safe
@@ -454,7 +545,7 @@ public class Chronology<T>
      */
     static void register(Chronology<?> chronology) {
 
-        CHRONOS.add(new ChronoReference(chronology, QUEUE));
+        CHRONOS.get(chronology.getChronoType()).register(chronology);
 
     }
 
@@ -474,7 +565,11 @@ public class Chronology<T>
             throw new NullPointerException("Missing chronological element.");
         }
 
-        ElementRule<?, ?> rule = this.ruleMap.get(element);
+        IndexedRule<T> indexedRule = this.indexedRules.get(element);
+        ElementRule<?, ?> rule = (
+            (indexedRule == null)
+                ? this.ruleMap.get(element) // foreign or equal but not identical element
+                : indexedRule.rule);
 
         if (rule == null) {
             rule = this.getDerivedRule(element, true);
@@ -535,22 +630,6 @@ public class Chronology<T>
 
     }
 
-    // vom GC behandelte Referenzen wegräumen
-    private static void purgeQueue() {
-
-        ChronoReference cref;
-
-        while ((cref = (ChronoReference) QUEUE.poll()) != null) {
-            for (ChronoReference test : CHRONOS) {
-                if (test.name.equals(cref.name)) {
-                    CHRONOS.remove(test);
-                    break;
-                }
-            }
-        }
-
-    }
-
     @SuppressWarnings("unchecked")
     private static <T> T cast(Object obj) {
 
@@ -611,7 +690,7 @@ public class Chronology<T>
             this.chronoType = chronoType;
             this.time4j = chronoType.getName().startsWith("net.time4j.");
             this.merger = merger;
-            this.ruleMap = new HashMap<>();
+            this.ruleMap = new LinkedHashMap<>();
             this.extensions = new ArrayList<>();
 
         }
@@ -781,22 +860,49 @@ public class Chronology<T>
 
     }
 
-    // Schwache Referenz auf ein chronologisches System
-    private static class ChronoReference
-        extends WeakReference<Chronology<?>> {
+    // Elementregel zusammen mit ihrem dichten Index
+    private static class IndexedRule<T> {
 
         //~ Instanzvariablen ----------------------------------------------
 
-        private final String name;
+        private final int index;
+        private final ElementRule<T, ?> rule;
 
         //~ Konstruktoren -------------------------------------------------
 
-        ChronoReference(
-            Chronology<?> chronology,
-            ReferenceQueue<Chronology<?>> queue
+        IndexedRule(
+            int index,
+            ElementRule<T, ?> rule
         ) {
-            super(chronology, queue);
-            this.name = chronology.chronoType.getName();
+            super();
+
+            this.index = index;
+            this.rule = rule;
+        }
+
+    }
+
+    // Schwache Registrierung eines chronologischen Systems, an die Klasse des chronologischen Typs gehängt
+    private static class ChronoRegistration {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private volatile WeakReference<Chronology<?>> ref = null;
+
+        //~ Methoden ------------------------------------------------------
+
+        Chronology<?> get() {
+
+            WeakReference<Chronology<?>> r = this.ref;
+            return ((r == null) ? null : r.get());
+
+        }
+
+        synchronized void register(Chronology<?> chronology) {
+
+            if (this.get() == null) { // first registration wins as long as it is alive
+                this.ref = new WeakReference<>(chronology);
+            }
 
         }
 
@@ -53,9 +53,13 @@ public final class TextAccessor {
 
     private static final char PROTECTED_SPACE = '\u00A0'; // ASCII-0160
 
+    private static final int NONE = -1;
+    private static final int AMBIGUOUS = -2;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final List<String> textForms;
+    private volatile Matcher[] matchers; // Index: caseInsensitive * 2 + smart
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -68,6 +72,7 @@ public final class TextAccessor {
         super();
 
         this.textForms = Collections.unmodifiableList(Arrays.asList(textForms));
+        this.matchers = new Matcher[4];
 
     }
 
@@ -294,7 +299,19 @@ public final class TextAccessor {
         boolean smart
     ) {
 
-        V[] enums = valueType.getEnumConstants();
+        Matcher matcher = this.getMatcher(valueType, caseInsensitive, smart);
+        V[] enums = cast(matcher.enums);
+
+        if ((matcher.root != null) && (partialCompare || !matcher.shortKeys)) {
+            int start = status.getIndex();
+            int index = matcher.match(parseable, start, partialCompare, status);
+            if (index < 0) {
+                status.setErrorIndex(start);
+                return null;
+            }
+            return enums[index];
+        }
+
         int len = this.textForms.size();
         int start = status.getIndex();
         int end = parseable.length();
@@ -379,6 +396,35 @@ public final class TextAccessor {
 
     }
 
+    // liefert einen (nach Bedarf neu) vorkompilierten Matcher für die Textformen
+    private Matcher getMatcher(
+        Class<?> valueType,
+        boolean caseInsensitive,
+        boolean smart
+    ) {
+
+        int slot = (caseInsensitive ? 2 : 0) + (smart ? 1 : 0);
+        Matcher[] current = this.matchers;
+        Matcher matcher = current[slot];
+
+        if ((matcher == null) || (matcher.valueType != valueType)) {
+            matcher = new Matcher(this.textForms, valueType, caseInsensitive, smart);
+            Matcher[] copy = current.clone();
+            copy[slot] = matcher;
+            this.matchers = copy; // im Wettlauf schlimmstenfalls doppelt erzeugt
+        }
+
+        return matcher;
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V[] cast(Object[] enums) {
+
+        return (V[]) enums;
+
+    }
+
     private boolean compareIgnoreCase(char c1, char c2) {
 
         if (c1 >= 'a' && c1 <= 'z') {
@@ -401,4 +447,244 @@ public final class TextAccessor {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Vorkompilierter Trie aller Textformen eines Enum-Typs, der die
+     * Regeln der linearen Suche (Gro&szlig;-/Kleinschreibung, gesch&uuml;tzte
+     * Leerzeichen und die Variante &quot;Sept.&quot;/&quot;Sep.&quot;)
+     * bereits in seinen Schl&uuml;sseln abbildet. </p>
+     */
+    private static final class Matcher {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Class<?> valueType;
+        private final Object[] enums;
+        private final boolean caseInsensitive;
+        private final boolean smart;
+        private final Node root; // null, wenn der Trie nicht äquivalent wäre
+        private final boolean shortKeys;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Matcher(
+            List<String> textForms,
+            Class<?> valueType,
+            boolean caseInsensitive,
+            boolean smart
+        ) {
+            super();
+
+            Enum<?>[] constants = (Enum<?>[]) valueType.getEnumConstants();
+            int len = textForms.size();
+            boolean regular = true;
+            boolean shortKeys = false;
+
+            for (int i = 0; regular && (i < constants.length); i++) {
+                String s = ((i >= len) ? constants[i].name() : textForms.get(i));
+                if (s.length() <= 1) {
+                    shortKeys = true;
+                }
+                if (caseInsensitive) {
+                    for (int j = 0; j < s.length(); j++) {
+                        if (isIrregular(s.charAt(j))) {
+                            regular = false; // hier weicht compareIgnoreCase() von fold() ab
+                            break;
+                        }
+                    }
+                }
+            }
+
+            Node node = null;
+
+            if (regular) {
+                node = new Node();
+                for (int i = 0; i < constants.length; i++) {
+                    String s = ((i >= len) ? constants[i].name() : textForms.get(i));
+                    this.insert(node, s, i, caseInsensitive, smart);
+                    if (smart && (s.length() == 5) && (s.charAt(4) == '.')) {
+                        this.insert(node, s.substring(0, 3) + ".", i, caseInsensitive, smart);
+                    }
+                }
+            }
+
+            this.valueType = valueType;
+            this.enums = constants;
+            this.caseInsensitive = caseInsensitive;
+            this.smart = smart;
+            this.root = node;
+            this.shortKeys = shortKeys;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // liefert den Enum-Index oder einen negativen Wert, wenn nicht gefunden
+        int match(
+            CharSequence parseable,
+            int start,
+            boolean partialCompare,
+            ParsePosition status
+        ) {
+
+            int end = parseable.length();
+            Node node = this.root;
+            int pos = start;
+
+            if (partialCompare) {
+                while (pos < end) {
+                    Node next = node.child(fold(parseable.charAt(pos), this.caseInsensitive, this.smart));
+                    if (next == null) {
+                        break;
+                    }
+                    node = next;
+                    pos++;
+                }
+                if ((pos == start) || (node.unique < 0)) {
+                    return NONE;
+                }
+                status.setIndex(pos);
+                return node.unique;
+            }
+
+            int best = NONE;
+            int bestEnd = start;
+
+            while (true) {
+                if ((node.value != NONE) && ((best == NONE) || (node.value < best))) {
+                    best = node.value;
+                    bestEnd = pos;
+                }
+                if (pos >= end) {
+                    break;
+                }
+                node = node.child(fold(parseable.charAt(pos), this.caseInsensitive, this.smart));
+                if (node == null) {
+                    break;
+                }
+                pos++;
+            }
+
+            if (best != NONE) {
+                status.setIndex(bestEnd);
+            }
+
+            return best;
+
+        }
+
+        private void insert(
+            Node node,
+            String key,
+            int index,
+            boolean caseInsensitive,
+            boolean smart
+        ) {
+
+            node.register(index);
+
+            for (int j = 0; j < key.length(); j++) {
+                char c = fold(key.charAt(j), caseInsensitive, smart);
+                Node next = node.child(c);
+                if (next == null) {
+                    next = node.add(c);
+                }
+                node = next;
+                node.register(index);
+            }
+
+            if ((node.value == NONE) || (index < node.value)) {
+                node.value = index;
+            }
+
+        }
+
+        private static char fold(
+            char c,
+            boolean caseInsensitive,
+            boolean smart
+        ) {
+
+            if (smart && (c == PROTECTED_SPACE)) {
+                return ' ';
+            } else if (!caseInsensitive) {
+                return c;
+            } else if (c < 128) {
+                return (((c >= 'A') && (c <= 'Z')) ? (char) (c + 'a' - 'A') : c);
+            }
+
+            return Character.toLowerCase(Character.toUpperCase(c));
+
+        }
+
+        // Zeichen, bei denen der (asymmetrische) Vergleich compareIgnoreCase() nicht mit fold() übereinstimmt
+        private static boolean isIrregular(char c) {
+
+            if (c < 128) {
+                return false;
+            }
+
+            switch (c) {
+                case '\u0130':
+                case '\u0131':
+                case '\u03D1':
+                case '\u03F4':
+                    return true;
+                default:
+                    return (Character.toLowerCase(Character.toUpperCase(c)) < 128);
+            }
+
+        }
+
+    }
+
+    private static final class Node {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int value = NONE; // kleinster Enum-Index, dessen Textform hier endet
+        private int unique = NONE; // einziger Enum-Index im Teilbaum oder AMBIGUOUS
+
+        //~ Methoden ------------------------------------------------------
+
+        Node child(char c) {
+
+            char[] k = this.keys;
+
+            for (int i = 0; i < k.length; i++) {
+                if (k[i] == c) {
+                    return this.children[i];
+                }
+            }
+
+            return null;
+
+        }
+
+        Node add(char c) {
+
+            int n = this.keys.length;
+            this.keys = Arrays.copyOf(this.keys, n + 1);
+            this.children = Arrays.copyOf(this.children, n + 1);
+            this.keys[n] = c;
+            this.children[n] = new Node();
+            return this.children[n];
+
+        }
+
+        void register(int index) {
+
+            if (this.unique == NONE) {
+                this.unique = index;
+            } else if (this.unique != index) {
+                this.unique = AMBIGUOUS;
+            }
+
+        }
+
+    }
+
 }
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (TimeSpanFormatter.java) is part of project Time4J.
  *
@@ -26,6 +26,8 @@ import net.time4j.engine.TimeSpan;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -38,6 +40,10 @@ import java.util.Map;
  * <p>Represents a non-localized and user-defined format for timespans based on a
  * pattern containing some standard symbols and literals. </p>
  *
+ * <p>The pattern is compiled once during construction: Every distinct unit of the pattern
+ * gets a fixed index so that printing queries the amount of every unit only once per
+ * timespan and parsing collects the values in a primitive array instead of a map. </p>
+ *
  * @param   <U> generic type of time units
  * @param   <S> generic type of supported timespan
  * @since   3.26/4.22
@@ -46,6 +52,11 @@ import java.util.Map;
  * <p>Nicht-lokalisiertes benutzerdefiniertes Zeitspannenformat, das auf
  * Symbolmustern beruht. </p>
  *
+ * <p>Das Formatmuster wird einmalig bei der Konstruktion kompiliert: Jede verschiedene
+ * Zeiteinheit des Musters erh&auml;lt einen festen Index, so da&szlig; die Formatierung
+ * den Betrag jeder Einheit nur einmal pro Zeitspanne abfragt und die Interpretation die
+ * Werte in einem primitiven Array statt in einer {@code Map} sammelt. </p>
+ *
  * @param   <U> generic type of time units
  * @param   <S> generic type of supported timespan
  * @since   3.26/4.22
@@ -54,13 +65,15 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final Object SIGN_KEY = new Object();
+    private static final int SIGN_INDEX = 0; // Einheiten ab Index 1
+    private static final long UNSET = Long.MIN_VALUE;
 
     //~ Instanzvariablen --------------------------------------------------
 
     private final Class<U> type;
     private final List<FormatItem<U>> items;
     private final String pattern;
+    private final List<U> units; // Einheit mit Index i + 1
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -91,6 +104,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         int n = pattern.length();
         List<List<FormatItem<U>>> stack = new ArrayList<>();
         stack.add(new ArrayList<>());
+        List<U> units = new ArrayList<>();
         int digits = 0;
 
         for (int i = 0; i < n; i++) {
@@ -103,7 +117,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 while ((i < n) && pattern.charAt(i) == c) {
                     i++;
                 }
-                this.addSymbol(c, i - start, digits, stack);
+                this.addSymbol(c, i - start, digits, stack, units);
                 digits = 0;
                 i--;
             } else if (digits > 0) {
@@ -147,7 +161,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 while ((i < n) && pattern.charAt(i) != '}') {
                     i++;
                 }
-                this.addPluralItem(pattern.substring(start, i), stack);
+                this.addPluralItem(pattern.substring(start, i), stack, units);
             } else if (c == '|') {
                 lastOn(stack).add(OrItem.getInstance());
             } else {
@@ -186,6 +200,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         this.type = type;
         this.items = Collections.unmodifiableList(items);
         this.pattern = pattern;
+        this.units = Collections.unmodifiableList(units);
 
     }
 
@@ -278,15 +293,67 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         Appendable buffer
     ) throws IOException {
 
+        long[] values = new long[this.units.size() + 1];
+        values[SIGN_INDEX] = (duration.isNegative() ? -1 : 1);
+
+        for (int i = 1; i < values.length; i++) {
+            values[i] = duration.getPartialAmount(this.units.get(i - 1));
+        }
+
         for (FormatItem<U> item : this.items) {
             if (item == OrItem.INSTANCE) {
                 break;
             }
-            item.print(duration, buffer);
+            item.print(duration, values, buffer);
         }
 
     }
 
+    /**
+     * <p>Creates a textual output for every given duration. </p>
+     *
+     * <p>All durations are printed into one internal buffer which is reused for the
+     * whole collection. </p>
+     *
+     * @param   durations   collection of duration objects
+     * @return  unmodifiable list of textual representations in iteration order
+     * @throws	IllegalArgumentException if some aspects of any duration
+     *          prevents printing (for example too many nanoseconds)
+     * @see     #format(TimeSpan)
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine textuelle Ausgabe f&uuml;r jede angegebene Dauer. </p>
+     *
+     * <p>Alle Dauern werden in einen internen Puffer geschrieben, der f&uuml;r die
+     * ganze Sammlung wiederverwendet wird. </p>
+     *
+     * @param   durations   collection of duration objects
+     * @return  unmodifiable list of textual representations in iteration order
+     * @throws	IllegalArgumentException if some aspects of any duration
+     *          prevents printing (for example too many nanoseconds)
+     * @see     #format(TimeSpan)
+     * @since   5.8
+     */
+    public List<String> formatAll(Collection<? extends TimeSpan<? super U>> durations) {
+
+        List<String> result = new ArrayList<>(durations.size());
+        StringBuilder buffer = new StringBuilder();
+
+        try {
+            for (TimeSpan<? super U> duration : durations) {
+                buffer.setLength(0);
+                this.print(duration, buffer);
+                result.add(buffer.toString());
+            }
+        } catch (IOException ex) {
+            throw new AssertionError(ex); // should never happen
+        }
+
+        return Collections.unmodifiableList(result);
+
+    }
+
     /**
      * <p>Equivalent to {@code parse(text, 0)}. </p>
      *
@@ -332,8 +399,99 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         int offset
     ) throws ParseException {
 
+        return this.parse(text, offset, new long[this.units.size() + 1]);
+
+    }
+
+    /**
+     * <p>Parses every given text completely to a duration. </p>
+     *
+     * <p>The internal array of parsed unit values is reused for the whole collection. </p>
+     *
+     * @param   texts   collection of custom textual representations to be parsed
+     * @return  unmodifiable list of parsed durations in iteration order
+     * @throws	ParseException if any text cannot be parsed (the error offset refers to the failed text)
+     * @see     #parse(CharSequence)
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Interpretiert jeden angegebenen Text vollst&auml;ndig als Dauer. </p>
+     *
+     * <p>Das interne Array der interpretierten Einheitswerte wird f&uuml;r die ganze
+     * Sammlung wiederverwendet. </p>
+     *
+     * @param   texts   collection of custom textual representations to be parsed
+     * @return  unmodifiable list of parsed durations in iteration order
+     * @throws	ParseException if any text cannot be parsed (the error offset refers to the failed text)
+     * @see     #parse(CharSequence)
+     * @since   5.8
+     */
+    public List<S> parseAll(Collection<? extends CharSequence> texts) throws ParseException {
+
+        List<S> result = new ArrayList<>(texts.size());
+        long[] values = new long[this.units.size() + 1];
+        int index = 0;
+
+        for (CharSequence text : texts) {
+            try {
+                result.add(this.parse(text, 0, values));
+            } catch (ParseException pe) {
+                ParseException ex =
+                    new ParseException("Element " + index + ": " + pe.getMessage(), pe.getErrorOffset());
+                ex.initCause(pe);
+                throw ex;
+            }
+            index++;
+        }
+
+        return Collections.unmodifiableList(result);
+
+    }
+
+    /**
+     * <p>Used during parsing. </p>
+     *
+     * @param   map         map containing unit-to-value-associations
+     * @param   negative    sign information of parsed timespan
+     * @return  resulting timespan
+     */
+    /*[deutsch]
+     * <p>Verwendet, wenn ein Text zu einer Zeitspanne interpretiert wird. </p>
+     *
+     * @param   map         map containing unit-to-value-associations
+     * @param   negative    sign information of parsed timespan
+     * @return  resulting timespan
+     */
+    protected abstract S convert(Map<U, Long> map, boolean negative);
+
+    /**
+     * <p>Associates a pattern symbol with the amount in some temporal unit. </p>
+     *
+     * <p>The character &quot;f&quot; must be associated with the nanosecond unit. </p>
+     *
+     * @param   symbol      pattern symbol
+     * @return  resulting time unit
+     * @throws  IllegalArgumentException if the symbol is not adequate for the underlying unit type
+     */
+    /*[deutsch]
+     * <p>Assoziiert ein Formatmustersymbol mit dem Betrag in einer bestimmten Zeiteinheit. </p>
+     *
+     * <p>Das Zeichen &quot;f&quot; mu&szlig; immer mit der Nanosekundeneinheit assoziiert sein. </p>
+     *
+     * @param   symbol      pattern symbol
+     * @return  resulting time unit
+     * @throws  IllegalArgumentException if the symbol is not adequate for the underlying unit type
+     */
+    protected abstract U getUnit(char symbol);
+
+    private S parse(
+        CharSequence text,
+        int offset,
+        long[] values
+    ) throws ParseException {
+
         int pos = offset;
-        Map<Object, Long> unitsToValues = new HashMap<>();
+        Arrays.fill(values, UNSET);
 
         for (int i = 0, n = this.items.size(); i < n; i++) {
             FormatItem<U> item = this.items.get(i);
@@ -342,7 +500,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 break;
             }
 
-            int reply = item.parse(unitsToValues, text, pos);
+            int reply = item.parse(values, text, pos);
 
             if (reply < 0) {
                 int found = -1;
@@ -355,7 +513,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 if (found == -1) {
                     throw new ParseException("Cannot parse: " + text, ~reply);
                 } else {
-                    unitsToValues.clear();
+                    Arrays.fill(values, UNSET);
                     i = found;
                 }
             } else {
@@ -374,16 +532,18 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 pos);
         }
 
-        Long sign = unitsToValues.remove(SIGN_KEY);
-        boolean negative = ((sign != null) && (sign.longValue() < 0));
+        boolean negative = (values[SIGN_INDEX] == -1);
         Map<U, Long> map = new HashMap<>();
 
-        for (Object key : unitsToValues.keySet()) {
-            if (this.type.isInstance(key)) {
-                map.put(this.type.cast(key), unitsToValues.get(key));
-            } else {
-                throw new ParseException(
-                    "Duration type mismatched: " + unitsToValues, pos);
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] != UNSET) {
+                U unit = this.units.get(i - 1);
+                if (this.type.isInstance(unit)) {
+                    map.put(unit, Long.valueOf(values[i]));
+                } else {
+                    throw new ParseException(
+                        "Duration type mismatched: " + unit, pos);
+                }
             }
         }
 
@@ -391,42 +551,6 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
     }
 
-    /**
-     * <p>Used during parsing. </p>
-     *
-     * @param   map         map containing unit-to-value-associations
-     * @param   negative    sign information of parsed timespan
-     * @return  resulting timespan
-     */
-    /*[deutsch]
-     * <p>Verwendet, wenn ein Text zu einer Zeitspanne interpretiert wird. </p>
-     *
-     * @param   map         map containing unit-to-value-associations
-     * @param   negative    sign information of parsed timespan
-     * @return  resulting timespan
-     */
-    protected abstract S convert(Map<U, Long> map, boolean negative);
-
-    /**
-     * <p>Associates a pattern symbol with the amount in some temporal unit. </p>
-     *
-     * <p>The character &quot;f&quot; must be associated with the nanosecond unit. </p>
-     *
-     * @param   symbol      pattern symbol
-     * @return  resulting time unit
-     * @throws  IllegalArgumentException if the symbol is not adequate for the underlying unit type
-     */
-    /*[deutsch]
-     * <p>Assoziiert ein Formatmustersymbol mit dem Betrag in einer bestimmten Zeiteinheit. </p>
-     *
-     * <p>Das Zeichen &quot;f&quot; mu&szlig; immer mit der Nanosekundeneinheit assoziiert sein. </p>
-     *
-     * @param   symbol      pattern symbol
-     * @return  resulting time unit
-     * @throws  IllegalArgumentException if the symbol is not adequate for the underlying unit type
-     */
-    protected abstract U getUnit(char symbol);
-
     private static boolean isSymbol(char c) {
 
         return (((c >= 'A') && (c <= 'Z')) || ((c >= 'a') && (c <= 'z')));
@@ -437,22 +561,40 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         char symbol,
         int count,
         int digits,
-        List<List<FormatItem<U>>> stack
+        List<List<FormatItem<U>>> stack,
+        List<U> units
     ) {
 
         U unit = this.getUnit(symbol);
+        int index = indexOf(unit, units);
         List<FormatItem<U>> items = stack.get(stack.size() - 1);
 
         if (symbol == 'f') {
             if (digits > 0) {
                 throw new IllegalArgumentException("Combination of # and f-symbol not allowed.");
             } else {
-                items.add(new FractionItem<>(0, count, this.getUnit(symbol)));
+                items.add(new FractionItem<>(0, count, unit, index));
             }
         } else {
-            items.add(new NumberItem<>(0, count, count + digits, unit));
+            items.add(new NumberItem<>(0, count, count + digits, unit, index));
+        }
+
+    }
+
+    private static <U> int indexOf(
+        U unit,
+        List<U> units
+    ) {
+
+        int index = units.indexOf(unit);
+
+        if (index == -1) {
+            index = units.size();
+            units.add(unit);
         }
 
+        return index + 1;
+
     }
 
     private void addLiteral(
@@ -475,7 +617,8 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
     private void addPluralItem(
         String pluralInfo,
-        List<List<FormatItem<U>>> stack
+        List<List<FormatItem<U>>> stack,
+        List<U> units
     ) {
 
         String[] parts = pluralInfo.split(":");
@@ -538,7 +681,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 "Missing plural category OTHER: " + pluralInfo);
         }
 
-        lastOn(stack).add(new PluralItem<>(unit, parts[1], rules, pluralForms));
+        lastOn(stack).add(new PluralItem<>(unit, indexOf(unit, units), parts[1], rules, pluralForms));
 
     }
 
@@ -587,17 +730,19 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
         //~ Methoden ------------------------------------------------------
 
-        boolean isZero(TimeSpan<? super U> duration) {
+        boolean isZero(long[] values) {
             return true;
         }
 
+        // duration nur für Fehlermeldungen, die Beträge stehen in values
         abstract void print(
             TimeSpan<? super U> duration,
+            long[] values,
             Appendable buffer
         ) throws IOException;
 
         abstract int parse(
-            Map<Object, Long> unitsToValues,
+            long[] values,
             CharSequence text,
             int pos
         );
@@ -620,6 +765,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         private final int minWidth;
         private final int maxWidth;
         private final U unit;
+        private final int index;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -627,7 +773,8 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
             int reserved,
             int minWidth,
             int maxWidth,
-            U unit
+            U unit,
+            int index
         ) {
             super(reserved);
 
@@ -644,6 +791,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
             this.minWidth = minWidth;
             this.maxWidth = maxWidth;
             this.unit = unit;
+            this.index = index;
 
         }
 
@@ -652,26 +800,44 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         void print(
             TimeSpan<? super U> duration,
+            long[] values,
             Appendable buffer
         ) throws IOException {
 
-            String num = String.valueOf(this.getAmount(duration));
+            long amount = values[this.index];
+
+            if (amount < 0) {
+                throw new IllegalArgumentException("Negative amount for: " + this.unit + " [" + duration + "]");
+            }
+
+            int len = 1;
+            long divisor = 1;
+
+            while (divisor <= amount / 10) {
+                divisor *= 10;
+                len++;
+            }
 
-            if (num.length() > this.maxWidth) {
+            if (len > this.maxWidth) {
                 throw new IllegalArgumentException("Too many digits for: " + this.unit + " [" + duration + "]");
             }
 
-            for (int i = this.minWidth - num.length(); i > 0; i--) {
+            for (int i = this.minWidth - len; i > 0; i--) {
                 buffer.append('0');
             }
 
-            buffer.append(num);
+            do {
+                int digit = (int) (amount / divisor);
+                buffer.append((char) ('0' + digit));
+                amount -= digit * divisor;
+                divisor /= 10;
+            } while (divisor > 0);
 
         }
 
         @Override
         int parse(
-            Map<Object, Long> unitsToValues,
+            long[] values,
             CharSequence text,
             int start
         ) {
@@ -697,10 +863,10 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 return ~start; // digits expected
             }
 
-            Long value = Long.valueOf(total);
-            Object old = unitsToValues.put(this.unit, value);
+            long old = values[this.index];
+            values[this.index] = total;
 
-            if ((old == null) || old.equals(value)) {
+            if ((old == UNSET) || (old == total)) {
                 return pos;
             } else {
                 return ~start; // ambivalent parsing
@@ -718,26 +884,20 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         FormatItem<U> update(int reserved) {
 
-            return new NumberItem<>(reserved, this.minWidth, this.maxWidth, this.unit);
+            return new NumberItem<>(reserved, this.minWidth, this.maxWidth, this.unit, this.index);
 
         }
 
         @Override
-        boolean isZero(TimeSpan<? super U> duration) {
+        boolean isZero(long[] values) {
 
-            return (this.getAmount(duration) == 0);
+            return (values[this.index] == 0);
 
         }
 
-        long getAmount(TimeSpan<? super U> duration) {
+        int getIndex() {
 
-            return duration.getPartialAmount(this.unit);
-
-        }
-
-        U getUnit() {
-
-            return this.unit;
+            return this.index;
 
         }
 
@@ -750,13 +910,15 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
         private final int width;
         private final U nanosecond;
+        private final int index;
 
         //~ Konstruktoren -------------------------------------------------
 
         private FractionItem(
             int reserved,
             int width,
-            U nanosecond
+            U nanosecond,
+            int index
         ) {
             super(reserved);
 
@@ -767,6 +929,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
             this.width = width;
             this.nanosecond = nanosecond;
+            this.index = index;
 
         }
 
@@ -775,36 +938,34 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         void print(
             TimeSpan<? super U> duration,
+            long[] values,
             Appendable buffer
         ) throws IOException {
 
-            String num = String.valueOf(duration.getPartialAmount(this.nanosecond));
-            int len = num.length();
+            long nanos = values[this.index];
 
-            if (len > 9) {
+            if ((nanos < 0) || (nanos >= 1_000_000_000L)) {
                 throw new IllegalArgumentException(
                     "Too many nanoseconds, consider normalization: " + duration);
             }
 
-            StringBuilder sb = new StringBuilder();
+            int divisor = 100_000_000;
 
-            for (int i = 0; i < 9 - len; i++) {
-                sb.append('0');
+            for (int i = 0; i < this.width; i++) {
+                buffer.append((char) ('0' + (nanos / divisor) % 10));
+                divisor /= 10;
             }
 
-            sb.append(num);
-            buffer.append(sb.toString().substring(0, this.width));
-
         }
 
         @Override
         int parse(
-            Map<Object, Long> unitsToValues,
+            long[] values,
             CharSequence text,
             int start
         ) {
 
-            StringBuilder fraction = new StringBuilder();
+            long fraction = 0;
             int pos = start;
 
             for (
@@ -814,7 +975,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
             ) {
                 char c = text.charAt(i);
                 if ((c >= '0') && (c <= '9')) {
-                    fraction.append(c);
+                    fraction = fraction * 10 + (c - '0');
                     pos++;
                 } else {
                     break;
@@ -826,13 +987,13 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
             }
 
             for (int i = 0, n = pos - start; i < 9 - n; i++) {
-                fraction.append('0');
+                fraction *= 10;
             }
 
-            Long value = Long.valueOf(Long.parseLong(fraction.toString()));
-            Object old = unitsToValues.put(this.nanosecond, value);
+            long old = values[this.index];
+            values[this.index] = fraction;
 
-            if ((old == null) || old.equals(value)) {
+            if ((old == UNSET) || (old == fraction)) {
                 return pos;
             } else {
                 return ~start; // ambivalent parsing
@@ -850,14 +1011,14 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         FormatItem<U> update(int reserved) {
 
-            return new FractionItem<>(reserved, this.width, this.nanosecond);
+            return new FractionItem<>(reserved, this.width, this.nanosecond, this.index);
 
         }
 
         @Override
-        boolean isZero(TimeSpan<? super U> duration) {
+        boolean isZero(long[] values) {
 
-            return (duration.getPartialAmount(this.nanosecond) == 0);
+            return (values[this.index] == 0);
 
         }
 
@@ -878,13 +1039,14 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
         private PluralItem(
             U unit,
+            int index,
             String separator,
             PluralRules rules,
             Map<PluralCategory, String> pluralForms
         ) {
             super(0);
 
-            this.numItem = new NumberItem<>(0, 1, 18, unit);
+            this.numItem = new NumberItem<>(0, 1, 18, unit, index);
             this.sepItem = new LiteralItem<>(separator, true);
             this.rules = rules;
             this.pluralForms = pluralForms;
@@ -924,37 +1086,38 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         void print(
             TimeSpan<? super U> duration,
+            long[] values,
             Appendable buffer
         ) throws IOException {
 
-            this.numItem.print(duration, buffer);
-            this.sepItem.print(duration, buffer);
-            PluralCategory category = this.rules.getCategory(this.numItem.getAmount(duration));
+            this.numItem.print(duration, values, buffer);
+            this.sepItem.print(duration, values, buffer);
+            PluralCategory category = this.rules.getCategory(values[this.numItem.getIndex()]);
             buffer.append(this.pluralForms.get(category));
 
         }
 
         @Override
         int parse(
-            Map<Object, Long> unitsToValues,
+            long[] values,
             CharSequence text,
             int pos
         ) {
 
             int start = pos;
-            pos = this.numItem.parse(unitsToValues, text, pos);
+            pos = this.numItem.parse(values, text, pos);
 
             if (pos < 0) {
                 return pos;
             }
 
-            pos = this.sepItem.parse(unitsToValues, text, pos);
+            pos = this.sepItem.parse(values, text, pos);
 
             if (pos < 0) {
                 return pos;
             }
 
-            long value = unitsToValues.get(this.numItem.getUnit()).longValue();
+            long value = values[this.numItem.getIndex()];
             String s = this.pluralForms.get(this.rules.getCategory(value));
             int n = s.length();
 
@@ -988,9 +1151,9 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         }
 
         @Override
-        boolean isZero(TimeSpan<? super U> duration) {
+        boolean isZero(long[] values) {
 
-            return this.numItem.isZero(duration);
+            return this.numItem.isZero(values);
 
         }
 
@@ -1031,6 +1194,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         void print(
             TimeSpan<? super U> duration,
+            long[] values,
             Appendable buffer
         ) throws IOException {
 
@@ -1040,7 +1204,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
         @Override
         int parse(
-            Map<Object, Long> unitsToValues,
+            long[] values,
             CharSequence text,
             int start
         ) {
@@ -1101,6 +1265,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         void print(
             TimeSpan<? super U> duration,
+            long[] values,
             Appendable buffer
         ) throws IOException {
 
@@ -1110,7 +1275,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
         @Override
         int parse(
-            Map<Object, Long> unitsToValues,
+            long[] values,
             CharSequence text,
             int start
         ) {
@@ -1178,6 +1343,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         void print(
             TimeSpan<? super U> duration,
+            long[] values,
             Appendable buffer
         ) throws IOException {
 
@@ -1187,7 +1353,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
         @Override
         int parse(
-            Map<Object, Long> unitsToValues,
+            long[] values,
             CharSequence text,
             int start
         ) {
@@ -1255,12 +1421,15 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         void print(
             TimeSpan<? super U> duration,
+            long[] values,
             Appendable buffer
         ) throws IOException {
 
+            boolean negative = (values[SIGN_INDEX] < 0);
+
             if (this.always) {
-                buffer.append(duration.isNegative() ? '-' : '+');
-            } else if (duration.isNegative()) {
+                buffer.append(negative ? '-' : '+');
+            } else if (negative) {
                 buffer.append('-');
             }
 
@@ -1268,7 +1437,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
         @Override
         int parse(
-            Map<Object, Long> unitsToValues,
+            long[] values,
             CharSequence text,
             int start
         ) {
@@ -1277,8 +1446,9 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 if (this.always) {
                     return ~start; // sign expected
                 } else {
-                    Long old = unitsToValues.put(SIGN_KEY, Long.valueOf(1));
-                    if ((old != null) && (old.longValue() != 1)) {
+                    long old = values[SIGN_INDEX];
+                    values[SIGN_INDEX] = 1;
+                    if ((old != UNSET) && (old != 1)) {
                         return ~start; // mixed signs
                     }
                     return start;
@@ -1286,14 +1456,14 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
             }
 
             char c = text.charAt(start);
-            Long sign = Long.valueOf(1);
+            long sign = 1;
             int ret = start;
 
             if (this.always) {
                 if (c == '+') {
                     ret = start + 1;
                 } else if (c == '-') {
-                    sign = Long.valueOf(-1);
+                    sign = -1;
                     ret = start + 1;
                 } else {
                     return ~start; // sign expected
@@ -1302,14 +1472,15 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 if (c == '+') {
                     return ~start; // positive sign not allowed
                 } else if (c == '-') {
-                    sign = Long.valueOf(-1);
+                    sign = -1;
                     ret = start + 1;
                 }
             }
 
-            Long old = unitsToValues.put(SIGN_KEY, sign);
+            long old = values[SIGN_INDEX];
+            values[SIGN_INDEX] = sign;
 
-            if ((old != null) && (old.longValue() != sign.longValue())) {
+            if ((old != UNSET) && (old != sign)) {
                 return ~start; // mixed signs
             }
 
@@ -1362,15 +1533,16 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         @Override
         void print(
             TimeSpan<? super U> duration,
+            long[] values,
             Appendable buffer
         ) throws IOException {
 
-            if (!this.isZero(duration)) {
+            if (!this.isZero(values)) {
                 for (FormatItem<U> item : this.items) {
                     if (item == OrItem.INSTANCE) {
                         break;
                     }
-                    item.print(duration, buffer);
+                    item.print(duration, values, buffer);
                 }
             }
 
@@ -1378,13 +1550,14 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
 
         @Override
         int parse(
-            Map<Object, Long> unitsToValues,
+            long[] values,
             CharSequence text,
             int start
         ) {
 
             int pos = start;
-            Map<Object, Long> store = new HashMap<>();
+            long[] store = new long[values.length];
+            Arrays.fill(store, UNSET);
 
             for (int i = 0, n = this.items.size(); i < n; i++) {
                 FormatItem<U> item = this.items.get(i);
@@ -1406,7 +1579,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                     if (found == -1) {
                         return start;
                     } else {
-                        store.clear();
+                        Arrays.fill(store, UNSET);
                         i = found;
                     }
                 } else {
@@ -1414,7 +1587,12 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
                 }
             }
 
-            unitsToValues.putAll(store);
+            for (int i = 0; i < store.length; i++) {
+                if (store[i] != UNSET) {
+                    values[i] = store[i];
+                }
+            }
+
             return pos;
 
         }
@@ -1443,10 +1621,10 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         }
 
         @Override
-        boolean isZero(TimeSpan<? super U> duration) {
+        boolean isZero(long[] values) {
 
             for (FormatItem<U> item : this.items) {
-                if (!item.isZero(duration)) {
+                if (!item.isZero(values)) {
                     return false;
                 }
             }
@@ -0,0 +1,181 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ElementBinding.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.ZonalDateTime;
+import net.time4j.engine.ChronoDisplay;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.Chronology;
+import net.time4j.engine.ElementRule;
+import net.time4j.engine.IntElementRule;
+
+
+/**
+ * <p>Vorab an die Chronologie eines Formatierers gebundene Elementregel, die beim Formatieren
+ * die Elementwerte direkt ohne Regelsuche und f&uuml;r int-Elemente ohne Boxing liest. </p>
+ *
+ * <p>Unterst&uuml;tzt werden nur die Standardtypen {@code PlainDate}, {@code PlainTime},
+ * {@code PlainTimestamp} und {@code Moment} (letzterer &uuml;ber die zonale Sicht als
+ * {@code ZonalDateTime}). Passt das zu formatierende Objekt nicht zur Bindung, wird auf
+ * den normalen Elementzugriff zur&uuml;ckgegriffen. </p>
+ *
+ * @param   <V> generic type of element values
+ * @author  Meno Hochschild
+ * @since   5.8
+ */
+final class ElementBinding<V> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ChronoElement<V> element;
+    private final Class<?> chronoType;
+    private final boolean zonal;
+    private final ElementRule<Object, V> rule;
+    private final IntElementRule<Object> intRule;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private ElementBinding(
+        ChronoElement<V> element,
+        Class<?> chronoType,
+        boolean zonal,
+        ElementRule<?, ?> rule
+    ) {
+        super();
+
+        this.element = element;
+        this.chronoType = chronoType;
+        this.zonal = zonal;
+        this.rule = (ElementRule<Object, V>) rule;
+        this.intRule = (
+            ((element.getType() == Integer.class) && (rule instanceof IntElementRule))
+            ? (IntElementRule<Object>) rule
+            : null);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Bindet die Regel des angegebenen Elements an die Chronologie des Formatierers. </p>
+     *
+     * @param   formatter   formatter whose chronology is used for binding
+     * @param   element     element to be bound
+     * @return  new binding or {@code null} if not applicable
+     */
+    static <V> ElementBinding<V> bind(
+        ChronoFormatter<?> formatter,
+        ChronoElement<V> element
+    ) {
+
+        Chronology<?> chronology = formatter.getChronology();
+        boolean zonal = false;
+
+        if (chronology == Moment.axis()) {
+            if (element == PlainTime.SECOND_OF_MINUTE) {
+                return null; // leap second handling in ZonalDateTime
+            }
+            chronology = PlainTimestamp.axis();
+            zonal = true;
+        } else if (
+            (chronology != PlainDate.axis())
+            && (chronology != PlainTime.axis())
+            && (chronology != PlainTimestamp.axis())
+        ) {
+            return null;
+        }
+
+        int index = chronology.getElementIndex(element);
+
+        if (index == -1) {
+            return null;
+        }
+
+        return new ElementBinding<>(element, chronology.getChronoType(), zonal, chronology.getRule(index));
+
+    }
+
+    /**
+     * <p>Liefert den Elementwert als {@code int}. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @return  element value or {@code Integer.MIN_VALUE} if not available
+     */
+    @SuppressWarnings("unchecked")
+    int getInt(ChronoDisplay formattable) {
+
+        Object entity = this.unwrap(formattable);
+
+        if (entity == null) {
+            return formattable.getInt((ChronoElement<Integer>) this.element);
+        }
+
+        try {
+            if (this.intRule == null) {
+                return Integer.class.cast(this.rule.getValue(entity)).intValue();
+            } else {
+                return this.intRule.getInt(entity);
+            }
+        } catch (ChronoException ex) {
+            return Integer.MIN_VALUE;
+        }
+
+    }
+
+    /**
+     * <p>Liefert den Elementwert. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @return  element value
+     * @throws  ChronoException if the value is not available
+     */
+    V getValue(ChronoDisplay formattable) {
+
+        Object entity = this.unwrap(formattable);
+
+        if (entity == null) {
+            return formattable.get(this.element);
+        }
+
+        return this.rule.getValue(entity);
+
+    }
+
+    private Object unwrap(ChronoDisplay formattable) {
+
+        if (formattable.getClass() == this.chronoType) {
+            return formattable;
+        } else if (this.zonal && (formattable instanceof ZonalDateTime)) {
+            return ZonalDateTime.class.cast(formattable).toTimestamp();
+        }
+
+        return null;
+
+    }
+
+}
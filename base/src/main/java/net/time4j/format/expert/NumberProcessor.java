@@ -65,6 +65,7 @@ class NumberProcessor<V>
 
     // high-speed optimization
     private final boolean fixedInt;
+    private final ElementBinding<V> binding;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -89,7 +90,7 @@ class NumberProcessor<V>
     ) {
         this(
             element, fixedWidth, minDigits, maxDigits, signPolicy, protectedMode,
-            0, '0', NumberSystem.ARABIC, Leniency.SMART, 0, false);
+            0, '0', NumberSystem.ARABIC, Leniency.SMART, 0, false, null);
 
     }
 
@@ -105,7 +106,8 @@ class NumberProcessor<V>
         NumberSystem numberSystem,
         Leniency lenientMode,
         int protectedLength,
-        boolean fixedInt
+        boolean fixedInt,
+        ElementBinding<V> binding
     ) {
         super();
 
@@ -116,6 +118,7 @@ class NumberProcessor<V>
         this.signPolicy = signPolicy;
         this.protectedMode = protectedMode;
         this.fixedInt = fixedInt;
+        this.binding = binding;
 
         if (element == null) {
             throw new NullPointerException("Missing element.");
@@ -190,7 +193,7 @@ class NumberProcessor<V>
         }
 
         if (quickPath && this.fixedInt) {
-            int v = formattable.getInt((ChronoElement<Integer>) this.element);
+            int v = this.getInt(formattable);
             if (v < 0) {
                 if (v == Integer.MIN_VALUE) {
                     return -1; // we hope for or-alternative in next steps
@@ -242,7 +245,7 @@ class NumberProcessor<V>
             int count;
 
             if (type == Integer.class) {
-                int v = formattable.getInt((ChronoElement<Integer>) this.element);
+                int v = this.getInt(formattable);
                 if (v == Integer.MIN_VALUE) {
                     return -1;
                 }
@@ -250,7 +253,7 @@ class NumberProcessor<V>
                 x = Math.abs(v);
                 count = length(x);
             } else if (type == Long.class) {
-                V value = formattable.get(this.element);
+                V value = this.getValue(formattable);
                 long v = Long.class.cast(value).longValue();
                 negative = (v < 0);
                 digits = (
@@ -264,7 +267,7 @@ class NumberProcessor<V>
             } else if (Enum.class.isAssignableFrom(type)) {
                 int v = Integer.MIN_VALUE;
                 if (this.element instanceof NumericalElement) {
-                    v = enumToInt(element, formattable, attributes);
+                    v = enumToInt(element, this.getValue(formattable), formattable, attributes);
                     negative = (v < 0);
                 }
                 if (v == Integer.MIN_VALUE) {
@@ -779,7 +782,8 @@ class NumberProcessor<V>
             numsys,
             attributes.get(Attributes.LENIENCY, Leniency.SMART),
             plen,
-            hasFixedInt
+            hasFixedInt,
+            ElementBinding.bind(formatter, this.element)
         );
 
     }
@@ -830,12 +834,33 @@ class NumberProcessor<V>
     @SuppressWarnings("unchecked")
     private static <V extends Enum<V>> int enumToInt(
         ChronoElement<?> element,
+        Object value,
         ChronoDisplay formattable,
         AttributeQuery attributes
     ) {
 
-        V value = (V) formattable.get(element);
-        return ((NumericalElement<V>) element).printToInt(value, formattable, attributes);
+        return ((NumericalElement<V>) element).printToInt((V) value, formattable, attributes);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private int getInt(ChronoDisplay formattable) {
+
+        if (this.binding == null) {
+            return formattable.getInt((ChronoElement<Integer>) this.element);
+        } else {
+            return this.binding.getInt(formattable);
+        }
+
+    }
+
+    private V getValue(ChronoDisplay formattable) {
+
+        if (this.binding == null) {
+            return formattable.get(this.element);
+        } else {
+            return this.binding.getValue(formattable);
+        }
 
     }
 
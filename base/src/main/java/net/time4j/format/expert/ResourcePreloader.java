@@ -0,0 +1,377 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ResourcePreloader.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.PrettyTime;
+import net.time4j.Weekmodel;
+import net.time4j.format.CalendarText;
+import net.time4j.format.NumberType;
+import net.time4j.format.PluralRules;
+import net.time4j.format.TextWidth;
+import net.time4j.tz.NameStyle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+
+/**
+ * <p>Loads localized format resources in advance in order to avoid latency spikes when a locale
+ * is used for the first time. </p>
+ *
+ * <p>Applications (for example server applications before taking any traffic) can warm up the
+ * internal caches of Time4J at startup by help of this class. For every configured locale, following
+ * resources will be loaded: </p>
+ *
+ * <ul>
+ *     <li>calendar texts (names of months, weekdays, eras etc.) for all configured calendar types</li>
+ *     <li>cardinal and ordinal plural rules</li>
+ *     <li>week model</li>
+ *     <li>unit patterns used by {@code PrettyTime} and duration formatting</li>
+ *     <li>prefix trees of timezone names for all configured name styles as used in parsing</li>
+ * </ul>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *     ExecutorService executor = Executors.newFixedThreadPool(4);
+ *     Map&lt;String, Long&gt; loadTimes =
+ *          ResourcePreloader.of(Locale.GERMANY, Locale.US)
+ *              .withCalendarTypes(CalendarText.ISO_CALENDAR_TYPE, &quot;islamic&quot;)
+ *              .withZoneNames(NameStyle.SHORT_STANDARD_TIME, NameStyle.LONG_GENERIC_TIME)
+ *              .preload(executor)
+ *              .join();
+ *     executor.shutdown();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>L&auml;dt lokalisierte Formatressourcen vorab, um Latenzspitzen bei der ersten Verwendung
+ * einer Sprache zu vermeiden. </p>
+ *
+ * <p>Anwendungen (zum Beispiel Server-Anwendungen, bevor sie Anfragen entgegennehmen) k&ouml;nnen
+ * mit Hilfe dieser Klasse die internen Caches von Time4J beim Start vorw&auml;rmen. F&uuml;r jede
+ * konfigurierte Sprache werden folgende Ressourcen geladen: </p>
+ *
+ * <ul>
+ *     <li>Kalendertexte (Namen von Monaten, Wochentagen, &Auml;ras usw.) f&uuml;r alle konfigurierten
+ *     Kalendertypen</li>
+ *     <li>Pluralregeln f&uuml;r Kardinal- und Ordinalzahlen</li>
+ *     <li>Wochenmodell</li>
+ *     <li>Einheitenmuster, die von {@code PrettyTime} und der Dauerformatierung verwendet werden</li>
+ *     <li>Pr&auml;fixb&auml;ume von Zeitzonennamen f&uuml;r alle konfigurierten Namensstile, wie sie
+ *     beim Interpretieren verwendet werden</li>
+ * </ul>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *     ExecutorService executor = Executors.newFixedThreadPool(4);
+ *     Map&lt;String, Long&gt; loadTimes =
+ *          ResourcePreloader.of(Locale.GERMANY, Locale.US)
+ *              .withCalendarTypes(CalendarText.ISO_CALENDAR_TYPE, &quot;islamic&quot;)
+ *              .withZoneNames(NameStyle.SHORT_STANDARD_TIME, NameStyle.LONG_GENERIC_TIME)
+ *              .preload(executor)
+ *              .join();
+ *     executor.shutdown();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @doctags.concurrency {immutable}
+ */
+public final class ResourcePreloader {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Set<Locale> locales;
+    private final Set<String> calendarTypes;
+    private final Set<NameStyle> nameStyles;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ResourcePreloader(
+        Set<Locale> locales,
+        Set<String> calendarTypes,
+        Set<NameStyle> nameStyles
+    ) {
+        super();
+
+        this.locales = Collections.unmodifiableSet(locales);
+        this.calendarTypes = Collections.unmodifiableSet(calendarTypes);
+        this.nameStyles = Collections.unmodifiableSet(nameStyles);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new preloader for given locales. </p>
+     *
+     * <p>By default, only the ISO-calendar-type and no timezone names are taken into account. </p>
+     *
+     * @param   locales     languages and countries whose resources shall be loaded
+     * @return  new instance
+     * @throws  IllegalArgumentException if no locale is given
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen {@code ResourcePreloader} f&uuml;r die angegebenen Sprachen. </p>
+     *
+     * <p>Standardm&auml;&szlig;ig werden nur der ISO-Kalendertyp und keine Zeitzonennamen
+     * ber&uuml;cksichtigt. </p>
+     *
+     * @param   locales     languages and countries whose resources shall be loaded
+     * @return  new instance
+     * @throws  IllegalArgumentException if no locale is given
+     */
+    public static ResourcePreloader of(Locale... locales) {
+
+        return ResourcePreloader.of(Arrays.asList(locales));
+
+    }
+
+    /**
+     * <p>Creates a new preloader for given locales. </p>
+     *
+     * <p>By default, only the ISO-calendar-type and no timezone names are taken into account. </p>
+     *
+     * @param   locales     languages and countries whose resources shall be loaded
+     * @return  new instance
+     * @throws  IllegalArgumentException if no locale is given
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen {@code ResourcePreloader} f&uuml;r die angegebenen Sprachen. </p>
+     *
+     * <p>Standardm&auml;&szlig;ig werden nur der ISO-Kalendertyp und keine Zeitzonennamen
+     * ber&uuml;cksichtigt. </p>
+     *
+     * @param   locales     languages and countries whose resources shall be loaded
+     * @return  new instance
+     * @throws  IllegalArgumentException if no locale is given
+     */
+    public static ResourcePreloader of(Collection<Locale> locales) {
+
+        if (locales.isEmpty()) {
+            throw new IllegalArgumentException("Missing locales.");
+        }
+
+        Set<Locale> set = new LinkedHashSet<>();
+
+        for (Locale locale : locales) {
+            if (locale == null) {
+                throw new NullPointerException("Missing locale.");
+            }
+            set.add(locale);
+        }
+
+        return new ResourcePreloader(
+            set,
+            Collections.singleton(CalendarText.ISO_CALENDAR_TYPE),
+            EnumSet.noneOf(NameStyle.class));
+
+    }
+
+    /**
+     * <p>Defines the calendar types whose texts shall be loaded. </p>
+     *
+     * @param   calendarTypes   calendar types like &quot;iso8601&quot; or &quot;islamic&quot;
+     * @return  changed copy of this instance
+     * @see     CalendarText#getInstance(String, Locale)
+     * @see     net.time4j.format.CalendarType
+     */
+    /*[deutsch]
+     * <p>Legt die Kalendertypen fest, deren Texte geladen werden sollen. </p>
+     *
+     * @param   calendarTypes   calendar types like &quot;iso8601&quot; or &quot;islamic&quot;
+     * @return  changed copy of this instance
+     * @see     CalendarText#getInstance(String, Locale)
+     * @see     net.time4j.format.CalendarType
+     */
+    public ResourcePreloader withCalendarTypes(String... calendarTypes) {
+
+        Set<String> set = new LinkedHashSet<>();
+
+        for (String calendarType : calendarTypes) {
+            if (calendarType == null) {
+                throw new NullPointerException("Missing calendar type.");
+            }
+            set.add(calendarType);
+        }
+
+        return new ResourcePreloader(this.locales, set, this.nameStyles);
+
+    }
+
+    /**
+     * <p>Defines the styles of timezone names which shall be prepared for parsing. </p>
+     *
+     * <p>Standard and daylight saving styles of the same length (short or long) will always
+     * be loaded together. </p>
+     *
+     * @param   styles      name styles of timezones
+     * @return  changed copy of this instance
+     */
+    /*[deutsch]
+     * <p>Legt die Stile der Zeitzonennamen fest, die f&uuml;r das Interpretieren vorbereitet
+     * werden sollen. </p>
+     *
+     * <p>Standard- und Sommerzeitstile gleicher L&auml;nge (kurz oder lang) werden immer
+     * zusammen geladen. </p>
+     *
+     * @param   styles      name styles of timezones
+     * @return  changed copy of this instance
+     */
+    public ResourcePreloader withZoneNames(NameStyle... styles) {
+
+        Set<NameStyle> set = EnumSet.noneOf(NameStyle.class);
+        set.addAll(Arrays.asList(styles));
+        return new ResourcePreloader(this.locales, this.calendarTypes, set);
+
+    }
+
+    /**
+     * <p>Loads all configured resources in parallel on given executor. </p>
+     *
+     * <p>The result maps a description of every loaded resource (in the order of submission)
+     * to its load time in nanoseconds. If the resource had already been loaded before then
+     * the load time is usually very small. The future completes exceptionally if any resource
+     * cannot be loaded. </p>
+     *
+     * @param   executor    executor for the load tasks
+     * @return  future containing the load times of all resources in nanoseconds
+     */
+    /*[deutsch]
+     * <p>L&auml;dt alle konfigurierten Ressourcen parallel auf dem angegebenen {@code Executor}. </p>
+     *
+     * <p>Das Ergebnis ordnet einer Beschreibung jeder geladenen Ressource (in der Reihenfolge
+     * der Einreichung) ihre Ladezeit in Nanosekunden zu. Wenn die Ressource schon vorher geladen
+     * war, ist die Ladezeit normalerweise sehr klein. Das Ergebnis wird mit einer Ausnahme
+     * vervollst&auml;ndigt, wenn irgendeine Ressource nicht geladen werden kann. </p>
+     *
+     * @param   executor    executor for the load tasks
+     * @return  future containing the load times of all resources in nanoseconds
+     */
+    public CompletableFuture<Map<String, Long>> preload(Executor executor) {
+
+        if (executor == null) {
+            throw new NullPointerException("Missing executor.");
+        }
+
+        List<String> names = new ArrayList<>();
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+
+        for (Locale locale : this.locales) {
+            for (String calendarType : this.calendarTypes) {
+                submit(
+                    "CalendarText[" + calendarType + "," + locale + "]",
+                    () -> CalendarText.getInstance(calendarType, locale),
+                    executor, names, futures);
+            }
+            for (NumberType numType : NumberType.values()) {
+                submit(
+                    "PluralRules[" + numType + "," + locale + "]",
+                    () -> PluralRules.of(locale, numType),
+                    executor, names, futures);
+            }
+            submit(
+                "Weekmodel[" + locale + "]",
+                () -> Weekmodel.of(locale),
+                executor, names, futures);
+            submit(
+                "UnitPatterns[" + locale + "]",
+                () -> PrettyTime.of(locale).print(1, ClockUnit.SECONDS, TextWidth.WIDE),
+                executor, names, futures);
+            Set<Boolean> specificStyles = new LinkedHashSet<>();
+            for (NameStyle style : this.nameStyles) {
+                if ((style == NameStyle.SHORT_GENERIC_TIME) || (style == NameStyle.LONG_GENERIC_TIME)) {
+                    submit(
+                        "ZoneNames[" + style + "," + locale + "]",
+                        () -> TimezoneGenericProcessor.getZoneLabels(locale, style),
+                        executor, names, futures);
+                } else if (specificStyles.add(Boolean.valueOf(style.isAbbreviation()))) {
+                    boolean abbreviated = style.isAbbreviation();
+                    submit(
+                        "ZoneNames[" + (abbreviated ? "SHORT" : "LONG") + "_SPECIFIC_TIME," + locale + "]",
+                        () -> TimezoneNameProcessor.getNames(locale, abbreviated),
+                        executor, names, futures);
+                }
+            }
+        }
+
+        CompletableFuture<?>[] array = futures.toArray(new CompletableFuture<?>[futures.size()]);
+
+        return CompletableFuture.allOf(array).thenApply(
+            v -> {
+                Map<String, Long> result = new LinkedHashMap<>();
+                for (int i = 0, n = names.size(); i < n; i++) {
+                    result.put(names.get(i), futures.get(i).join());
+                }
+                return Collections.unmodifiableMap(result);
+            }
+        );
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "ResourcePreloader[locales=" + this.locales
+            + ",calendar-types=" + this.calendarTypes
+            + ",zone-names=" + this.nameStyles + "]";
+
+    }
+
+    private static void submit(
+        String name,
+        Runnable task,
+        Executor executor,
+        List<String> names,
+        List<CompletableFuture<Long>> futures
+    ) {
+
+        names.add(name);
+        futures.add(
+            CompletableFuture.supplyAsync(
+                () -> {
+                    long start = System.nanoTime();
+                    task.run();
+                    return Long.valueOf(System.nanoTime() - start);
+                },
+                executor));
+
+    }
+
+}
@@ -236,20 +236,7 @@ final class TimezoneGenericProcessor
         }
 
         // Zeitzonennamen im Cache suchen und ggf. Cache füllen
-        ConcurrentMap<Locale, ZoneLabels> cache = CACHE_ZONENAMES.get(this.style);
-        ZoneLabels tzNames = cache.get(lang);
-
-        if (tzNames == null) {
-            tzNames = this.createZoneNames(lang);
-
-            if (cache.size() < MAX) {
-                ZoneLabels tmp = cache.putIfAbsent(lang, tzNames);
-
-                if (tmp != null) {
-                    tzNames = tmp;
-                }
-            }
-        }
+        ZoneLabels tzNames = getZoneLabels(lang, this.style);
 
         // Zeitzonen-IDs bestimmen
         int[] lenbuf = new int[1];
@@ -400,12 +387,47 @@ final class TimezoneGenericProcessor
 
     }
 
-    private ZoneLabels createZoneNames(Locale locale) {
+    /**
+     * <p>Liefert die Zeitzonennamen der angegebenen Sprache und des Stils aus dem Cache oder l&auml;dt sie. </p>
+     *
+     * @param   lang    language of zone names
+     * @param   style   name style
+     * @return  zone names as prefix tree
+     * @since   5.8
+     */
+    static ZoneLabels getZoneLabels(
+        Locale lang,
+        NameStyle style
+    ) {
+
+        ConcurrentMap<Locale, ZoneLabels> cache = CACHE_ZONENAMES.get(style);
+        ZoneLabels tzNames = cache.get(lang);
+
+        if (tzNames == null) {
+            tzNames = createZoneNames(lang, style);
+
+            if (cache.size() < MAX) {
+                ZoneLabels tmp = cache.putIfAbsent(lang, tzNames);
+
+                if (tmp != null) {
+                    tzNames = tmp;
+                }
+            }
+        }
+
+        return tzNames;
+
+    }
+
+    private static ZoneLabels createZoneNames(
+        Locale locale,
+        NameStyle style
+    ) {
 
         ZoneLabels.Node node = null;
 
         for (TZID tzid : Timezone.getAvailableIDs()) {
-            String tzName = Timezone.getDisplayName(tzid, this.style, locale);
+            String tzName = Timezone.getDisplayName(tzid, style, locale);
 
             if (tzName.equals(tzid.canonical())) {
                 continue; // registrierte NameProvider haben nichts gefunden!
@@ -234,22 +234,7 @@ final class TimezoneNameProcessor
         }
 
         // Zeitzonennamen im Cache suchen und ggf. Cache füllen
-        ConcurrentMap<Locale, TZNames> cache = (this.abbreviated ? CACHE_ABBREVIATIONS : CACHE_ZONENAMES);
-        TZNames tzNames = cache.get(lang);
-
-        if (tzNames == null) {
-            ZoneLabels stdNames = this.createZoneNames(lang, false);
-            ZoneLabels dstNames = this.createZoneNames(lang, true);
-            tzNames = new TZNames(stdNames, dstNames);
-
-            if (cache.size() < MAX) {
-                TZNames tmp = cache.putIfAbsent(lang, tzNames);
-
-                if (tmp != null) {
-                    tzNames = tmp;
-                }
-            }
-        }
+        TZNames tzNames = getNames(lang, this.abbreviated);
 
         // prefix-matching of tz names
         List<TZID> stdZones = new ArrayList<>();
@@ -473,13 +458,46 @@ final class TimezoneNameProcessor
 
     }
 
-    private ZoneLabels createZoneNames(
+    /**
+     * <p>Liefert die Zeitzonennamen der angegebenen Sprache aus dem Cache oder l&auml;dt sie. </p>
+     *
+     * @param   lang            language of zone names
+     * @param   abbreviated     abbreviations or long names?
+     * @return  standard and daylight saving names
+     * @since   5.8
+     */
+    static TZNames getNames(
+        Locale lang,
+        boolean abbreviated
+    ) {
+
+        ConcurrentMap<Locale, TZNames> cache = (abbreviated ? CACHE_ABBREVIATIONS : CACHE_ZONENAMES);
+        TZNames tzNames = cache.get(lang);
+
+        if (tzNames == null) {
+            ZoneLabels stdNames = createZoneNames(lang, getStyle(abbreviated, false));
+            ZoneLabels dstNames = createZoneNames(lang, getStyle(abbreviated, true));
+            tzNames = new TZNames(stdNames, dstNames);
+
+            if (cache.size() < MAX) {
+                TZNames tmp = cache.putIfAbsent(lang, tzNames);
+
+                if (tmp != null) {
+                    tzNames = tmp;
+                }
+            }
+        }
+
+        return tzNames;
+
+    }
+
+    private static ZoneLabels createZoneNames(
         Locale locale,
-        boolean daylightSaving
+        NameStyle style
     ) {
 
         ZoneLabels.Node node = null;
-        NameStyle style = this.getStyle(daylightSaving);
 
         for (TZID tzid : Timezone.getAvailableIDs()) {
             String tzName = Timezone.getDisplayName(tzid, style, locale);
@@ -584,14 +602,23 @@ final class TimezoneNameProcessor
     
     private NameStyle getStyle(boolean daylightSaving) {
 
+        return getStyle(this.abbreviated, daylightSaving);
+
+    }
+
+    private static NameStyle getStyle(
+        boolean abbreviated,
+        boolean daylightSaving
+    ) {
+
         if (daylightSaving) {
             return (
-                this.abbreviated
+                abbreviated
                 ? NameStyle.SHORT_DAYLIGHT_TIME
                 : NameStyle.LONG_DAYLIGHT_TIME);
         } else {
             return (
-                this.abbreviated
+                abbreviated
                 ? NameStyle.SHORT_STANDARD_TIME
                 : NameStyle.LONG_STANDARD_TIME);
         }
@@ -24,6 +24,7 @@ package net.time4j.format.expert;
 import net.time4j.tz.TZID;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -31,21 +32,42 @@ import java.util.List;
 /**
  * Immutable ternary search trie holding zone labels.
  *
+ * <p>The trie is first built as mutable node tree and then compiled into a compact array
+ * structure where every node is represented by an index into parallel arrays. </p>
+ *
  * @author  Meno Hochschild
  * @since   3.35/4.30
  */
 class ZoneLabels {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int NONE = -1;
+
     //~ Instanzvariablen --------------------------------------------------
 
-    private final Node root;
+    private final char[] chars;
+    private final int[] left;
+    private final int[] mid;
+    private final int[] right;
+    private final TZID[][] zoneIDs;
 
     //~ Konstruktoren -----------------------------------------------------
 
     ZoneLabels(Node root) {
         super();
 
-        this.root = root;
+        int count = count(root);
+
+        this.chars = new char[count];
+        this.left = new int[count];
+        this.mid = new int[count];
+        this.right = new int[count];
+        this.zoneIDs = new TZID[count][];
+
+        if (root != null) {
+            this.compile(root, 0);
+        }
 
     }
 
@@ -60,7 +82,7 @@ class ZoneLabels {
     public String toString() {
 
         List<String> keys = new ArrayList<>();
-        this.collect(this.root, new StringBuilder(), keys);
+        this.collect((this.chars.length == 0) ? NONE : 0, new StringBuilder(), keys);
         StringBuilder sb = new StringBuilder();
         sb.append("count=");
         sb.append(keys.size());
@@ -88,7 +110,38 @@ class ZoneLabels {
             throw new NullPointerException("Missing timezone id.");
         }
 
-        return insert(node, key, zoneID, 0);
+        Node root = ((node == null) ? new Node(key.charAt(0)) : node);
+        Node current = root;
+        int pos = 0;
+        int last = key.length() - 1;
+
+        while (true) {
+            char c = key.charAt(pos);
+
+            if (c < current.c) {
+                if (current.left == null) {
+                    current.left = new Node(c);
+                }
+                current = current.left;
+            } else if (c > current.c) {
+                if (current.right == null) {
+                    current.right = new Node(c);
+                }
+                current = current.right;
+            } else if (pos < last) {
+                pos++;
+                if (current.mid == null) {
+                    current.mid = new Node(key.charAt(pos));
+                }
+                current = current.mid;
+            } else {
+                if (current.zoneIDs == null) { // end node
+                    current.zoneIDs = new ArrayList<>(1);
+                }
+                current.zoneIDs.add(zoneID);
+                return root;
+            }
+        }
 
     }
 
@@ -98,23 +151,24 @@ class ZoneLabels {
     ) {
 
         int len = offset;
-        Node node = this.root;
+        int node = ((this.chars.length == 0) ? NONE : 0);
         int i = offset;
         int n = query.length();
 
-        while ((node != null) && (i < n)) {
+        while ((node != NONE) && (i < n)) {
             char c = query.charAt(i);
+            char test = this.chars[node];
 
-            if (c < node.c) {
-                node = node.left;
-            } else if (c > node.c) {
-                node = node.right;
+            if (c < test) {
+                node = this.left[node];
+            } else if (c > test) {
+                node = this.right[node];
             } else {
                 i++;
-                if (node.zoneIDs != null) { // end node condition
+                if (this.zoneIDs[node] != null) { // end node condition
                     len = i;
                 }
-                node = node.mid;
+                node = this.mid[node];
             }
         }
 
@@ -128,149 +182,116 @@ class ZoneLabels {
             return Collections.emptyList();
         }
 
-        Node node = find(this.root, key, 0);
-
-        if (node == null) {
-            return Collections.emptyList();
-        } else {
-            return Collections.unmodifiableList(node.zoneIDs);
+        int node = ((this.chars.length == 0) ? NONE : 0);
+        int pos = 0;
+        int last = key.length() - 1;
+
+        while (node != NONE) {
+            char c = key.charAt(pos);
+            char test = this.chars[node];
+
+            if (c < test) {
+                node = this.left[node];
+            } else if (c > test) {
+                node = this.right[node];
+            } else if (pos < last) {
+                node = this.mid[node];
+                pos++;
+            } else {
+                TZID[] ids = this.zoneIDs[node];
+                return ((ids == null) ? Collections.<TZID>emptyList() : Collections.unmodifiableList(Arrays.asList(ids)));
+            }
         }
 
+        return Collections.emptyList();
+
     }
 
-    private static Node find(
+    // assigns indices in pre-order and returns the next free index
+    private int compile(
         Node node,
-        String key,
-        int pos
+        int index
     ) {
 
-        if (node == null) {
-            return null;
-        }
+        int next = index + 1;
 
-        char c = key.charAt(pos);
+        this.chars[index] = node.c;
+        this.zoneIDs[index] = ((node.zoneIDs == null) ? null : node.zoneIDs.toArray(new TZID[node.zoneIDs.size()]));
+        this.left[index] = ((node.left == null) ? NONE : next);
 
-        if (c < node.c) {
-            return find(node.left, key, pos);
-        } else if (c > node.c) {
-            return find(node.right, key, pos);
-        } else if (pos < key.length() - 1) {
-            return find(node.mid, key, pos + 1);
-        } else {
-            return node;
+        if (node.left != null) {
+            next = this.compile(node.left, next);
         }
 
-    }
+        this.mid[index] = ((node.mid == null) ? NONE : next);
 
-    private static Node insert(
-        Node node,
-        String key,
-        TZID zoneID,
-        int pos
-    ) {
+        if (node.mid != null) {
+            next = this.compile(node.mid, next);
+        }
 
-        char c = key.charAt(pos);
+        this.right[index] = ((node.right == null) ? NONE : next);
 
-        if (node == null) {
-            node = new Node(c);
+        if (node.right != null) {
+            next = this.compile(node.right, next);
         }
 
-        if (c < node.c) {
-            node = node.withLeft(insert(node.left, key, zoneID, pos));
-        } else if (c > node.c) {
-            node = node.withRight(insert(node.right, key, zoneID, pos));
-        } else if (pos < key.length() - 1) {
-            node = node.withMid(insert(node.mid, key, zoneID, pos + 1));
-        } else {
-            node = node.with(zoneID); // end node
+        return next;
+
+    }
+
+    private static int count(Node node) {
+
+        if (node == null) {
+            return 0;
         }
 
-        return node;
+        return 1 + count(node.left) + count(node.mid) + count(node.right);
 
     }
 
     private void collect(
-        Node node,
+        int node,
         StringBuilder prefix,
         List<String> keys
     ) {
 
-        if (node == null) {
+        if (node == NONE) {
             return;
         }
 
-        collect(node.left, prefix, keys);
+        collect(this.left[node], prefix, keys);
 
-        if (node.zoneIDs != null) {
-            keys.add(prefix.toString() + node.c);
+        if (this.zoneIDs[node] != null) {
+            keys.add(prefix.toString() + this.chars[node]);
         }
 
-        collect(node.mid, prefix.append(node.c), keys);
+        collect(this.mid[node], prefix.append(this.chars[node]), keys);
         prefix.deleteCharAt(prefix.length() - 1);
-        collect(node.right, prefix, keys);
+        collect(this.right[node], prefix, keys);
 
     }
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * Mutable node which only serves for building the trie.
+     */
     static class Node {
 
         //~ Instanzvariablen ----------------------------------------------
 
         private final char c;
-        private final Node left;
-        private final Node mid;
-        private final Node right;
-        private final List<TZID> zoneIDs;
+        private Node left = null;
+        private Node mid = null;
+        private Node right = null;
+        private List<TZID> zoneIDs = null;
 
         //~ Konstruktoren -------------------------------------------------
 
         private Node(char c) {
-            this(c, null, null, null, null);
-
-        }
-
-        private Node(char c, Node left, Node mid, Node right, List<TZID> zoneIDs) {
             super();
 
             this.c = c;
-            this.left = left;
-            this.mid = mid;
-            this.right = right;
-            this.zoneIDs = zoneIDs;
-
-        }
-
-        //~ Methoden ------------------------------------------------------
-
-        private Node withLeft(Node left) {
-
-            return new Node(this.c, left, this.mid, this.right, this.zoneIDs);
-
-        }
-
-        private Node withMid(Node mid) {
-
-            return new Node(this.c, this.left, mid, this.right, this.zoneIDs);
-
-        }
-
-        private Node withRight(Node right) {
-
-            return new Node(this.c, this.left, this.mid, right, this.zoneIDs);
-
-        }
-
-        private Node with(TZID zoneID) { // end node
-
-            List<TZID> zoneIDs = new ArrayList<>();
-
-            if (this.zoneIDs != null) {
-                zoneIDs.addAll(this.zoneIDs);
-            }
-
-            zoneIDs.add(zoneID);
-            return new Node(this.c, this.left, this.mid, this.right, zoneIDs);
 
         }
 
@@ -48,6 +48,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
 /**
@@ -285,6 +286,8 @@ public final class ChronoHistory
         LOOKUP = Collections.unmodifiableMap(tmp);
     }
 
+    private static final int YEAR_CACHE_SIZE = 128; // Zweierpotenz
+
     // Dient der Serialisierungsunterstützung.
     private static final long serialVersionUID = 4100690610730913643L;
 
@@ -295,6 +298,8 @@ public final class ChronoHistory
     private transient final AncientJulianLeapYears ajly;
     private transient final NewYearStrategy nys;
     private transient final EraPreference eraPreference;
+    private transient final long[] cutovers; // aufsteigende Startdaten der Umstellungen als MJD
+    private transient final AtomicReferenceArray<YearEntry> years;
 
     private transient final ChronoElement<HistoricDate> dateElement;
     private transient final ChronoElement<HistoricEra> eraElement;
@@ -341,6 +346,15 @@ public final class ChronoHistory
         this.nys = nys;
         this.eraPreference = eraPreference;
 
+        long[] starts = new long[events.size()];
+
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = events.get(i).start;
+        }
+
+        this.cutovers = starts;
+        this.years = new AtomicReferenceArray<>(YEAR_CACHE_SIZE);
+
         this.dateElement = new HistoricDateElement(this);
         this.eraElement = new HistoricEraElement(this);
 
@@ -819,21 +833,7 @@ public final class ChronoHistory
     public HistoricDate convert(PlainDate date) {
 
         long mjd = date.get(EpochDays.MODIFIED_JULIAN_DATE);
-        HistoricDate hd = null;
-
-        for (int i = this.events.size() - 1; i >= 0; i--) {
-            CutOverEvent event = this.events.get(i);
-
-            if (mjd >= event.start) {
-                hd = event.algorithm.fromMJD(mjd);
-                break;
-            }
-        }
-
-        if (hd == null) {
-            hd = this.getJulianAlgorithm().fromMJD(mjd);
-        }
-
+        HistoricDate hd = this.getCalculus(mjd).fromMJD(mjd);
         HistoricEra era = this.eraPreference.getPreferredEra(hd, date);
 
         if (era != hd.getEra()) {
@@ -849,6 +849,105 @@ public final class ChronoHistory
 
     }
 
+    /**
+     * <p>Converts given modified julian dates to historic dates in bulk. </p>
+     *
+     * <p>Equivalent to calling {@link #convert(PlainDate)} for every element but avoids the
+     * creation of intermediate {@code PlainDate}-objects. </p>
+     *
+     * @param   mjds    array of modified julian dates
+     * @return  new array of historic calendar dates with the same length
+     * @throws  IllegalArgumentException if any date is out of supported range
+     * @see     EpochDays#MODIFIED_JULIAN_DATE
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen modifizierten julianischen Datumsangaben im Block zu
+     * historischen Datumsangaben. </p>
+     *
+     * <p>&Auml;quivalent zum Aufruf von {@link #convert(PlainDate)} f&uuml;r jedes Element, aber
+     * ohne die Erzeugung von {@code PlainDate}-Zwischenobjekten. </p>
+     *
+     * @param   mjds    array of modified julian dates
+     * @return  new array of historic calendar dates with the same length
+     * @throws  IllegalArgumentException if any date is out of supported range
+     * @see     EpochDays#MODIFIED_JULIAN_DATE
+     * @since   5.8
+     */
+    public HistoricDate[] convert(long[] mjds) {
+
+        HistoricDate[] result = new HistoricDate[mjds.length];
+
+        for (int i = 0; i < mjds.length; i++) {
+            long mjd = mjds[i];
+            HistoricDate hd = this.getCalculus(mjd).fromMJD(mjd);
+            HistoricEra era = this.eraPreference.getPreferredEra(hd, mjd);
+
+            if (era != hd.getEra()) {
+                int yoe = era.yearOfEra(hd.getEra(), hd.getYearOfEra());
+                hd = HistoricDate.of(era, yoe, hd.getMonth(), hd.getDayOfMonth());
+            }
+
+            if (this.isOutOfRange(hd)) {
+                throw new IllegalArgumentException("Out of supported range: " + hd);
+            }
+
+            result[i] = hd;
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Converts given historic dates to modified julian dates in bulk. </p>
+     *
+     * <p>Equivalent to calling {@link #convert(HistoricDate)} for every element but avoids the
+     * creation of intermediate {@code PlainDate}-objects. </p>
+     *
+     * @param   dates   array of historic calendar dates
+     * @return  new array of modified julian dates with the same length
+     * @throws  IllegalArgumentException if any date is invalid or out of supported range
+     * @see     EpochDays#MODIFIED_JULIAN_DATE
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen historischen Datumsangaben im Block zu modifizierten
+     * julianischen Datumsangaben. </p>
+     *
+     * <p>&Auml;quivalent zum Aufruf von {@link #convert(HistoricDate)} f&uuml;r jedes Element, aber
+     * ohne die Erzeugung von {@code PlainDate}-Zwischenobjekten. </p>
+     *
+     * @param   dates   array of historic calendar dates
+     * @return  new array of modified julian dates with the same length
+     * @throws  IllegalArgumentException if any date is invalid or out of supported range
+     * @see     EpochDays#MODIFIED_JULIAN_DATE
+     * @since   5.8
+     */
+    public long[] convert(HistoricDate[] dates) {
+
+        long[] result = new long[dates.length];
+
+        for (int i = 0; i < dates.length; i++) {
+            HistoricDate date = dates[i];
+
+            if (this.isOutOfRange(date)) {
+                throw new IllegalArgumentException("Out of supported range: " + date);
+            }
+
+            Calculus algorithm = this.getAlgorithm(date);
+
+            if (algorithm == null) {
+                throw new IllegalArgumentException("Invalid historic date: " + date);
+            }
+
+            result[i] = algorithm.toMJD(date);
+        }
+
+        return result;
+
+    }
+
     /**
      * <p>Reconstructs the calendar history from given variant description. </p>
      *
@@ -1137,6 +1236,23 @@ public final class ChronoHistory
         int yearOfEra
     ) {
 
+        YearEntry entry = this.getYearEntry(era, yearOfEra);
+        HistoricDate newYear = entry.beginOfYear;
+
+        if (newYear == null) {
+            newYear = this.calculateBeginOfYear(era, yearOfEra);
+            entry.beginOfYear = newYear; // idempotent, ein Wettlauf ist harmlos
+        }
+
+        return newYear;
+
+    }
+
+    private HistoricDate calculateBeginOfYear(
+        HistoricEra era,
+        int yearOfEra
+    ) {
+
         HistoricDate newYear = this.getNewYearStrategy().newYear(era, yearOfEra);
 
         if (this.isValid(newYear)) {
@@ -1189,6 +1305,27 @@ public final class ChronoHistory
         int yearOfEra
     ) {
 
+        if (era == null) {
+            return -1;
+        }
+
+        YearEntry entry = this.getYearEntry(era, yearOfEra);
+        int length = entry.lengthOfYear;
+
+        if (length == 0) {
+            length = this.calculateLengthOfYear(era, yearOfEra);
+            entry.lengthOfYear = length; // idempotent, ein Wettlauf ist harmlos
+        }
+
+        return length;
+
+    }
+
+    private int calculateLengthOfYear(
+        HistoricEra era,
+        int yearOfEra
+    ) {
+
         try {
             HistoricDate min;
             HistoricDate max;
@@ -1788,6 +1925,32 @@ public final class ChronoHistory
 
     }
 
+    /**
+     * <p>Yields the calendar algorithm valid at given modified julian date. </p>
+     *
+     * @param   mjd     modified julian date
+     * @return  appropriate calendar algorithm
+     * @since   5.8
+     */
+    Calculus getCalculus(long mjd) {
+
+        long[] starts = this.cutovers;
+        int low = 0;
+        int high = starts.length - 1;
+
+        while (low <= high) { // binäre Suche nach der letzten Umstellung mit start <= mjd
+            int middle = (low + high) >>> 1;
+            if (starts[middle] <= mjd) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return ((high < 0) ? this.getJulianAlgorithm() : this.events.get(high).algorithm);
+
+    }
+
     /**
      * <p>Adjusts given historic date with respect to actual maximum of day-of-month if necessary. </p>
      *
@@ -1864,6 +2027,23 @@ public final class ChronoHistory
 
     }
 
+    private YearEntry getYearEntry(
+        HistoricEra era,
+        int yearOfEra
+    ) {
+
+        int slot = (yearOfEra + era.ordinal() * 37) & (YEAR_CACHE_SIZE - 1);
+        YearEntry entry = this.years.get(slot);
+
+        if ((entry == null) || (entry.era != era) || (entry.yearOfEra != yearOfEra)) {
+            entry = new YearEntry(era, yearOfEra);
+            this.years.set(slot, entry);
+        }
+
+        return entry;
+
+    }
+
     private Calculus getJulianAlgorithm() {
 
         if (this.ajly != null) {
@@ -1937,4 +2117,31 @@ public final class ChronoHistory
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    // merkt sich Neujahr und Jahreslänge eines historischen Jahres, beide werden bei Bedarf berechnet
+    private static class YearEntry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final HistoricEra era;
+        private final int yearOfEra;
+        private HistoricDate beginOfYear = null;
+        private int lengthOfYear = 0;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        YearEntry(
+            HistoricEra era,
+            int yearOfEra
+        ) {
+            super();
+
+            this.era = era;
+            this.yearOfEra = yearOfEra;
+
+        }
+
+    }
+
 }
@@ -336,6 +336,20 @@ public final class EraPreference {
 
     }
 
+    // determines the preferred era for a given historic date and its modified julian date
+    HistoricEra getPreferredEra(
+        HistoricDate hd,
+        long mjd
+    ) {
+
+        if (this.era == null) {
+            return ((hd.compareTo(AD1) < 0) ? HistoricEra.BC : HistoricEra.AD);
+        }
+
+        return this.getPreferredEra(hd, PlainDate.of(mjd, EpochDays.MODIFIED_JULIAN_DATE));
+
+    }
+
     // used in serialization
     void writeToStream(DataOutput out) throws IOException {
 
@@ -0,0 +1,354 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.BinaryCodec;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.Temporal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+
+/**
+ * <p>Binary codec for intervals which writes one flag byte for the kind of boundaries followed
+ * by the finite boundaries encoded by the codec of the temporal type. </p>
+ *
+ * <p>Bit 0 of the flag byte marks an infinite start, bit 1 an open start, bit 2 an infinite end
+ * and bit 3 an open end. All singleton instances are defined as static constants and are
+ * <i>immutable</i>. </p>
+ *
+ * <p>If the codec of the temporal type is order-preserving then the boundaries of an interval
+ * can be translated to a key range suitable for range scans in sorted key-value-stores,
+ * see {@link #getLowerKey(IsoInterval)} and {@link #getUpperKey(IsoInterval)}. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @see     BinaryCodec
+ */
+/*[deutsch]
+ * <p>Bin&auml;rer Codec f&uuml;r Intervalle, der ein Kennzeichen-Byte f&uuml;r die Art der
+ * Intervallgrenzen und danach die endlichen Intervallgrenzen im Codec des Zeittyps schreibt. </p>
+ *
+ * <p>Das Bit 0 des Kennzeichen-Bytes markiert einen unendlichen Start, das Bit 1 einen offenen Start,
+ * das Bit 2 ein unendliches Ende und das Bit 3 ein offenes Ende. Alle Singleton-Instanzen sind als
+ * statische Konstanten definiert und unver&auml;nderlich (<i>immutable</i>). </p>
+ *
+ * <p>Wenn der Codec des Zeittyps die Ordnung erh&auml;lt, k&ouml;nnen die Grenzen eines Intervalls
+ * in einen Schl&uuml;sselbereich f&uuml;r Bereichsabfragen in sortierten Key-Value-Speichern
+ * &uuml;bersetzt werden, siehe {@link #getLowerKey(IsoInterval)} und
+ * {@link #getUpperKey(IsoInterval)}. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   5.8
+ * @see     BinaryCodec
+ */
+public final class IntervalCodec<T extends Temporal<? super T>, I extends IsoInterval<T, I>>
+    extends BinaryCodec<I> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int START_INFINITE = 1;
+    private static final int START_OPEN = 2;
+    private static final int END_INFINITE = 4;
+    private static final int END_OPEN = 8;
+
+    /**
+     * <p>Encodes date intervals using {@link BinaryCodec#PLAIN_DATE}. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert Datumsintervalle mit Hilfe von {@link BinaryCodec#PLAIN_DATE}. </p>
+     */
+    public static final IntervalCodec<PlainDate, DateInterval> DATE_INTERVAL =
+        new IntervalCodec<>(BinaryCodec.PLAIN_DATE, DateIntervalFactory.INSTANCE);
+
+    /**
+     * <p>Encodes date intervals using {@link BinaryCodec#PLAIN_DATE_VARINT}. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert Datumsintervalle mit Hilfe von {@link BinaryCodec#PLAIN_DATE_VARINT}. </p>
+     */
+    public static final IntervalCodec<PlainDate, DateInterval> DATE_INTERVAL_VARINT =
+        new IntervalCodec<>(BinaryCodec.PLAIN_DATE_VARINT, DateIntervalFactory.INSTANCE);
+
+    /**
+     * <p>Encodes clock intervals using {@link BinaryCodec#PLAIN_TIME}. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert Uhrzeitintervalle mit Hilfe von {@link BinaryCodec#PLAIN_TIME}. </p>
+     */
+    public static final IntervalCodec<PlainTime, ClockInterval> CLOCK_INTERVAL =
+        new IntervalCodec<>(BinaryCodec.PLAIN_TIME, ClockIntervalFactory.INSTANCE);
+
+    /**
+     * <p>Encodes clock intervals using {@link BinaryCodec#PLAIN_TIME_VARINT}. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert Uhrzeitintervalle mit Hilfe von {@link BinaryCodec#PLAIN_TIME_VARINT}. </p>
+     */
+    public static final IntervalCodec<PlainTime, ClockInterval> CLOCK_INTERVAL_VARINT =
+        new IntervalCodec<>(BinaryCodec.PLAIN_TIME_VARINT, ClockIntervalFactory.INSTANCE);
+
+    /**
+     * <p>Encodes timestamp intervals using {@link BinaryCodec#PLAIN_TIMESTAMP}. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert Zeitstempelintervalle mit Hilfe von {@link BinaryCodec#PLAIN_TIMESTAMP}. </p>
+     */
+    public static final IntervalCodec<PlainTimestamp, TimestampInterval> TIMESTAMP_INTERVAL =
+        new IntervalCodec<>(BinaryCodec.PLAIN_TIMESTAMP, TimestampIntervalFactory.INSTANCE);
+
+    /**
+     * <p>Encodes timestamp intervals using {@link BinaryCodec#PLAIN_TIMESTAMP_VARINT}. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert Zeitstempelintervalle mit Hilfe von {@link BinaryCodec#PLAIN_TIMESTAMP_VARINT}. </p>
+     */
+    public static final IntervalCodec<PlainTimestamp, TimestampInterval> TIMESTAMP_INTERVAL_VARINT =
+        new IntervalCodec<>(BinaryCodec.PLAIN_TIMESTAMP_VARINT, TimestampIntervalFactory.INSTANCE);
+
+    /**
+     * <p>Encodes moment intervals using {@link BinaryCodec#MOMENT}. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert Momentintervalle mit Hilfe von {@link BinaryCodec#MOMENT}. </p>
+     */
+    public static final IntervalCodec<Moment, MomentInterval> MOMENT_INTERVAL =
+        new IntervalCodec<>(BinaryCodec.MOMENT, MomentIntervalFactory.INSTANCE);
+
+    /**
+     * <p>Encodes moment intervals using {@link BinaryCodec#MOMENT_VARINT}. </p>
+     */
+    /*[deutsch]
+     * <p>Kodiert Momentintervalle mit Hilfe von {@link BinaryCodec#MOMENT_VARINT}. </p>
+     */
+    public static final IntervalCodec<Moment, MomentInterval> MOMENT_INTERVAL_VARINT =
+        new IntervalCodec<>(BinaryCodec.MOMENT_VARINT, MomentIntervalFactory.INSTANCE);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final BinaryCodec<T> boundaryCodec;
+    private final IntervalFactory<T, I> factory;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IntervalCodec(
+        BinaryCodec<T> boundaryCodec,
+        IntervalFactory<T, I> factory
+    ) {
+        super();
+
+        this.boundaryCodec = boundaryCodec;
+        this.factory = factory;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public void write(
+        I value,
+        ByteBuffer buffer
+    ) {
+
+        Boundary<T> start = value.getStart();
+        Boundary<T> end = value.getEnd();
+        buffer.put((byte) flags(start, end));
+
+        if (!start.isInfinite()) {
+            this.boundaryCodec.write(start.getTemporal(), buffer);
+        }
+
+        if (!end.isInfinite()) {
+            this.boundaryCodec.write(end.getTemporal(), buffer);
+        }
+
+    }
+
+    @Override
+    public I read(ByteBuffer buffer) {
+
+        int flags = buffer.get();
+
+        if ((flags & ~0xF) != 0) {
+            throw new IllegalArgumentException("Invalid interval flags: " + flags);
+        }
+
+        Boundary<T> start = this.readBoundary(buffer, flags & START_INFINITE, flags & START_OPEN, true);
+        Boundary<T> end = this.readBoundary(buffer, flags & END_INFINITE, flags & END_OPEN, false);
+        return this.factory.between(start, end);
+
+    }
+
+    /**
+     * <p>Yields the smallest key of all time points contained in given interval (inclusive). </p>
+     *
+     * <p>The key of any time point {@code t} is {@code boundaryCodec.toBytes(t)}. A time point
+     * is contained in the interval if and only if its key is in the range
+     * {@code lowerKey <= key < upperKey} when compared by
+     * {@link BinaryCodec#compareUnsigned(byte[], byte[])}. An infinite past yields an empty array. </p>
+     *
+     * @param   interval    interval whose start is to be translated
+     * @return  inclusive lower key
+     * @throws  UnsupportedOperationException if the codec of the temporal type is not order-preserving
+     * @see     #getUpperKey(IsoInterval)
+     */
+    /*[deutsch]
+     * <p>Liefert den kleinsten Schl&uuml;ssel aller im angegebenen Intervall enthaltenen
+     * Zeitpunkte (inklusive). </p>
+     *
+     * <p>Der Schl&uuml;ssel eines Zeitpunkts {@code t} ist {@code boundaryCodec.toBytes(t)}. Ein
+     * Zeitpunkt ist genau dann im Intervall enthalten, wenn sein Schl&uuml;ssel im Bereich
+     * {@code lowerKey <= key < upperKey} liegt, verglichen mit
+     * {@link BinaryCodec#compareUnsigned(byte[], byte[])}. Eine unendliche Vergangenheit ergibt
+     * ein leeres Array. </p>
+     *
+     * @param   interval    interval whose start is to be translated
+     * @return  inclusive lower key
+     * @throws  UnsupportedOperationException if the codec of the temporal type is not order-preserving
+     * @see     #getUpperKey(IsoInterval)
+     */
+    public byte[] getLowerKey(I interval) {
+
+        this.checkOrderPreserving();
+        Boundary<T> start = interval.getStart();
+
+        if (start.isInfinite()) {
+            return new byte[0];
+        }
+
+        byte[] key = this.boundaryCodec.toBytes(start.getTemporal());
+        return (start.isOpen() ? successor(key) : key);
+
+    }
+
+    /**
+     * <p>Yields the smallest key which is greater than the keys of all time points contained in
+     * given interval (exclusive). </p>
+     *
+     * @param   interval    interval whose end is to be translated
+     * @return  exclusive upper key
+     * @throws  UnsupportedOperationException if the codec of the temporal type is not order-preserving
+     * @see     #getLowerKey(IsoInterval)
+     */
+    /*[deutsch]
+     * <p>Liefert den kleinsten Schl&uuml;ssel, der gr&ouml;&szlig;er als die Schl&uuml;ssel aller im
+     * angegebenen Intervall enthaltenen Zeitpunkte ist (exklusive). </p>
+     *
+     * @param   interval    interval whose end is to be translated
+     * @return  exclusive upper key
+     * @throws  UnsupportedOperationException if the codec of the temporal type is not order-preserving
+     * @see     #getLowerKey(IsoInterval)
+     */
+    public byte[] getUpperKey(I interval) {
+
+        this.checkOrderPreserving();
+        Boundary<T> end = interval.getEnd();
+
+        if (end.isInfinite()) {
+            return successor(this.boundaryCodec.toBytes(this.factory.getTimeLine().getMaximum()));
+        }
+
+        byte[] key = this.boundaryCodec.toBytes(end.getTemporal());
+        return (end.isOpen() ? key : successor(key));
+
+    }
+
+    @Override
+    public int getEncodedLength(I value) {
+
+        int len = 1;
+
+        if (!value.getStart().isInfinite()) {
+            len += this.boundaryCodec.getEncodedLength(value.getStart().getTemporal());
+        }
+
+        if (!value.getEnd().isInfinite()) {
+            len += this.boundaryCodec.getEncodedLength(value.getEnd().getTemporal());
+        }
+
+        return len;
+
+    }
+
+    private Boundary<T> readBoundary(
+        ByteBuffer buffer,
+        int infinite,
+        int open,
+        boolean start
+    ) {
+
+        if (infinite != 0) {
+            return (start ? Boundary.infinitePast() : Boundary.infiniteFuture());
+        }
+
+        T temporal = this.boundaryCodec.read(buffer);
+        return ((open != 0) ? Boundary.ofOpen(temporal) : Boundary.ofClosed(temporal));
+
+    }
+
+    private void checkOrderPreserving() {
+
+        if (!this.boundaryCodec.isOrderPreserving()) {
+            throw new UnsupportedOperationException("Boundary codec is not order-preserving.");
+        }
+
+    }
+
+    // kleinster Schlüssel, der lexikographisch größer ist: Anhängen eines Null-Bytes
+    private static byte[] successor(byte[] key) {
+
+        return Arrays.copyOf(key, key.length + 1);
+
+    }
+
+    private static int flags(
+        Boundary<?> start,
+        Boundary<?> end
+    ) {
+
+        int flags = 0;
+
+        if (start.isInfinite()) {
+            flags |= START_INFINITE;
+        } else if (start.isOpen()) {
+            flags |= START_OPEN;
+        }
+
+        if (end.isInfinite()) {
+            flags |= END_INFINITE;
+        } else if (end.isOpen()) {
+            flags |= END_OPEN;
+        }
+
+        return flags;
+
+    }
+
+}
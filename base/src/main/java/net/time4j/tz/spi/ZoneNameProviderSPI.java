@@ -27,7 +27,9 @@ import net.time4j.format.internal.PropertyBundle;
 import net.time4j.tz.NameStyle;
 import net.time4j.tz.ZoneNameProvider;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -45,6 +47,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -54,6 +57,11 @@ import java.util.concurrent.ConcurrentMap;
  * <p>Special implementation of {@code ZoneNameProvider} whose only purpose is
  * to assist in resolving timezone names to ids. </p>
  *
+ * <p>The zone names are determined by help of {@code DateFormatSymbols.getZoneStrings()}.
+ * Applications which build Time4J themselves for a fixed JDK can activate the Maven profile
+ * {@code zone-names} in order to include precompiled zone name tables of this JDK in the jar.
+ * These tables are only used if the running JDK is the same, otherwise ignored. </p>
+ *
  * @author  Meno Hochschild
  * @since   3.1
  */
@@ -64,6 +72,21 @@ public class ZoneNameProviderSPI
 
     private static final ConcurrentMap<Locale, Map<String, Map<NameStyle, String>>> NAMES = new ConcurrentHashMap<>();
 
+    static final String NAME_INDEX = "zones/names/index.properties";
+    static final String NAME_TABLE = "zones/names/table";
+
+    // Reihenfolge der Namen in DateFormatSymbols.getZoneStrings() und in den vorkompilierten Tabellen
+    static final NameStyle[] STYLE_ORDER = {
+        NameStyle.LONG_STANDARD_TIME,
+        NameStyle.SHORT_STANDARD_TIME,
+        NameStyle.LONG_DAYLIGHT_TIME,
+        NameStyle.SHORT_DAYLIGHT_TIME,
+        NameStyle.LONG_GENERIC_TIME,
+        NameStyle.SHORT_GENERIC_TIME
+    };
+
+    private static final Properties NAME_TABLES = loadNameIndex();
+
     private static final Set<String> GMT_ZONES;
     private static final Map<String, Set<String>> TERRITORIES;
     private static final Map<String, String> PRIMARIES;
@@ -155,37 +178,7 @@ public class ZoneNameProviderSPI
         Map<String, Map<NameStyle, String>> map = NAMES.get(locale);
 
         if (map == null) {
-            DateFormatSymbols symbols = DateFormatSymbols.getInstance(locale);
-            String[][] zoneNames = symbols.getZoneStrings();
-            map = new HashMap<>();
-
-            for (String[] arr : zoneNames) {
-                Map<NameStyle, String> names = new EnumMap<>(NameStyle.class);
-                names.put(NameStyle.LONG_STANDARD_TIME, arr[1]);
-                names.put(NameStyle.SHORT_STANDARD_TIME, arr[2]);
-                names.put(NameStyle.LONG_DAYLIGHT_TIME, arr[3]);
-                names.put(NameStyle.SHORT_DAYLIGHT_TIME, arr[4]);
-                if (arr.length >= 7) {
-                    names.put(NameStyle.LONG_GENERIC_TIME, arr[5]); // data introduced in Java-8
-                    names.put(NameStyle.SHORT_GENERIC_TIME, arr[6]);  // data introduced in Java-8
-                } else { // before 8u60
-                    try {
-                        ZoneId zoneId = ZoneId.of(arr[0]);
-                        DateTimeFormatter threetenLong =
-                            DateTimeFormatter.ofPattern("zzzz", locale).withZone(zoneId);
-                        DateTimeFormatter threetenShort =
-                            DateTimeFormatter.ofPattern("z", locale).withZone(zoneId);
-                        String s1 = threetenLong.format(LocalDate.MAX);
-                        String s2 = threetenShort.format(LocalDate.MAX);
-                        names.put(NameStyle.LONG_GENERIC_TIME, s1);
-                        names.put(NameStyle.SHORT_GENERIC_TIME, s2);
-                    } catch (ZoneRulesException ex) {
-                        names.put(NameStyle.LONG_GENERIC_TIME, "");
-                        names.put(NameStyle.SHORT_GENERIC_TIME, "");
-                    }
-                }
-                map.put(arr[0], names); // tz-id
-            }
+            map = loadNames(locale);
 
             Map<String, Map<NameStyle, String>> old = NAMES.putIfAbsent(locale, map);
 
@@ -226,17 +219,103 @@ public class ZoneNameProviderSPI
 
     }
 
+    /**
+     * <p>Yields the stamp of the locale data of the running JDK. </p>
+     *
+     * <p>Precompiled zone name tables are only used if they have been generated with the same stamp. </p>
+     *
+     * @return  String
+     * @since   5.8
+     */
+    static String getJdkStamp() {
+
+        return System.getProperty("java.vendor")
+            + "/" + System.getProperty("java.version")
+            + "/" + System.getProperty("java.locale.providers", "");
+
+    }
+
+    /**
+     * <p>Determines the zone names of given locale as map from zone id to styled names. </p>
+     *
+     * <p>Tries first to read the optional table generated with the Maven profile {@code zone-names}.
+     * If there is no such table for the locale or if the table was generated with the locale data
+     * of another JDK then the slow method {@code DateFormatSymbols.getZoneStrings()} will be used
+     * instead. </p>
+     *
+     * @param   locale  language and country setting
+     * @return  map from zone id to styled names
+     * @since   5.8
+     */
+    static Map<String, Map<NameStyle, String>> loadNames(Locale locale) {
+
+        if (NAME_TABLES != null) {
+            String table = NAME_TABLES.getProperty(locale.toLanguageTag());
+
+            if (table != null) {
+                Map<String, Map<NameStyle, String>> map = readNames(NAME_TABLE + table + ".dat");
+
+                if (map != null) {
+                    return map;
+                }
+            }
+        }
+
+        return createNames(locale);
+
+    }
+
+    /**
+     * <p>Determines the zone names of given locale based on the locale data of the running JDK. </p>
+     *
+     * @param   locale  language and country setting
+     * @return  map from zone id to styled names
+     * @since   5.8
+     */
+    static Map<String, Map<NameStyle, String>> createNames(Locale locale) {
+
+        DateFormatSymbols symbols = DateFormatSymbols.getInstance(locale);
+        String[][] zoneNames = symbols.getZoneStrings();
+        Map<String, Map<NameStyle, String>> map = new HashMap<>();
+
+        for (String[] arr : zoneNames) {
+            Map<NameStyle, String> names = new EnumMap<>(NameStyle.class);
+            names.put(NameStyle.LONG_STANDARD_TIME, arr[1]);
+            names.put(NameStyle.SHORT_STANDARD_TIME, arr[2]);
+            names.put(NameStyle.LONG_DAYLIGHT_TIME, arr[3]);
+            names.put(NameStyle.SHORT_DAYLIGHT_TIME, arr[4]);
+            if (arr.length >= 7) {
+                names.put(NameStyle.LONG_GENERIC_TIME, arr[5]); // data introduced in Java-8
+                names.put(NameStyle.SHORT_GENERIC_TIME, arr[6]);  // data introduced in Java-8
+            } else { // before 8u60
+                try {
+                    ZoneId zoneId = ZoneId.of(arr[0]);
+                    DateTimeFormatter threetenLong =
+                        DateTimeFormatter.ofPattern("zzzz", locale).withZone(zoneId);
+                    DateTimeFormatter threetenShort =
+                        DateTimeFormatter.ofPattern("z", locale).withZone(zoneId);
+                    String s1 = threetenLong.format(LocalDate.MAX);
+                    String s2 = threetenShort.format(LocalDate.MAX);
+                    names.put(NameStyle.LONG_GENERIC_TIME, s1);
+                    names.put(NameStyle.SHORT_GENERIC_TIME, s2);
+                } catch (ZoneRulesException ex) {
+                    names.put(NameStyle.LONG_GENERIC_TIME, "");
+                    names.put(NameStyle.SHORT_GENERIC_TIME, "");
+                }
+            }
+            map.put(arr[0], names); // tz-id
+        }
+
+        return map;
+
+    }
+
     static void loadTerritories(
         Map<String, Set<String>> map,
         String name
     ) {
 
-        URI uri = ResourceLoader.getInstance().locate("base", ZoneNameProviderSPI.class, name);
-        InputStream is = ResourceLoader.getInstance().load(uri, true);
-
-        if (is == null) {
-            is = ZoneNameProviderSPI.class.getClassLoader().getResourceAsStream(name);
-        }
+        InputStream is = open(name);
 
         if (is != null) {
             try {
@@ -270,6 +349,78 @@ public class ZoneNameProviderSPI
 
     }
 
+    private static Properties loadNameIndex() {
+
+        InputStream is = open(NAME_INDEX);
+
+        if (is == null) {
+            return null; // kein Fehler, zum Beispiel bei Entwicklung in einer IDE ohne Maven
+        }
+
+        Properties index = new Properties();
+
+        try {
+            index.load(new InputStreamReader(is, "UTF-8"));
+        } catch (IOException ex) {
+            System.err.println("Warning: File \"" + NAME_INDEX + "\" cannot be read: " + ex.getMessage());
+            return null;
+        } finally {
+            try {
+                is.close();
+            } catch (IOException ioe) {
+                ioe.printStackTrace(System.err);
+            }
+        }
+
+        return getJdkStamp().equals(index.getProperty("jdk")) ? index : null; // andernfalls veraltet
+
+    }
+
+    private static Map<String, Map<NameStyle, String>> readNames(String name) {
+
+        InputStream is = open(name);
+
+        if (is == null) {
+            System.err.println("Warning: File \"" + name + "\" not found.");
+            return null;
+        }
+
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(is))) {
+            String[] pool = new String[dis.readInt()];
+            for (int i = 0; i < pool.length; i++) {
+                pool[i] = dis.readUTF();
+            }
+            int count = dis.readInt();
+            Map<String, Map<NameStyle, String>> map = new HashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                String tzid = pool[dis.readInt()];
+                Map<NameStyle, String> names = new EnumMap<>(NameStyle.class);
+                for (NameStyle style : STYLE_ORDER) {
+                    names.put(style, pool[dis.readInt()]);
+                }
+                map.put(tzid, names);
+            }
+            return map;
+        } catch (IOException | RuntimeException ex) {
+            System.err.println("Warning: File \"" + name + "\" cannot be read: " + ex);
+            return null;
+        }
+
+    }
+
+    private static InputStream open(String name) {
+
+        URI uri = ResourceLoader.getInstance().locate("base", ZoneNameProviderSPI.class, name);
+        InputStream is = ResourceLoader.getInstance().load(uri, true);
+
+        if (is == null) {
+            is = ZoneNameProviderSPI.class.getClassLoader().getResourceAsStream(name);
+        }
+
+        return is;
+
+    }
+
     private static void addTerritory(
         Map<String, Set<String>> map,
         String country,
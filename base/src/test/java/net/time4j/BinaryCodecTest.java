@@ -0,0 +1,263 @@
+package net.time4j;
+
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BinaryCodecTest {
+
+    @Test
+    public void plainDate() {
+        PlainDate[] dates = {
+            PlainDate.of(2020, 2, 29), PlainDate.of(1972, 1, 1), PlainDate.of(1, 1, 1), PlainDate.of(-4713, 11, 24),
+            PlainDate.axis().getMinimum(), PlainDate.axis().getMaximum()
+        };
+        for (PlainDate date : dates) {
+            assertThat(roundtrip(BinaryCodec.PLAIN_DATE, date), is(date));
+            assertThat(roundtrip(BinaryCodec.PLAIN_DATE_VARINT, date), is(date));
+            assertThat(BinaryCodec.PLAIN_DATE.getEncodedLength(date), is(6));
+        }
+        assertThat(BinaryCodec.PLAIN_DATE_VARINT.getEncodedLength(PlainDate.of(2020, 2, 29)), is(3));
+        assertThat(BinaryCodec.PLAIN_DATE_VARINT.getEncodedLength(PlainDate.of(1972, 1, 1)), is(1));
+    }
+
+    @Test
+    public void plainTime() {
+        PlainTime[] times = {
+            PlainTime.midnightAtStartOfDay(), PlainTime.midnightAtEndOfDay(), PlainTime.of(17, 45),
+            PlainTime.of(23, 59, 59, 999_999_999), PlainTime.of(12, 0, 30, 123_000_000)
+        };
+        for (PlainTime time : times) {
+            assertThat(roundtrip(BinaryCodec.PLAIN_TIME, time), is(time));
+            assertThat(roundtrip(BinaryCodec.PLAIN_TIME_VARINT, time), is(time));
+            assertThat(BinaryCodec.PLAIN_TIME.getEncodedLength(time), is(7));
+        }
+        assertThat(BinaryCodec.PLAIN_TIME_VARINT.getEncodedLength(PlainTime.midnightAtStartOfDay()), is(1));
+    }
+
+    @Test
+    public void plainTimestamp() {
+        PlainTimestamp tsp = PlainTimestamp.of(2020, 2, 29, 17, 45, 30).plus(123456789, ClockUnit.NANOS);
+        assertThat(roundtrip(BinaryCodec.PLAIN_TIMESTAMP, tsp), is(tsp));
+        assertThat(roundtrip(BinaryCodec.PLAIN_TIMESTAMP_VARINT, tsp), is(tsp));
+        assertThat(BinaryCodec.PLAIN_TIMESTAMP.getEncodedLength(tsp), is(13));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void plainTimestampWithHour24() {
+        ByteBuffer buffer = ByteBuffer.allocate(13);
+        BinaryCodec.PLAIN_DATE.write(PlainDate.of(2020, 2, 29), buffer);
+        BinaryCodec.PLAIN_TIME.write(PlainTime.midnightAtEndOfDay(), buffer);
+        BinaryCodec.PLAIN_TIMESTAMP.fromBytes(buffer.array());
+    }
+
+    @Test
+    public void moment() {
+        Moment[] moments = {
+            Moment.UNIX_EPOCH, Moment.axis().getMinimum(), Moment.axis().getMaximum(),
+            Moment.of(1_600_000_000L, 123_456_789, TimeScale.POSIX), Moment.of(-1, 999_999_999, TimeScale.POSIX),
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(1, SI.SECONDS).plus(5, SI.NANOSECONDS)
+        };
+        for (Moment moment : moments) {
+            assertThat(roundtrip(BinaryCodec.MOMENT, moment), is(moment));
+            assertThat(roundtrip(BinaryCodec.MOMENT_VARINT, moment), is(moment));
+            assertThat(BinaryCodec.MOMENT.getEncodedLength(moment), is(12));
+        }
+        assertThat(roundtrip(BinaryCodec.MOMENT, moments[5]).isLeapSecond(), is(true));
+        assertThat(
+            BinaryCodec.MOMENT_VARINT.getEncodedLength(Moment.of(1_600_000_000L, TimeScale.POSIX)),
+            is(6));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void momentWithUnregisteredLeapSecond() {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putLong(1_600_000_000L);
+        buffer.putInt(0x40000000);
+        BinaryCodec.MOMENT.fromBytes(buffer.array());
+    }
+
+    @Test
+    public void zonalDateTime() {
+        Moment moment = Moment.of(1_600_000_000L, 500, TimeScale.POSIX);
+        ZonalDateTime[] values = {
+            moment.inZonalView(ZonalOffset.UTC),
+            moment.inZonalView(ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 5, 30))
+        };
+        for (ZonalDateTime zdt : values) {
+            ZonalDateTime copy = roundtrip(BinaryCodec.ZONAL_DATE_TIME, zdt);
+            assertThat(copy.toMoment(), is(moment));
+            assertThat(copy.getTimezone().canonical(), is(zdt.getTimezone().canonical()));
+            assertThat(copy.toTimestamp(), is(zdt.toTimestamp()));
+            assertThat(roundtrip(BinaryCodec.ZONAL_DATE_TIME_VARINT, zdt).toTimestamp(), is(zdt.toTimestamp()));
+        }
+    }
+
+    @Test
+    public void duration() {
+        Duration<IsoUnit> d1 = Duration.ofPositive().years(2).months(13).days(5).hours(1000).nanos(1).build();
+        Duration<IsoUnit> d2 =
+            Duration.<IsoUnit>of(3, CalendarUnit.MILLENNIA)
+                .plus(2, CalendarUnit.WEEKS)
+                .plus(Long.MAX_VALUE / 2, ClockUnit.SECONDS)
+                .inverse();
+        Duration<IsoUnit> d3 = Duration.ofZero();
+        for (Duration<IsoUnit> d : Arrays.asList(d1, d2, d3)) {
+            assertThat(roundtrip(BinaryCodec.DURATION, d), is(d));
+        }
+        assertThat(BinaryCodec.DURATION.getEncodedLength(d3), is(1));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void durationWithUnsupportedUnit() {
+        Duration<IsoUnit> d = Duration.of(3, CalendarUnit.MONTHS.atEndOfMonth());
+        BinaryCodec.DURATION.toBytes(d);
+    }
+
+    @Test
+    public void sequenceInSharedBuffer() {
+        PlainDate date = PlainDate.of(2020, 2, 29);
+        Moment moment = Moment.of(1_600_000_000L, TimeScale.POSIX);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        BinaryCodec.MOMENT.write(moment, buffer);
+        BinaryCodec.PLAIN_DATE_VARINT.write(date, buffer);
+        BinaryCodec.PLAIN_TIME.write(PlainTime.of(12), buffer);
+        buffer.flip();
+        assertThat(BinaryCodec.MOMENT.read(buffer), is(moment));
+        assertThat(BinaryCodec.PLAIN_DATE_VARINT.read(buffer), is(date));
+        assertThat(BinaryCodec.PLAIN_TIME.read(buffer), is(PlainTime.of(12)));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test(expected=BufferOverflowException.class)
+    public void bufferTooSmall() {
+        BinaryCodec.MOMENT.write(Moment.UNIX_EPOCH, ByteBuffer.allocate(11));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void truncatedData() {
+        BinaryCodec.PLAIN_DATE.fromBytes(new byte[5]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void trailingData() {
+        BinaryCodec.PLAIN_DATE_VARINT.fromBytes(new byte[2]);
+    }
+
+    @Test
+    public void smallerThanSerialization() throws IOException {
+        Moment moment = Moment.of(1_600_000_000L, 123_456_789, TimeScale.POSIX);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(moment);
+        }
+        assertThat(BinaryCodec.MOMENT.toBytes(moment).length < baos.size(), is(true));
+    }
+
+    @Test
+    public void orderPreservingDates() {
+        Random random = new Random(4711);
+        List<PlainDate> dates = new ArrayList<>();
+        dates.add(PlainDate.axis().getMinimum());
+        dates.add(PlainDate.axis().getMaximum());
+        for (int i = 0; i < 2000; i++) {
+            long utcDays = (long) ((random.nextDouble() - 0.5) * 2 * 365_000_000L);
+            dates.add(PlainDate.of(utcDays, EpochDays.UTC));
+            dates.add(PlainDate.of(random.nextInt(4000) - 2000, 1 + random.nextInt(12), 1 + random.nextInt(28)));
+        }
+        checkOrder(BinaryCodec.PLAIN_DATE, dates);
+        assertThat(BinaryCodec.PLAIN_DATE.isOrderPreserving(), is(true));
+        assertThat(BinaryCodec.PLAIN_DATE_VARINT.isOrderPreserving(), is(false));
+    }
+
+    @Test
+    public void orderPreservingTimestamps() {
+        Random random = new Random(815);
+        List<PlainTimestamp> timestamps = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            PlainDate date = PlainDate.of(random.nextInt(4000) - 2000, 1 + random.nextInt(12), 1 + random.nextInt(28));
+            PlainTime time = PlainTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60));
+            timestamps.add(PlainTimestamp.of(date, time).plus(random.nextInt(1_000_000_000), ClockUnit.NANOS));
+        }
+        checkOrder(BinaryCodec.PLAIN_TIMESTAMP, timestamps);
+        assertThat(BinaryCodec.PLAIN_TIMESTAMP.isOrderPreserving(), is(true));
+        assertThat(BinaryCodec.PLAIN_TIME.isOrderPreserving(), is(true));
+    }
+
+    @Test
+    public void orderPreservingMoments() {
+        Random random = new Random(1234);
+        List<Moment> moments = new ArrayList<>();
+        moments.add(Moment.axis().getMinimum());
+        moments.add(Moment.axis().getMaximum());
+        Moment ls = PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        for (int i = 0; i < 5; i++) {
+            int nano = random.nextInt(1_000_000_000);
+            moments.add(ls.minus(1, SI.SECONDS).plus(nano, SI.NANOSECONDS));
+            moments.add(ls.plus(nano, SI.NANOSECONDS));
+            moments.add(ls.plus(1, SI.SECONDS).plus(nano, SI.NANOSECONDS));
+        }
+        for (int i = 0; i < 2000; i++) {
+            long posix = (long) ((random.nextDouble() - 0.5) * 2 * 100_000_000_000L);
+            moments.add(Moment.of(posix, random.nextInt(1_000_000_000), TimeScale.POSIX));
+        }
+        checkOrder(BinaryCodec.MOMENT, moments);
+        assertThat(BinaryCodec.MOMENT_VARINT.isOrderPreserving(), is(false));
+    }
+
+    @Test
+    public void compareUnsigned() {
+        assertThat(BinaryCodec.compareUnsigned(new byte[] {1, 2}, new byte[] {1, 2}), is(0));
+        assertThat(BinaryCodec.compareUnsigned(new byte[] {1}, new byte[] {1, 0}) < 0, is(true));
+        assertThat(BinaryCodec.compareUnsigned(new byte[] {(byte) 0x80}, new byte[] {0x7F}) > 0, is(true));
+        assertThat(BinaryCodec.compareUnsigned(new byte[0], new byte[] {0}) < 0, is(true));
+    }
+
+    private static <T extends Comparable<? super T>> void checkOrder(
+        BinaryCodec<T> codec,
+        List<T> values
+    ) {
+        Collections.shuffle(values, new Random(99));
+        List<T> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        List<byte[]> keys = new ArrayList<>();
+        for (T value : values) {
+            keys.add(codec.toBytes(value));
+        }
+        keys.sort(BinaryCodec::compareUnsigned);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(codec.fromBytes(keys.get(i)), is(sorted.get(i)));
+        }
+    }
+
+    private static <T> T roundtrip(
+        BinaryCodec<T> codec,
+        T value
+    ) {
+        byte[] data = codec.toBytes(value);
+        assertThat(data.length, is(codec.getEncodedLength(value)));
+        return codec.fromBytes(data);
+    }
+
+}
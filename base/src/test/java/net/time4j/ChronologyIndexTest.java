@@ -0,0 +1,60 @@
+package net.time4j;
+
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.Chronology;
+import net.time4j.engine.ElementRule;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ChronologyIndexTest {
+
+    @Test
+    public void denseIndicesOfRegisteredElements() {
+        Chronology<PlainDate> chronology = PlainDate.axis();
+        int n = chronology.getRegisteredElements().size();
+        Set<Integer> indices = new HashSet<>();
+        for (ChronoElement<?> element : chronology.getRegisteredElements()) {
+            int index = chronology.getElementIndex(element);
+            assertThat(index >= 0 && index < n, is(true));
+            indices.add(index);
+        }
+        assertThat(indices.size(), is(n));
+    }
+
+    @Test
+    public void unregisteredElement() {
+        assertThat(PlainDate.axis().getElementIndex(PlainTime.CLOCK_HOUR_OF_AMPM), is(-1));
+        assertThat(PlainDate.axis().getElementIndex(null), is(-1));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void boundRuleEqualsLookup() {
+        Chronology<PlainDate> chronology = PlainDate.axis();
+        PlainDate date = PlainDate.of(2020, 10, 19);
+        ElementRule<PlainDate, Integer> rule =
+            (ElementRule<PlainDate, Integer>) chronology.getRule(chronology.getElementIndex(PlainDate.DAY_OF_MONTH));
+        assertThat(rule.getValue(date), is(19));
+        assertThat(rule.getMaximum(date), is(date.getMaximum(PlainDate.DAY_OF_MONTH)));
+        assertThat(
+            chronology.getRule(chronology.getElementIndex(PlainDate.YEAR)),
+            sameInstance((Object) chronology.getRule(chronology.getElementIndex(PlainDate.YEAR))));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void invalidIndex() {
+        PlainDate.axis().getRule(PlainDate.axis().getRegisteredElements().size());
+    }
+
+}
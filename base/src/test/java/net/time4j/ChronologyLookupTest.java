@@ -0,0 +1,44 @@
+package net.time4j;
+
+import net.time4j.calendar.HijriCalendar;
+import net.time4j.engine.Chronology;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ChronologyLookupTest {
+
+    @Test
+    public void lookupOfStandardTypes() {
+        assertThat(Chronology.lookup(PlainDate.class), sameInstance((Object) PlainDate.axis()));
+        assertThat(Chronology.lookup(PlainTime.class), sameInstance((Object) PlainTime.axis()));
+        assertThat(Chronology.lookup(PlainTimestamp.class), sameInstance((Object) PlainTimestamp.axis()));
+        assertThat(Chronology.lookup(Moment.class), sameInstance((Object) Moment.axis()));
+    }
+
+    @Test
+    public void lookupOfCalendarFamily() {
+        assertThat(Chronology.lookup(HijriCalendar.class), sameInstance((Object) HijriCalendar.family()));
+    }
+
+    @Test
+    public void lookupRepeated() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(Chronology.lookup(PlainDate.class).getChronoType() == PlainDate.class, is(true));
+        }
+    }
+
+    @Test
+    public void lookupOfUnregisteredType() {
+        assertThat(Chronology.lookup(String.class), nullValue());
+    }
+
+}
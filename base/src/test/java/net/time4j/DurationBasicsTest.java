@@ -16,6 +16,7 @@ import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -1444,6 +1445,18 @@ public class DurationBasicsTest {
             is(Duration.ofNegative().years(2).days(15).hours(30).minutes(5).build()));
     }
 
+    @Test
+    public void parseAllReportsFailedElement() {
+        Duration.Formatter<IsoUnit> f = Duration.Formatter.ofJodaStyle();
+        try {
+            f.parseAll(Arrays.asList("P1Y", "P2M", "P3X"));
+            fail("Invalid element parsed.");
+        } catch (ParseException pe) {
+            assertThat(pe.getMessage().startsWith("Element 2: "), is(true));
+            assertThat(pe.getErrorOffset(), is(1)); // unparsed "3X"
+        }
+    }
+
     @Test
     public void noMillisbutNanos() {
         PlainTime t1 = PlainTime.midnightAtStartOfDay().plus(3, ClockUnit.MILLIS);
@@ -2,6 +2,7 @@ package net.time4j;
 
 import java.text.ParseException;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -135,4 +136,17 @@ public class DurationFormatterTest {
             is(this.value));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void bulk() throws ParseException {
+        List<Duration<IsoUnit>> values = Arrays.asList(this.value, this.value.inverse(), this.value);
+        List<String> texts = this.formatter.formatAll(values);
+        assertThat(texts.size(), is(3));
+        assertThat(texts.get(0), is(this.text));
+        assertThat(texts.get(1), is(this.formatter.format(this.value.inverse())));
+        assertThat(texts.get(2), is(this.text));
+        assertThat(
+            this.formatter.parseAll(Arrays.asList(this.text, this.text)),
+            is(Arrays.asList(this.value, this.value)));
+    }
+
+}
@@ -0,0 +1,134 @@
+package net.time4j;
+
+import net.time4j.engine.EpochDays;
+import net.time4j.tz.ZonalOffset;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class FlyweightCacheTest {
+
+    @After
+    public void reset() {
+        FlyweightCache.setDateWindow(400);
+        FlyweightCache.setPolicy(FlyweightCache.Policy.DISABLED);
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertThat(FlyweightCache.getPolicy(), is(FlyweightCache.Policy.DISABLED));
+        assertThat(PlainTime.of(10, 15), not(sameInstance(PlainTime.of(10, 15))));
+        PlainDate today = SystemClock.inLocalView().today();
+        assertThat(
+            PlainDate.of(today.getYear(), today.getMonth(), today.getDayOfMonth()),
+            not(sameInstance(PlainDate.of(today.getYear(), today.getMonth(), today.getDayOfMonth()))));
+        FlyweightCache.Statistics stats = FlyweightCache.getStatistics();
+        assertThat(stats.getCachedTimes(), is(0));
+        assertThat(stats.getCachedDates(), is(0));
+        assertThat(stats.getEstimatedMemory(), is(0L));
+    }
+
+    @Test
+    public void cachedTimes() {
+        FlyweightCache.setPolicy(FlyweightCache.Policy.TIMES);
+        PlainTime t = PlainTime.of(10, 15);
+        assertThat(PlainTime.of(10, 15, 0), sameInstance(t));
+        assertThat(PlainTime.of(10, 15, 0, 0), sameInstance(t));
+        assertThat(PlainTime.of(23, 59, 59), sameInstance(PlainTime.of(23, 59, 59)));
+        assertThat(PlainTime.of(23, 59, 59, 1), not(sameInstance(PlainTime.of(23, 59, 59, 1))));
+        assertThat(PlainTime.of(23, 59, 59, 1), is(PlainTime.of(23, 59, 59, 1)));
+        assertThat(PlainTime.of(0, 0, 1).getSecond(), is(1));
+        assertThat(
+            PlainTimestamp.of(2020, 3, 17, 10, 15).atUTC().toZonalTimestamp(ZonalOffset.UTC).getWallTime(),
+            sameInstance(t));
+        assertThat(FlyweightCache.getStatistics().getCachedTimes(), is(3));
+        assertThat(FlyweightCache.getStatistics().getCachedDates(), is(0));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidTimeNotCached() {
+        FlyweightCache.setPolicy(FlyweightCache.Policy.TIMES);
+        PlainTime.of(10, 60, 0);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidTimeAtEndOfDay() {
+        FlyweightCache.setPolicy(FlyweightCache.Policy.TIMES);
+        PlainTime.of(24, 0, 1);
+    }
+
+    @Test
+    public void cachedDates() {
+        FlyweightCache.setPolicy(FlyweightCache.Policy.DATES);
+        PlainDate today = SystemClock.inZonalView(ZonalOffset.UTC).today();
+        PlainDate d = PlainDate.of(today.getYear(), today.getMonth(), today.getDayOfMonth());
+        assertThat(PlainDate.of(today.getYear(), today.getMonth(), today.getDayOfMonth()), sameInstance(d));
+        assertThat(PlainDate.of(today.getYear(), today.getDayOfYear()), sameInstance(d));
+        assertThat(
+            PlainDate.of(today.getDaysSinceEpochUTC(), EpochDays.UTC),
+            sameInstance(d));
+        assertThat(
+            today.atStartOfDay().atUTC().toZonalTimestamp(ZonalOffset.UTC).getCalendarDate(),
+            sameInstance(d));
+        assertThat(d.getDayOfWeek(), is(today.getDayOfWeek()));
+
+        PlainDate farAway = today.plus(500, CalendarUnit.DAYS);
+        assertThat(
+            PlainDate.of(farAway.getYear(), farAway.getMonth(), farAway.getDayOfMonth()),
+            not(sameInstance(PlainDate.of(farAway.getYear(), farAway.getMonth(), farAway.getDayOfMonth()))));
+
+        FlyweightCache.Statistics stats = FlyweightCache.getStatistics();
+        assertThat(stats.getPolicy(), is(FlyweightCache.Policy.DATES));
+        assertThat(stats.getCachedTimes(), is(0));
+        assertThat(stats.getCachedDates() >= 1, is(true));
+        assertThat(stats.getEstimatedMemory() > 801 * 4, is(true));
+    }
+
+    @Test
+    public void dateWindow() {
+        FlyweightCache.setPolicy(FlyweightCache.Policy.TIMES_AND_DATES);
+        FlyweightCache.setDateWindow(0);
+        assertThat(FlyweightCache.getDateWindow(), is(0));
+        PlainDate today = SystemClock.inZonalView(ZonalOffset.UTC).today();
+        PlainDate tomorrow = today.plus(1, CalendarUnit.DAYS);
+        PlainDate t1 = PlainDate.of(today.getYear(), today.getMonth(), today.getDayOfMonth());
+        PlainDate t2 = PlainDate.of(tomorrow.getYear(), tomorrow.getMonth(), tomorrow.getDayOfMonth());
+        if (t1 == PlainDate.of(today.getYear(), today.getMonth(), today.getDayOfMonth())) {
+            // kein Datumswechsel während des Tests
+            assertThat(
+                PlainDate.of(tomorrow.getYear(), tomorrow.getMonth(), tomorrow.getDayOfMonth()),
+                not(sameInstance(t2)));
+            assertThat(FlyweightCache.getStatistics().getCachedDates(), is(1));
+        }
+        FlyweightCache.clear();
+        assertThat(FlyweightCache.getPolicy(), is(FlyweightCache.Policy.TIMES_AND_DATES));
+        assertThat(FlyweightCache.getStatistics().getCachedDates(), is(0));
+    }
+
+    @Test
+    public void invalidSystemProperties() {
+        assertThat(FlyweightCache.parsePolicy(null), is(FlyweightCache.Policy.DISABLED));
+        assertThat(FlyweightCache.parsePolicy("TIMES"), is(FlyweightCache.Policy.TIMES));
+        assertThat(FlyweightCache.parsePolicy("times"), is(FlyweightCache.Policy.DISABLED));
+        assertThat(FlyweightCache.parseWindow(null), is(400));
+        assertThat(FlyweightCache.parseWindow("30"), is(30));
+        assertThat(FlyweightCache.parseWindow("abc"), is(400));
+        assertThat(FlyweightCache.parseWindow("-1"), is(400));
+        assertThat(FlyweightCache.parseWindow(String.valueOf(FlyweightCache.MAX_DATE_WINDOW + 1)), is(400));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void dateWindowOutOfRange() {
+        FlyweightCache.setDateWindow(FlyweightCache.MAX_DATE_WINDOW + 1);
+    }
+
+}
@@ -10,6 +10,7 @@ import java.math.RoundingMode;
 import java.text.ParseException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -564,6 +565,20 @@ public class MachineTimeTest {
         assertThat(mt2, is(MachineTime.of(-99005, TimeUnit.SECONDS)));
     }
 
+    @Test
+    public void formatAndParseAll() throws ParseException {
+        MachineTime.Formatter f =
+            MachineTime.Formatter.ofPattern("+D:hh:mm:ss[.fff]");
+        List<MachineTime<TimeUnit>> durations =
+            Arrays.asList(
+                MachineTime.of(99005, TimeUnit.SECONDS),
+                MachineTime.ofPosixUnits(-65, -120000000),
+                MachineTime.of(0, TimeUnit.SECONDS));
+        List<String> texts = f.formatAll(durations);
+        assertThat(texts, is(Arrays.asList("+1:03:30:05", "-0:00:01:05.120", "+0:00:00:00")));
+        assertThat(f.parseAll(texts), is(durations));
+    }
+
     @Test
     public void threetenConversion() {
         MachineTime<TimeUnit> mt = MachineTime.ofPosixUnits(-2, -123456789);
@@ -25,7 +25,9 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Random;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -417,4 +419,183 @@ public class TemporalTypeTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void translateAllLocalDates() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Random rnd = new Random(42);
+            LocalDate[] sources = new LocalDate[20000];
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = ((i % 1000 == 7) ? null : LocalDate.ofEpochDay(rnd.nextInt(2_000_000) - 1_000_000));
+            }
+            PlainDate[] targets = new PlainDate[sources.length];
+            TemporalType.LOCAL_DATE.translateAll(sources, targets, parallel);
+            LocalDate[] back = new LocalDate[sources.length];
+            TemporalType.LOCAL_DATE.fromAll(targets, back, parallel);
+            for (int i = 0; i < sources.length; i++) {
+                if (sources[i] == null) {
+                    assertThat(targets[i] == null, is(true));
+                } else {
+                    assertThat(targets[i], is(TemporalType.LOCAL_DATE.translate(sources[i])));
+                }
+            }
+            assertThat(Arrays.equals(back, sources), is(true));
+        }
+    }
+
+    @Test
+    public void translateAllLocalTimesAndDateTimes() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Random rnd = new Random(17);
+            LocalTime[] times = new LocalTime[10000];
+            LocalDateTime[] tsps = new LocalDateTime[times.length];
+            for (int i = 0; i < times.length; i++) {
+                times[i] = LocalTime.ofNanoOfDay(Math.floorMod(rnd.nextLong(), 86_400_000_000_000L));
+                tsps[i] = LocalDateTime.of(LocalDate.ofEpochDay(rnd.nextInt(200_000) - 100_000), times[i]);
+            }
+            PlainTime[] t1 = new PlainTime[times.length];
+            PlainTimestamp[] t2 = new PlainTimestamp[times.length];
+            TemporalType.LOCAL_TIME.translateAll(times, t1, parallel);
+            TemporalType.LOCAL_DATE_TIME.translateAll(tsps, t2, parallel);
+            for (int i = 0; i < times.length; i++) {
+                assertThat(t1[i], is(TemporalType.LOCAL_TIME.translate(times[i])));
+                assertThat(t2[i], is(TemporalType.LOCAL_DATE_TIME.translate(tsps[i])));
+            }
+            LocalDateTime[] back = new LocalDateTime[times.length];
+            TemporalType.LOCAL_DATE_TIME.fromAll(t2, back, parallel);
+            assertThat(Arrays.equals(back, tsps), is(true));
+        }
+    }
+
+    @Test
+    public void translateAllInstants() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Random rnd = new Random(99);
+            Instant[] sources = new Instant[10000];
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = Instant.ofEpochSecond(rnd.nextInt(), rnd.nextInt(1_000_000_000));
+            }
+            Moment[] targets = new Moment[sources.length];
+            TemporalType.INSTANT.translateAll(sources, targets, parallel);
+            Instant[] back = new Instant[sources.length];
+            TemporalType.INSTANT.fromAll(targets, back, parallel);
+            for (int i = 0; i < sources.length; i++) {
+                assertThat(targets[i], is(TemporalType.INSTANT.translate(sources[i])));
+            }
+            assertThat(Arrays.equals(back, sources), is(true));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void translateAllWithDifferentLengths() {
+        TemporalType.LOCAL_DATE.translateAll(new LocalDate[3], new PlainDate[2], false);
+    }
+
+    @Test
+    public void epochMillisToMoments() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Random rnd = new Random(5);
+            long[] millis = new long[10000];
+            for (int i = 0; i < millis.length; i++) {
+                millis[i] = rnd.nextLong() % 100_000_000_000_000L;
+            }
+            Moment[] moments = new Moment[millis.length];
+            TemporalType.toMoments(millis, TimeUnit.MILLISECONDS, moments, parallel);
+            for (int i = 0; i < millis.length; i++) {
+                assertThat(moments[i], is(TemporalType.MILLIS_SINCE_UNIX.translate(millis[i])));
+            }
+            long[] back = new long[millis.length];
+            TemporalType.fromMoments(moments, TimeUnit.MILLISECONDS, back, parallel);
+            assertThat(Arrays.equals(back, millis), is(true));
+        }
+    }
+
+    @Test
+    public void epochValuesInOtherUnits() {
+        long[] values = {-1L, 0L, 1L, 1341100800123456789L};
+        Moment[] moments = new Moment[values.length];
+        TemporalType.toMoments(values, TimeUnit.NANOSECONDS, moments, false);
+        assertThat(moments[0], is(Moment.of(-1, 999_999_999, TimeScale.POSIX)));
+        assertThat(moments[3], is(Moment.of(1341100800L, 123456789, TimeScale.POSIX)));
+        long[] back = new long[values.length];
+        TemporalType.fromMoments(moments, TimeUnit.NANOSECONDS, back, false);
+        assertThat(Arrays.equals(back, values), is(true));
+        TemporalType.fromMoments(moments, TimeUnit.SECONDS, back, false);
+        assertThat(Arrays.equals(back, new long[] {-1L, 0L, 0L, 1341100800L}), is(true));
+        TemporalType.fromMoments(moments, TimeUnit.DAYS, back, false);
+        assertThat(Arrays.equals(back, new long[] {-1L, 0L, 0L, 15522L}), is(true));
+        TemporalType.toMoments(new long[] {15522L}, TimeUnit.DAYS, moments = new Moment[1], false);
+        assertThat(moments[0], is(PlainTimestamp.of(2012, 7, 1, 0, 0).atUTC()));
+    }
+
+    @Test
+    public void epochDaysToPlainDates() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Random rnd = new Random(11);
+            long[] days = new long[10000];
+            for (int i = 0; i < days.length; i++) {
+                days[i] = rnd.nextInt(2_000_000) - 1_000_000;
+            }
+            PlainDate[] dates = new PlainDate[days.length];
+            TemporalType.toPlainDates(days, dates, parallel);
+            for (int i = 0; i < days.length; i++) {
+                assertThat(dates[i], is(TemporalType.LOCAL_DATE.translate(LocalDate.ofEpochDay(days[i]))));
+            }
+            long[] back = new long[days.length];
+            TemporalType.fromPlainDates(dates, back, parallel);
+            assertThat(Arrays.equals(back, days), is(true));
+        }
+    }
+
+    @Test
+    public void nanosToPlainTimes() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Random rnd = new Random(23);
+            long[] nanos = new long[10000];
+            for (int i = 0; i < nanos.length; i++) {
+                nanos[i] = Math.floorMod(rnd.nextLong(), 86_400_000_000_000L);
+            }
+            PlainTime[] times = new PlainTime[nanos.length];
+            TemporalType.toPlainTimes(nanos, TimeUnit.NANOSECONDS, times, parallel);
+            for (int i = 0; i < nanos.length; i++) {
+                assertThat(times[i], is(TemporalType.LOCAL_TIME.translate(LocalTime.ofNanoOfDay(nanos[i]))));
+            }
+            long[] back = new long[nanos.length];
+            TemporalType.fromPlainTimes(times, TimeUnit.NANOSECONDS, back, parallel);
+            assertThat(Arrays.equals(back, nanos), is(true));
+        }
+        PlainTime[] times = new PlainTime[2];
+        TemporalType.toPlainTimes(new long[] {0, 86400}, TimeUnit.SECONDS, times, false);
+        assertThat(times[0], is(PlainTime.midnightAtStartOfDay()));
+        assertThat(times[1], is(PlainTime.midnightAtEndOfDay()));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void plainTimesOutOfRange() {
+        TemporalType.toPlainTimes(new long[] {86401}, TimeUnit.SECONDS, new PlainTime[1], false);
+    }
+
+    @Test
+    public void localEpochValuesToPlainTimestamps() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Random rnd = new Random(31);
+            long[] micros = new long[10000];
+            for (int i = 0; i < micros.length; i++) {
+                micros[i] = rnd.nextLong() % 10_000_000_000_000_000L;
+            }
+            PlainTimestamp[] tsps = new PlainTimestamp[micros.length];
+            TemporalType.toPlainTimestamps(micros, TimeUnit.MICROSECONDS, tsps, parallel);
+            for (int i = 0; i < micros.length; i++) {
+                LocalDateTime ldt =
+                    LocalDateTime.ofEpochSecond(
+                        Math.floorDiv(micros[i], 1_000_000L),
+                        (int) Math.floorMod(micros[i], 1_000_000L) * 1000,
+                        ZoneOffset.UTC);
+                assertThat(tsps[i], is(TemporalType.LOCAL_DATE_TIME.translate(ldt)));
+            }
+            long[] back = new long[micros.length];
+            TemporalType.fromPlainTimestamps(tsps, TimeUnit.MICROSECONDS, back, parallel);
+            assertThat(Arrays.equals(back, micros), is(true));
+        }
+    }
+
+}
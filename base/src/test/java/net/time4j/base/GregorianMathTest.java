@@ -0,0 +1,143 @@
+package net.time4j.base;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class GregorianMathTest {
+
+    private static final int OFFSET = 719468 - 40587;
+
+    private static final long MIN_MJD = referenceMJD(GregorianMath.MIN_YEAR, 1, 1);
+    private static final long MAX_MJD = referenceMJD(GregorianMath.MAX_YEAR, 12, 31);
+
+    @Test
+    public void equivalentToReferenceBetweenYearsMinus10000And10000() {
+        long start = referenceMJD(-10000, 1, 1);
+        long end = referenceMJD(10000, 12, 31);
+        for (long mjd = start; mjd <= end; mjd++) {
+            check(mjd);
+        }
+    }
+
+    @Test
+    public void equivalentToReferenceNearRangeLimits() {
+        for (long mjd = MIN_MJD; mjd < MIN_MJD + 1_000_000; mjd++) {
+            check(mjd);
+        }
+        for (long mjd = MAX_MJD - 1_000_000; mjd <= MAX_MJD; mjd++) {
+            check(mjd);
+        }
+    }
+
+    @Test
+    public void equivalentToReferenceForRandomDates() {
+        Random random = new Random(8765);
+        for (int i = 0; i < 2_000_000; i++) {
+            check(MIN_MJD + (long) (random.nextDouble() * (MAX_MJD - MIN_MJD)));
+        }
+    }
+
+    @Test
+    public void knownDates() {
+        assertThat(GregorianMath.toMJD(1858, 11, 17), is(0L));
+        assertThat(GregorianMath.toMJD(1970, 1, 1), is(40587L));
+        assertThat(GregorianMath.toMJD(2000, 2, 29), is(51603L));
+        assertThat(GregorianMath.toPackedDate(51603), is((2000L << 32) | (2 << 16) | 29));
+    }
+
+    @Test
+    public void outOfRange() {
+        for (long mjd : new long[] {MIN_MJD - 1, MAX_MJD + 1}) {
+            try {
+                GregorianMath.toPackedDate(mjd);
+                fail("Out of range: " + mjd);
+            } catch (IllegalArgumentException iae) {
+                // expected
+            }
+        }
+    }
+
+    private static void check(long mjd) {
+        long packed = GregorianMath.toPackedDate(mjd);
+        assertThat(packed, is(referencePackedDate(mjd)));
+        int year = GregorianMath.readYear(packed);
+        int month = GregorianMath.readMonth(packed);
+        int dom = GregorianMath.readDayOfMonth(packed);
+        assertThat(GregorianMath.toMJD(year, month, dom), is(mjd));
+    }
+
+    // klassischer Algorithmus mit Zyklen von 400, 100, 4 und 1 Jahr(en)
+    private static long referencePackedDate(long mjd) {
+        long y;
+        int m;
+        int d;
+
+        long days = mjd + OFFSET;
+        long q400 = Math.floorDiv(days, 146097);
+        int r400 = (int) Math.floorMod(days, 146097);
+
+        if (r400 == 146096) {
+            y = (q400 + 1) * 400;
+            m = 2;
+            d = 29;
+        } else {
+            int q100 = (r400 / 36524);
+            int r100 = (r400 % 36524);
+            int q4 = (r100 / 1461);
+            int r4 = (r100 % 1461);
+
+            if (r4 == 1460) {
+                y = (q400 * 400 + q100 * 100 + (q4 + 1) * 4);
+                m = 2;
+                d = 29;
+            } else {
+                int q1 = (r4 / 365);
+                int r1 = (r4 % 365);
+                y = (q400 * 400 + q100 * 100 + q4 * 4 + q1);
+                m = (((r1 + 31) * 5) / 153) + 2;
+                d = r1 - (((m + 1) * 153) / 5) + 123;
+                if (m > 12) {
+                    y++;
+                    m -= 12;
+                }
+            }
+        }
+
+        return (y << 32) | (m << 16) | d;
+    }
+
+    private static long referenceMJD(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+        long y = year;
+        int m = month;
+
+        if (m < 3) {
+            y--;
+            m += 12;
+        }
+
+        long days = (
+            (y * 365)
+            + Math.floorDiv(y, 4)
+            - Math.floorDiv(y, 100)
+            + Math.floorDiv(y, 400)
+            + (((m + 1) * 153) / 5) - 123
+            + dayOfMonth
+        );
+
+        return days - OFFSET;
+    }
+
+}
@@ -0,0 +1,58 @@
+package net.time4j.base;
+
+import net.time4j.engine.CalendarProvider;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ResourceLoaderTest {
+
+    @Test
+    public void servicesCached() {
+        ResourceLoader loader = ResourceLoader.getInstance();
+        Iterable<CalendarProvider> first = loader.services(CalendarProvider.class);
+        Iterable<CalendarProvider> second = loader.services(CalendarProvider.class);
+        assertThat(second, sameInstance(first));
+        assertThat(first.iterator().hasNext(), is(true));
+    }
+
+    @Test
+    public void registerServiceInvalidatesCache() {
+        ResourceLoader loader = ResourceLoader.getInstance();
+        assertThat(loader.services(DummyService.class).iterator().hasNext(), is(false));
+        DummyService service = new DummyService() {};
+        loader.registerService(DummyService.class, service);
+        Iterator<DummyService> iter = loader.services(DummyService.class).iterator();
+        assertThat(iter.next(), sameInstance(service));
+        assertThat(iter.hasNext(), is(false));
+    }
+
+    @Test
+    public void refreshServices() {
+        ResourceLoader loader = ResourceLoader.getInstance();
+        Iterable<CalendarProvider> first = loader.services(CalendarProvider.class);
+        loader.refreshServices();
+        Iterable<CalendarProvider> second = loader.services(CalendarProvider.class);
+        assertThat(second == first, is(false));
+        assertThat(second.iterator().next(), sameInstance(first.iterator().next()));
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void servicesUnmodifiable() {
+        Iterator<CalendarProvider> iter = ResourceLoader.getInstance().services(CalendarProvider.class).iterator();
+        iter.next();
+        iter.remove();
+    }
+
+    private interface DummyService {}
+
+}
@@ -1,5 +1,6 @@
 package net.time4j.calendar;
 
+import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
 import net.time4j.SystemClock;
 import net.time4j.Weekday;
@@ -426,4 +427,33 @@ public class HijriMiscellaneousTest {
             is(PlainDate.of(2028, 5, 20)));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void adjustedVariantOfRegisteredData() {
+        HijriCalendar.register(new ExampleHijriData() {
+            @Override
+            public String name() {
+                return "hijri-data-update";
+            }
+        });
+        String variant = "islamic-hijri-data-update";
+        PlainDate date = PlainDate.of(2028, 5, 21);
+        assertThat(date.transform(HijriCalendar.class, variant + ":+1"), is(HijriCalendar.of(variant + ":+1", 1449, 1, 3)));
+
+        HijriCalendar.register(new ExampleHijriData() {
+            @Override
+            public String name() {
+                return "hijri-data-update";
+            }
+            @Override
+            public PlainDate firstGregorianDate() {
+                return PlainDate.of(2028, 5, 19);
+            }
+        });
+        assertThat(date.transform(HijriCalendar.class, variant), is(HijriCalendar.of(variant, 1449, 1, 3)));
+        assertThat(date.transform(HijriCalendar.class, variant + ":+1"), is(HijriCalendar.of(variant + ":+1", 1449, 1, 4)));
+        assertThat(
+            HijriCalendar.of(HijriCalendar.VARIANT_UMALQURA + ":-2", 1440, 1, 1).transform(PlainDate.axis()),
+            is(HijriCalendar.ofUmalqura(1440, 1, 1).transform(PlainDate.axis()).plus(2, CalendarUnit.DAYS)));
+    }
+
+}
@@ -258,6 +258,19 @@ public class PersianMiscellaneousTest {
         }
     }
 
+    @Test
+    public void astronomicalLeapYearsConsistentWithTransform() {
+        PersianAlgorithm algo = PersianAlgorithm.ASTRONOMICAL;
+        for (ZonalOffset offset : new ZonalOffset[] {PersianAlgorithm.STD_OFFSET, ZonalOffset.UTC}) {
+            for (int year = 1300; year <= 1500; year++) {
+                long start = algo.transform(new PersianCalendar(year, 1, 1), offset);
+                long next = algo.transform(new PersianCalendar(year + 1, 1, 1), offset);
+                assertThat(algo.isLeapYear(year, offset), is(next - start == 366L));
+                assertThat(algo.transform(next - 1, offset), is(new PersianCalendar(year, 12, (int) (next - start - 336))));
+            }
+        }
+    }
+
     @Test
     public void astronomicalIsEqualToBorkowskiInRange1178To1502() {
         for (int year = 1178; year <= 1502; year++) { // 1799-2123
@@ -13,6 +13,7 @@ import org.junit.runners.Suite.SuiteClasses;
         MoonTest.class,
         NoLeapsecondsTest.class,
         SerializationTest.class,
+        SolarEventsTest.class,
         SunSydneyTest.class,
         TwilightTest.class,
         ZodiacTest.class
@@ -183,6 +183,17 @@ public class AstroTest {
         assertThat(AstronomicalSeason.values().length, is(4));
     }
 
+    @Test
+    public void seasonCachedPerYear() {
+        for (AstronomicalSeason season : AstronomicalSeason.values()) {
+            Moment first = season.inYear(1999);
+            assertThat(season.inYear(1999), is(first));
+            assertThat(season.inYear(2000).isAfter(first), is(true));
+        }
+        assertThat(AstronomicalSeason.of(VERNAL_EQUINOX.inYear(-2000)), is(VERNAL_EQUINOX));
+        assertThat(AstronomicalSeason.of(WINTER_SOLSTICE.inYear(3000)), is(WINTER_SOLSTICE));
+    }
+
     @Test
     public void onNorthernHemisphere() {
         for (AstronomicalSeason season : AstronomicalSeason.values()) {
@@ -1,5 +1,6 @@
 package net.time4j.calendar.astro;
 
+import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
@@ -11,6 +12,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -182,6 +184,35 @@ public class MoonTest {
             is(true)); // distance in km
     }
 
+    @Test
+    public void moonlightOfWholeYear() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        LunarTime munich = LunarTime.ofLocation(tz.getID(), 48.1, 11.6);
+        PlainDate start = PlainDate.of(2020, 1, 1);
+        List<LunarTime.Moonlight> list = munich.on(start, PlainDate.of(2020, 12, 31));
+        assertThat(list.size(), is(366));
+        for (int i = 0; i < list.size(); i++) {
+            LunarTime.Moonlight expected = munich.on(start.plus(i, CalendarUnit.DAYS));
+            LunarTime.Moonlight actual = list.get(i);
+            assertThat(actual.isPresentAllDay(), is(expected.isPresentAllDay()));
+            assertThat(actual.isAbsent(), is(expected.isAbsent()));
+            assertThat(actual.moonrise(), is(expected.moonrise()));
+            assertThat(actual.moonset(), is(expected.moonset()));
+            assertThat(actual.length(), is(expected.length()));
+        }
+    }
+
+    @Test
+    public void moonlightOfRangeEndingWithShortDay() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        LunarTime munich = LunarTime.ofLocation(tz.getID(), 48.1, 11.6);
+        PlainDate date = PlainDate.of(2020, 3, 29);
+        List<LunarTime.Moonlight> list = munich.on(date, date);
+        assertThat(list.size(), is(1));
+        assertThat(list.get(0).moonrise(), is(munich.on(date).moonrise()));
+        assertThat(list.get(0).moonset(), is(munich.on(date).moonset()));
+    }
+
     @Test
     public void moonPositionHamburg() {
         Timezone tz = Timezone.of("Europe/Berlin");
@@ -452,6 +483,24 @@ public class MoonTest {
         assertThat(moonlight7.isPresentAllDay(), is(false));
     }
 
+    @Test
+    public void searchOfPhasesAroundLunations() {
+        for (MoonPhase phase : MoonPhase.values()) {
+            for (int n = -1300; n <= 1300; n += 13) {
+                Moment m = phase.atLunation(n);
+                Moment prev = phase.atLunation(n - 1);
+                Moment next = phase.atLunation(n + 1);
+                assertThat(phase.atLunationInPosixSeconds(n), is(m.getPosixTime()));
+                assertThat(phase.atOrAfter(m), is(m));
+                assertThat(phase.after(m), is(next));
+                assertThat(phase.before(m), is(prev));
+                assertThat(phase.atOrAfter(m.plus(1, TimeUnit.NANOSECONDS)), is(next));
+                assertThat(phase.after(m.minus(1, TimeUnit.NANOSECONDS)), is(m));
+                assertThat(phase.before(m.plus(1, TimeUnit.NANOSECONDS)), is(m));
+            }
+        }
+    }
+
     @Test
     public void minLunation() {
         int min = MoonPhase.minLunation();
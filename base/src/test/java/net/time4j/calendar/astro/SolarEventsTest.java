@@ -0,0 +1,78 @@
+package net.time4j.calendar.astro;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarDays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class SolarEventsTest {
+
+    private static final SolarTime[] LOCATIONS = {
+        SolarTime.ofLocation(53.55, 10.0), // Hamburg
+        SolarTime.ofLocation(78.22, 15.65), // Longyearbyen (polar night and midnight sun)
+        SolarTime.ofLocation(-33.87, 151.21, 0, StdSolarCalculator.NOAA), // Sydney
+        SolarTime.ofLocation(-3.07, 37.35, 5895, StdSolarCalculator.CC), // Kilimanjaro
+        SolarTime.ofLocation().northernLatitude(21, 18, 0).westernLongitude(157, 51, 0).build(), // Honolulu
+        SolarTime.ofLocation(35.68, 139.69, 40, StdSolarCalculator.TIME4J), // Tokyo
+        SolarTime.ofLocation(-54.8, -68.3, 0, StdSolarCalculator.TIME4J) // Ushuaia
+    };
+
+    @Test
+    public void sunriseEqualToSolarTime() {
+        PlainDate start = PlainDate.of(2020, 1, 1);
+        PlainDate end = PlainDate.of(2020, 12, 31);
+        long[][] result = SolarEvents.of(LOCATIONS).sunrise(start, end);
+        assertThat(result.length, is(LOCATIONS.length));
+        for (int i = 0; i < LOCATIONS.length; i++) {
+            assertThat(result[i].length, is(366));
+            for (int j = 0; j < 366; j++) {
+                PlainDate date = start.plus(CalendarDays.of(j));
+                assertThat(result[i][j], is(toSeconds(date.get(LOCATIONS[i].sunrise()))));
+            }
+        }
+    }
+
+    @Test
+    public void twilightAtSunsetInParallel() {
+        PlainDate start = PlainDate.of(2021, 6, 1);
+        PlainDate end = PlainDate.of(2021, 7, 31);
+        SolarTime[] locations = new SolarTime[20];
+        for (int i = 0; i < locations.length; i++) {
+            locations[i] = LOCATIONS[i % LOCATIONS.length];
+        }
+        long[][] result =
+            SolarEvents.of(locations).withTwilight(Twilight.CIVIL).sunset(start, end, ForkJoinPool.commonPool());
+        for (int i = 0; i < locations.length; i++) {
+            for (int j = 0; j < result[i].length; j++) {
+                PlainDate date = start.plus(CalendarDays.of(j));
+                assertThat(result[i][j], is(toSeconds(date.get(locations[i].sunset(Twilight.CIVIL)))));
+            }
+        }
+        assertThat(result[1][20], is(SolarEvents.ABSENT)); // no civil twilight in Longyearbyen
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void startAfterEnd() {
+        SolarEvents.of(LOCATIONS).sunrise(PlainDate.of(2020, 1, 2), PlainDate.of(2020, 1, 1));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void tooManyDays() {
+        SolarEvents.of(LOCATIONS).sunrise(PlainDate.axis().getMinimum(), PlainDate.axis().getMaximum());
+    }
+
+    private static long toSeconds(Optional<Moment> event) {
+        return (event.isPresent() ? event.get().getPosixTime() : SolarEvents.ABSENT);
+    }
+
+}
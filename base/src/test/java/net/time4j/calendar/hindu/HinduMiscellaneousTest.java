@@ -13,6 +13,36 @@ import static org.junit.Assert.fail;
 
 public class HinduMiscellaneousTest {
 
+    @Test
+    public void dayTableEqualToExactCalculation() {
+        HinduRule[] rules = {HinduRule.AMANTA, HinduRule.PURNIMANTA, HinduRule.TAMIL, HinduRule.MALAYALI};
+        long start = PlainDate.of(2014, 12, 25).getDaysSinceEpochUTC();
+        long end = PlainDate.of(2016, 1, 5).getDaysSinceEpochUTC();
+        for (HinduRule rule : rules) {
+            HinduVariant hv = rule.variant();
+            HinduVariant.ModernHinduCS calsys = new HinduVariant.ModernHinduCS(hv, new HinduDayTable(2015, 2015));
+            for (long utcDays = start; utcDays <= end; utcDays++) {
+                HinduCalendar expected = calsys.createExactly(utcDays);
+                HinduCalendar actual = calsys.create(utcDays);
+                assertThat(actual, is(expected));
+                assertThat(actual.getExpiredYearOfKaliYuga(), is(expected.getExpiredYearOfKaliYuga()));
+                assertThat(actual.getMonth(), is(expected.getMonth()));
+                assertThat(actual.getDayOfMonth(), is(expected.getDayOfMonth()));
+            }
+        }
+    }
+
+    @Test
+    public void dayTableRangeProperty() {
+        assertThat(HinduDayTable.parseRange(null) == null, is(true));
+        assertThat(HinduDayTable.parseRange("1900-2100")[0], is(1900));
+        assertThat(HinduDayTable.parseRange(" 1900 - 2100 ")[1], is(2100));
+        assertThat(HinduDayTable.parseRange("2100-1900") == null, is(true));
+        assertThat(HinduDayTable.parseRange("1900") == null, is(true));
+        assertThat(HinduDayTable.parseRange("19x0-2100") == null, is(true));
+        assertThat(HinduDayTable.parseRange("0-10000") == null, is(true));
+    }
+
     @Test
     public void minmaxOrissa() {
         HinduVariant hv = HinduRule.ORISSA.variant().with(HinduEra.KALI_YUGA);
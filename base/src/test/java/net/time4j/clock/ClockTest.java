@@ -4,12 +4,18 @@ import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.SystemClock;
+import net.time4j.ZonalClock;
 import net.time4j.base.TimeSource;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static java.util.concurrent.TimeUnit.DAYS;
 import static java.util.concurrent.TimeUnit.HOURS;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
@@ -18,6 +24,7 @@ import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 
 @RunWith(JUnit4.class)
@@ -93,4 +100,78 @@ public class ClockTest {
         assertThat(clock.currentTime().getPosixTime() % 86400, is(0L));
     }
 
+    @Test
+    public void coarseClockTicks() throws InterruptedException {
+        CoarseClock clock = CoarseClock.ofSystem(1, MILLISECONDS);
+        try {
+            Moment m1 = clock.currentTime();
+            Thread.sleep(50);
+            assertThat(clock.currentTime().isAfter(m1), is(true));
+            long millis = clock.currentTimeInMillis();
+            assertThat(Math.abs(millis - System.currentTimeMillis()) < 1000, is(true));
+            assertThat(clock.getResolution(MICROSECONDS), is(1000L));
+            assertThat(clock.isRunning(), is(true));
+        } finally {
+            clock.stop();
+        }
+        assertThat(clock.isRunning(), is(false));
+        Moment m2 = clock.currentTime();
+        Thread.sleep(5);
+        assertThat(clock.currentTime().isAfter(m2), is(true));
+    }
+
+    @Test(timeout = 5000)
+    public void coarseClockWithFailingSource() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        TimeSource<Moment> source =
+            () -> {
+                if (calls.incrementAndGet() == 2) {
+                    throw new IllegalStateException("Source temporarily not available.");
+                }
+                return SystemClock.INSTANCE.currentTime();
+            };
+        CoarseClock clock = CoarseClock.of(source, 1, MILLISECONDS);
+        try {
+            while (calls.get() < 3) {
+                Thread.sleep(5);
+            }
+            assertThat(clock.isRunning(), is(true));
+            Moment m1 = clock.currentTime();
+            Thread.sleep(50);
+            assertThat(clock.currentTime().isAfter(m1), is(true));
+            assertThat(calls.get() > 10, is(true));
+        } finally {
+            clock.stop();
+        }
+    }
+
+    @Test
+    public void coarseClockWithTooSmallResolution() {
+        try {
+            CoarseClock.ofSystem(999, MICROSECONDS);
+            fail("Resolution smaller than one millisecond accepted.");
+        } catch (IllegalArgumentException iae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void zonalTodayAroundLocalMidnight() {
+        final Moment[] now = new Moment[1];
+        TimeSource<Moment> source = () -> now[0];
+        ZonalClock clock = new ZonalClock(source, ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2));
+        long midnight = PlainDate.of(2020, 3, 1).atStartOfDay().at(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2))
+            .getPosixTime();
+        now[0] = Moment.of(midnight - 2, TimeScale.POSIX);
+        assertThat(clock.today(), is(PlainDate.of(2020, 2, 29)));
+        now[0] = Moment.of(midnight - 1, TimeScale.POSIX);
+        assertThat(clock.today(), is(PlainDate.of(2020, 2, 29)));
+        now[0] = Moment.of(midnight, TimeScale.POSIX);
+        assertThat(clock.today(), is(PlainDate.of(2020, 3, 1)));
+        now[0] = Moment.of(midnight - 86400, TimeScale.POSIX);
+        assertThat(clock.today(), is(PlainDate.of(2020, 2, 29)));
+        now[0] = Moment.of(midnight - 86401, TimeScale.POSIX);
+        assertThat(clock.today(), is(PlainDate.of(2020, 2, 28)));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,259 @@
+package net.time4j.clock;
+
+import net.time4j.SystemClock;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class SntpPoolClockTest {
+
+    private static final long OFFSET_1900 = 2208988800L;
+
+    private final List<Responder> responders = new ArrayList<>();
+
+    @After
+    public void closeResponders() {
+        for (Responder responder : this.responders) {
+            responder.close();
+        }
+    }
+
+    @Test
+    public void outlierRejected() throws IOException {
+        SntpPoolClock clock =
+            new SntpPoolClock(this.configs(2_000_000L, 2_001_000L, 60_000_000L));
+        assertThat(clock.isSynchronized(), is(false));
+        assertThat(clock.getOffsetInMicros(), is(0L));
+        clock.synchronize();
+        assertThat(clock.isSynchronized(), is(true));
+        assertThat(Math.abs(clock.getOffsetInMicros() - 2_000_500L) < 20_000L, is(true));
+        long delta = clock.currentTime().getPosixTime() - SystemClock.INSTANCE.currentTime().getPosixTime();
+        assertThat(delta >= 1 && delta <= 3, is(true));
+    }
+
+    @Test
+    public void kissOfDeathIgnored() throws IOException {
+        List<SntpConfiguration> configs = this.configs(-5_000_000L, -5_000_000L);
+        Responder kod = new Responder(0L);
+        kod.stratum = 0;
+        this.responders.add(kod);
+        configs.add(kod.config());
+        SntpPoolClock clock = new SntpPoolClock(configs);
+        clock.synchronize();
+        assertThat(Math.abs(clock.getOffsetInMicros() + 5_000_000L) < 20_000L, is(true));
+    }
+
+    @Test(expected=IOException.class)
+    public void noMajority() throws IOException {
+        new SntpPoolClock(this.configs(0L, 10_000_000L)).synchronize();
+    }
+
+    @Test(expected=IOException.class)
+    public void noReply() throws IOException {
+        Responder silent = new Responder(0L);
+        silent.silent = true;
+        this.responders.add(silent);
+        List<SntpConfiguration> configs = new ArrayList<>();
+        configs.add(silent.config());
+        new SntpPoolClock(configs).synchronize();
+    }
+
+    @Test
+    public void sameServerConfiguredTwice() throws IOException {
+        Responder responder = new Responder(4_000_000L);
+        this.responders.add(responder);
+        List<SntpConfiguration> configs = new ArrayList<>();
+        configs.add(responder.config());
+        configs.add(responder.config());
+        SntpPoolClock clock = new SntpPoolClock(configs);
+        long t0 = System.nanoTime();
+        clock.synchronize();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+        assertThat(elapsed < 900, is(true)); // kein Warten auf die Zeitüberschreitung
+        assertThat(Math.abs(clock.getOffsetInMicros() - 4_000_000L) < 20_000L, is(true));
+    }
+
+    @Test
+    public void addressesResolvedOnlyOnce() throws IOException {
+        Responder responder = new Responder(0L);
+        this.responders.add(responder);
+        AtomicInteger lookups = new AtomicInteger();
+        SntpConfiguration config = responder.config(lookups);
+        SntpPoolClock clock = new SntpPoolClock(Collections.singletonList(config));
+        int initial = lookups.get();
+        clock.synchronize();
+        clock.synchronize();
+        clock.synchronize();
+        assertThat(lookups.get() - initial, is(1));
+    }
+
+    @Test(timeout=5000)
+    public void unlimitedConnectionTimeout() throws IOException {
+        Responder responder = new Responder(2_000_000L);
+        this.responders.add(responder);
+        SntpPoolClock clock = new SntpPoolClock(Collections.singletonList(responder.config(new AtomicInteger(), 0)));
+        clock.synchronize();
+        assertThat(Math.abs(clock.getOffsetInMicros() - 2_000_000L) < 20_000L, is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void noServers() {
+        new SntpPoolClock();
+    }
+
+    @Test
+    public void periodicSynchronization() throws IOException, InterruptedException {
+        SntpPoolClock clock = new SntpPoolClock(this.configs(3_000_000L));
+        clock.start(1, TimeUnit.HOURS);
+        try {
+            clock.start(1, TimeUnit.HOURS);
+            fail("Started twice.");
+        } catch (IllegalStateException ise) {
+            // expected
+        }
+        for (int i = 0; i < 100 && !clock.isSynchronized(); i++) {
+            Thread.sleep(50);
+        }
+        clock.stop();
+        clock.stop();
+        assertThat(clock.isSynchronized(), is(true));
+        assertThat(Math.abs(clock.getOffsetInMicros() - 3_000_000L) < 20_000L, is(true));
+    }
+
+    private List<SntpConfiguration> configs(long... offsets) throws SocketException {
+        List<SntpConfiguration> list = new ArrayList<>();
+        for (long offset : offsets) {
+            Responder responder = new Responder(offset);
+            this.responders.add(responder);
+            list.add(responder.config());
+        }
+        return list;
+    }
+
+    // einfacher NTP-Server auf der Loopback-Schnittstelle mit fester Abweichung
+    private static class Responder
+        extends Thread {
+
+        private final DatagramSocket socket;
+        private final long offsetMicros;
+        private volatile int stratum = 1;
+        private volatile boolean silent = false;
+
+        Responder(long offsetMicros) throws SocketException {
+            super("SntpPoolClockTest-Responder");
+            this.socket = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+            this.offsetMicros = offsetMicros;
+            this.setDaemon(true);
+            this.start();
+        }
+
+        SntpConfiguration config() {
+            return this.config(new AtomicInteger());
+        }
+
+        SntpConfiguration config(AtomicInteger lookups) {
+            return this.config(lookups, 1);
+        }
+
+        SntpConfiguration config(
+            AtomicInteger lookups,
+            int timeout
+        ) {
+            final int port = this.socket.getLocalPort();
+            return new SntpConfiguration() {
+                @Override
+                public boolean isNTP4() {
+                    return true;
+                }
+                @Override
+                public int getRequestInterval() {
+                    return 60;
+                }
+                @Override
+                public short getRequestCount() {
+                    return 2;
+                }
+                @Override
+                public String getTimeServerAddress() {
+                    lookups.incrementAndGet();
+                    return InetAddress.getLoopbackAddress().getHostAddress();
+                }
+                @Override
+                public int getTimeServerPort() {
+                    return port;
+                }
+                @Override
+                public int getConnectionTimeout() {
+                    return timeout;
+                }
+                @Override
+                public int getClockShiftWindow() {
+                    return 0;
+                }
+            };
+        }
+
+        void close() {
+            this.socket.close();
+        }
+
+        @Override
+        public void run() {
+            byte[] buffer = new byte[48];
+            while (!this.socket.isClosed()) {
+                try {
+                    DatagramPacket request = new DatagramPacket(buffer, buffer.length);
+                    this.socket.receive(request);
+                    if (this.silent) {
+                        continue;
+                    }
+                    byte[] reply = new byte[48];
+                    reply[0] = (byte) ((buffer[0] & 0x38) | 4); // LI=0, gleiche Version, Server-Modus
+                    reply[1] = (byte) this.stratum;
+                    System.arraycopy(buffer, 40, reply, 24, 8);
+                    long now = SystemClock.MONOTONIC.currentTimeInMicros() + this.offsetMicros;
+                    encode(reply, 32, now);
+                    encode(reply, 40, now);
+                    this.socket.send(new DatagramPacket(reply, reply.length, request.getSocketAddress()));
+                } catch (IOException ioe) {
+                    return;
+                }
+            }
+        }
+
+        private static void encode(
+            byte[] data,
+            int index,
+            long micros
+        ) {
+            long seconds = Math.floorDiv(micros, 1_000_000L) + OFFSET_1900;
+            long fraction = (Math.floorMod(micros, 1_000_000L) << 32) / 1_000_000L;
+            long value = (seconds << 32) | fraction;
+            for (int i = 7; i >= 0; i--) {
+                data[index + i] = (byte) value;
+                value >>>= 8;
+            }
+        }
+
+    }
+
+}
@@ -936,6 +936,35 @@ public class MiscellaneousTest {
         assertThat(tsp, is(PlainTimestamp.of(2016, 2, 29, 0, 0)));
     }
 
+    @Test
+    public void printWithBoundRules() {
+        ChronoFormatter<PlainTime> tf =
+            ChronoFormatter.setUp(PlainTime.axis(), Locale.ROOT)
+                .addFixedInteger(PlainTime.DIGITAL_HOUR_OF_DAY, 2)
+                .addLiteral(':')
+                .addInteger(PlainTime.MINUTE_OF_HOUR, 1, 2)
+                .addLiteral('/')
+                .addLongNumber(PlainTime.NANO_OF_DAY, 1, 18, SignPolicy.SHOW_NEVER)
+                .build();
+        assertThat(tf.format(PlainTime.of(17, 5, 0, 123)), is("17:5/61500000000123"));
+        ChronoFormatter<PlainDate> df =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.GERMANY)
+                .addFixedInteger(PlainDate.YEAR, 4)
+                .addLiteral('-')
+                .addFixedNumerical(PlainDate.DAY_OF_WEEK, 1)
+                .build();
+        assertThat(df.format(PlainDate.of(2020, 10, 19)), is("2020-1"));
+    }
+
+    @Test
+    public void printLeapSecondWithBoundRules() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm:ss", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment leapsecond = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        assertThat(f.format(leapsecond), is("2016-12-31 23:59:60"));
+        assertThat(f.format(leapsecond.plus(1, SI.SECONDS)), is("2017-01-01 00:00:00"));
+    }
+
     private static ChronoFormatter<PlainDate> getQuarterDateFormatter() {
         return ChronoFormatter.setUp(PlainDate.class, Locale.US)
             .addFixedInteger(PlainDate.YEAR, 4)
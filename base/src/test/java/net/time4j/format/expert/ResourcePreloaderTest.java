@@ -0,0 +1,51 @@
+package net.time4j.format.expert;
+
+import net.time4j.format.CalendarText;
+import net.time4j.tz.NameStyle;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ResourcePreloaderTest {
+
+    @Test
+    public void preloadWithLoadTimes() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Map<String, Long> loadTimes =
+                ResourcePreloader.of(Locale.FRANCE, new Locale("nl"))
+                    .withCalendarTypes(CalendarText.ISO_CALENDAR_TYPE, "islamic")
+                    .withZoneNames(
+                        NameStyle.SHORT_STANDARD_TIME, NameStyle.SHORT_DAYLIGHT_TIME, NameStyle.LONG_GENERIC_TIME)
+                    .preload(executor)
+                    .join();
+            // 2 calendar types + 2 plural types + weekmodel + unit patterns + 2 zone name caches
+            assertThat(loadTimes.size(), is(2 * 8));
+            assertThat(loadTimes.containsKey("CalendarText[islamic,fr_FR]"), is(true));
+            assertThat(loadTimes.containsKey("ZoneNames[SHORT_SPECIFIC_TIME,nl]"), is(true));
+            assertThat(loadTimes.containsKey("ZoneNames[LONG_GENERIC_TIME,nl]"), is(true));
+            for (Long nanos : loadTimes.values()) {
+                assertThat(nanos.longValue() >= 0, is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void noLocales() {
+        ResourcePreloader.of();
+    }
+
+}
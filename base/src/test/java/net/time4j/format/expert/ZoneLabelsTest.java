@@ -0,0 +1,55 @@
+package net.time4j.format.expert;
+
+import net.time4j.tz.TZID;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.olson.AMERICA;
+import net.time4j.tz.olson.EUROPE;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneLabelsTest {
+
+    @Test
+    public void longestPrefixAndFind() {
+        ZoneLabels.Node node = null;
+        node = ZoneLabels.insert(node, "MEZ", EUROPE.BERLIN);
+        node = ZoneLabels.insert(node, "MESZ", EUROPE.BERLIN);
+        node = ZoneLabels.insert(node, "EST", AMERICA.NEW_YORK);
+        node = ZoneLabels.insert(node, "MEZ", EUROPE.VIENNA);
+        node = ZoneLabels.insert(node, "E", ZonalOffset.UTC);
+        ZoneLabels labels = new ZoneLabels(node);
+
+        assertThat(labels.longestPrefixOf("xMEZ+", 1), is("MEZ"));
+        assertThat(labels.longestPrefixOf("MESZ", 0), is("MESZ"));
+        assertThat(labels.longestPrefixOf("MES", 0), is(""));
+        assertThat(labels.longestPrefixOf("ESX", 0), is("E"));
+        assertThat(labels.longestPrefixOf("ABC", 0), is(""));
+        assertThat(labels.find("MEZ"), is(Arrays.<TZID>asList(EUROPE.BERLIN, EUROPE.VIENNA)));
+        assertThat(labels.find("EST"), is(Collections.<TZID>singletonList(AMERICA.NEW_YORK)));
+        assertThat(labels.find("ES"), is(Collections.<TZID>emptyList()));
+        assertThat(labels.find(""), is(Collections.<TZID>emptyList()));
+    }
+
+    @Test
+    public void emptyLabels() {
+        ZoneLabels labels = new ZoneLabels(null);
+        assertThat(labels.longestPrefixOf("MEZ", 0), is(""));
+        assertThat(labels.find("MEZ"), is(Collections.<TZID>emptyList()));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void insertEmptyKey() {
+        ZoneLabels.insert(null, "", EUROPE.BERLIN);
+    }
+
+}
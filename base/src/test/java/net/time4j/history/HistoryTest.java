@@ -2,6 +2,7 @@ package net.time4j.history;
 
 import net.time4j.PlainDate;
 import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.PatternType;
 import org.junit.Test;
@@ -437,4 +438,46 @@ public class HistoryTest {
             is("Sep"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void bulkConversionSweden() {
+        ChronoHistory history = ChronoHistory.ofSweden();
+        long start = PlainDate.of(1690, 1, 1).get(EpochDays.MODIFIED_JULIAN_DATE);
+        long[] mjds = new long[30000];
+        for (int i = 0; i < mjds.length; i++) {
+            mjds[i] = start + i;
+        }
+        HistoricDate[] dates = history.convert(mjds);
+        for (int i = 0; i < mjds.length; i++) {
+            PlainDate date = PlainDate.of(mjds[i], EpochDays.MODIFIED_JULIAN_DATE);
+            assertThat(dates[i], is(history.convert(date)));
+        }
+        assertThat(history.convert(dates), is(mjds));
+    }
+
+    @Test
+    public void bulkConversionWithEraPreference() {
+        ChronoHistory history =
+            ChronoHistory.of(new Locale("es", "ES"))
+                .with(EraPreference.hispanicUntil(PlainDate.of(1383, 12, 31)));
+        long[] mjds = {
+            PlainDate.of(1383, 12, 31).get(EpochDays.MODIFIED_JULIAN_DATE),
+            PlainDate.of(1384, 1, 1).get(EpochDays.MODIFIED_JULIAN_DATE)
+        };
+        HistoricDate[] dates = history.convert(mjds);
+        assertThat(dates[0].getEra(), is(HistoricEra.HISPANIC));
+        assertThat(dates[1].getEra(), is(HistoricEra.AD));
+        assertThat(history.convert(dates), is(mjds));
+    }
+
+    @Test
+    public void beginAndLengthOfYearRepeatable() {
+        ChronoHistory history = ChronoHistory.ofSweden().with(NewYearStrategy.DEFAULT);
+        for (int round = 0; round < 2; round++) {
+            assertThat(history.getLengthOfYear(HistoricEra.AD, 1712), is(367));
+            assertThat(history.getLengthOfYear(HistoricEra.AD, 1753), is(354));
+            assertThat(history.getBeginOfYear(HistoricEra.AD, 1753), is(HistoricDate.of(HistoricEra.AD, 1753, 1, 1)));
+        }
+        assertThat(history.getLengthOfYear(null, 1753), is(-1));
+    }
+
+}
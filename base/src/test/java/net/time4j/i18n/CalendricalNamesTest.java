@@ -174,6 +174,40 @@ public class CalendricalNamesTest {
         assertThat(result, is("3月"));
     }
 
+    @Test
+    public void parseMonthsWithOffset() {
+        CalendarText instance =
+           CalendarText.getInstance("iso8601", Locale.GERMAN);
+        ParsePosition status = new ParsePosition(3);
+        Month value =
+            instance.getStdMonths(TextWidth.ABBREVIATED, OutputContext.FORMAT)
+            .parse("01.Sep.2020", status, Month.class);
+        assertThat(value, is(Month.SEPTEMBER));
+        assertThat(status.getIndex(), is(7));
+
+        status = new ParsePosition(3);
+        value =
+            instance.getStdMonths(TextWidth.ABBREVIATED, OutputContext.FORMAT)
+            .parse("01.okt.2020", status, Month.class, Leniency.STRICT);
+        assertThat(value, nullValue());
+        assertThat(status.getErrorIndex(), is(3));
+
+        status = new ParsePosition(3);
+        value =
+            instance.getStdMonths(TextWidth.WIDE, OutputContext.FORMAT)
+            .parse("01.dezember", status, Month.class, Leniency.SMART);
+        assertThat(value, is(Month.DECEMBER));
+        assertThat(status.getIndex(), is(11));
+    }
+
+    @Test
+    public void parseGermanSeptemberInPattern() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d. MMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(f.parse("1. Sep. 2020"), is(PlainDate.of(2020, 9, 1)));
+        assertThat(f.parse("1. Sept. 2020"), is(PlainDate.of(2020, 9, 1)));
+    }
+
     @Test
     public void parseMonths() {
         CalendarText instance =
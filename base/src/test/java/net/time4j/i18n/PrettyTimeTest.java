@@ -4,6 +4,7 @@ import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Duration;
 import net.time4j.IsoUnit;
+import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.PrettyTime;
@@ -18,15 +19,18 @@ import net.time4j.format.NumberSystem;
 import net.time4j.format.TextWidth;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.PatternType;
+import net.time4j.tz.OffsetSign;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Locale;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import static net.time4j.CalendarUnit.*;
@@ -107,6 +111,86 @@ public class PrettyTimeTest {
             is("2 h")); // inherited from Brazilian, does not exist in pt_PT-resource
     }
 
+    @Test
+    public void printRelativeIntoBuffer() throws IOException {
+        TimeSource<Moment> clock = () -> PlainTimestamp.of(2014, 9, 4, 14, 40, 10).atUTC();
+        PrettyTime pt = PrettyTime.of(Locale.ENGLISH).withReferenceClock(clock);
+        StringBuilder buffer = new StringBuilder();
+        TimeUnit[] precisions = {TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.DAYS};
+        Object[][] data = { // delta in seconds, expected text per precision
+            {0L, "now", "now", "today"},
+            {5L, "in 5 seconds", "now", "today"},
+            {-59L, "59 seconds ago", "now", "today"},
+            {60L, "in 1 minute", "in 1 minute", "today"},
+            {-3599L, "59 minutes ago", "59 minutes ago", "today"},
+            {3600L, "in 1 hour", "in 1 hour", "today"},
+            {86399L, "in 23 hours", "in 23 hours", "today"},
+            {-86400L, "yesterday", "yesterday", "yesterday"},
+            {86400L * 3, "next Sunday", "next Sunday", "next Sunday"},
+            {-86400L * 40, "1 month ago", "1 month ago", "1 month ago"},
+            {86400L * 800, "in 2 years", "in 2 years", "in 2 years"}
+        };
+
+        for (Object[] row : data) {
+            Moment moment = clock.currentTime().plus((Long) row[0], TimeUnit.SECONDS);
+            for (int i = 0; i < precisions.length; i++) {
+                buffer.setLength(0);
+                pt.printRelative(moment, Timezone.of(ZonalOffset.UTC), precisions[i], buffer);
+                assertThat(buffer.toString(), is(row[i + 1]));
+            }
+        }
+
+        buffer.setLength(0);
+        pt.printRelative(clock.currentTime().plus(-2, TimeUnit.HOURS), Timezone.of(ZonalOffset.UTC), TimeUnit.SECONDS, buffer);
+        buffer.append(", ");
+        pt.printRelative(clock.currentTime().plus(1, TimeUnit.HOURS), Timezone.of(ZonalOffset.UTC), TimeUnit.SECONDS, buffer);
+        assertThat(buffer.toString(), is("2 hours ago, in 1 hour"));
+    }
+
+    @Test
+    public void printRelativeWithinOneDay() {
+        TimeSource<Moment> clock = () -> PlainTimestamp.of(2014, 9, 4, 14, 40, 10).atUTC().plus(123456789, TimeUnit.NANOSECONDS);
+        PrettyTime pt = PrettyTime.of(Locale.ENGLISH).withReferenceClock(clock);
+        Timezone tz = Timezone.of(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 5));
+        Random random = new Random(46);
+
+        for (int i = 0; i < 2000; i++) {
+            long nanos = (random.nextLong() % 86400_000_000_000L);
+            Moment moment = clock.currentTime().plus(nanos, TimeUnit.NANOSECONDS);
+            long len = Math.abs(nanos);
+            String expected;
+            if (len < 60_000_000_000L) {
+                continue; // Sekundengenauigkeit mit SI-Sekunden
+            } else if (len < 3600_000_000_000L) {
+                expected = pt.print(len / 60_000_000_000L, MINUTES, TextWidth.WIDE);
+            } else {
+                expected = pt.print(len / 3600_000_000_000L, HOURS, TextWidth.WIDE);
+            }
+            expected = ((nanos < 0) ? expected + " ago" : "in " + expected);
+            assertThat(pt.printRelative(moment, tz, TimeUnit.SECONDS), is(expected));
+        }
+
+        Moment inHalfAnHour = clock.currentTime().plus(30, TimeUnit.MINUTES);
+        assertThat(pt.printRelative(inHalfAnHour, tz, TimeUnit.HOURS), is("now"));
+        assertThat(pt.printRelative(inHalfAnHour, tz, TimeUnit.DAYS), is("today"));
+        assertThat(
+            pt.withZeroDigit(NumberSystem.ARABIC_INDIC).printRelative(inHalfAnHour, tz, TimeUnit.MINUTES),
+            is("in ٣٠ minutes"));
+    }
+
+    @Test
+    public void printRelativeAcrossDaylightSavingChange() {
+        TimeSource<?> clock = () -> PlainTimestamp.of(2020, 3, 29, 0, 30).atUTC();
+        PrettyTime pt = PrettyTime.of(Locale.GERMAN).withReferenceClock(clock);
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        assertThat(
+            pt.printRelative(PlainTimestamp.of(2020, 3, 29, 2, 30).atUTC(), berlin, TimeUnit.SECONDS),
+            is("in 2 Stunden"));
+        assertThat(
+            pt.printRelative(PlainTimestamp.of(2020, 3, 28, 23, 45).atUTC(), berlin, TimeUnit.SECONDS),
+            is("vor 45 Minuten"));
+    }
+
     @Test
     public void printRelativeOrDate() {
         TimeSource<?> clock = () -> PlainTimestamp.of(2014, 9, 4, 14, 40).atUTC();
@@ -0,0 +1,130 @@
+package net.time4j.range;
+
+import net.time4j.BinaryCodec;
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.Temporal;
+import net.time4j.scale.TimeScale;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalCodecTest {
+
+    @Test
+    public void dateInterval() {
+        DateInterval[] intervals = {
+            DateInterval.between(PlainDate.of(2020, 1, 1), PlainDate.of(2020, 12, 31)),
+            DateInterval.between(PlainDate.of(2020, 1, 1), PlainDate.of(2020, 12, 31)).withOpenEnd(),
+            DateInterval.since(PlainDate.of(2020, 1, 1)),
+            DateInterval.until(PlainDate.of(2020, 1, 1)),
+            DateInterval.ALWAYS
+        };
+        for (DateInterval interval : intervals) {
+            assertThat(roundtrip(IntervalCodec.DATE_INTERVAL, interval), is(interval));
+            assertThat(roundtrip(IntervalCodec.DATE_INTERVAL_VARINT, interval), is(interval));
+        }
+        assertThat(IntervalCodec.DATE_INTERVAL.getEncodedLength(intervals[0]), is(13));
+        assertThat(IntervalCodec.DATE_INTERVAL.getEncodedLength(DateInterval.ALWAYS), is(1));
+    }
+
+    @Test
+    public void clockInterval() {
+        ClockInterval interval = ClockInterval.between(PlainTime.of(9, 15), PlainTime.midnightAtEndOfDay());
+        assertThat(roundtrip(IntervalCodec.CLOCK_INTERVAL, interval), is(interval));
+        assertThat(roundtrip(IntervalCodec.CLOCK_INTERVAL_VARINT, interval), is(interval));
+    }
+
+    @Test
+    public void timestampInterval() {
+        TimestampInterval interval =
+            TimestampInterval.between(PlainTimestamp.of(2020, 2, 29, 12, 0), PlainTimestamp.of(2020, 3, 1, 0, 0));
+        assertThat(roundtrip(IntervalCodec.TIMESTAMP_INTERVAL, interval), is(interval));
+        assertThat(roundtrip(IntervalCodec.TIMESTAMP_INTERVAL_VARINT, interval), is(interval));
+        TimestampInterval since = TimestampInterval.since(PlainTimestamp.of(2020, 2, 29, 12, 0));
+        assertThat(roundtrip(IntervalCodec.TIMESTAMP_INTERVAL, since), is(since));
+    }
+
+    @Test
+    public void momentInterval() {
+        MomentInterval interval =
+            MomentInterval.between(
+                Moment.of(1_600_000_000L, TimeScale.POSIX),
+                Moment.of(1_600_000_001L, 5, TimeScale.POSIX));
+        assertThat(roundtrip(IntervalCodec.MOMENT_INTERVAL, interval), is(interval));
+        assertThat(roundtrip(IntervalCodec.MOMENT_INTERVAL_VARINT, interval), is(interval));
+        MomentInterval until = MomentInterval.until(Moment.UNIX_EPOCH);
+        assertThat(roundtrip(IntervalCodec.MOMENT_INTERVAL_VARINT, until), is(until));
+    }
+
+    @Test
+    public void keyRangeOfMomentInterval() {
+        Moment start = Moment.of(1_600_000_000L, TimeScale.POSIX);
+        Moment end = Moment.of(1_600_000_010L, TimeScale.POSIX);
+        MomentInterval interval = MomentInterval.between(start, end);
+        byte[] lower = IntervalCodec.MOMENT_INTERVAL.getLowerKey(interval);
+        byte[] upper = IntervalCodec.MOMENT_INTERVAL.getUpperKey(interval);
+        assertThat(contains(lower, upper, start), is(true));
+        assertThat(contains(lower, upper, end.minus(1, TimeUnit.NANOSECONDS)), is(true));
+        assertThat(contains(lower, upper, end), is(false));
+        assertThat(contains(lower, upper, start.minus(1, TimeUnit.NANOSECONDS)), is(false));
+
+        MomentInterval always = MomentInterval.ALWAYS;
+        lower = IntervalCodec.MOMENT_INTERVAL.getLowerKey(always);
+        upper = IntervalCodec.MOMENT_INTERVAL.getUpperKey(always);
+        assertThat(contains(lower, upper, Moment.axis().getMinimum()), is(true));
+        assertThat(contains(lower, upper, Moment.axis().getMaximum()), is(true));
+    }
+
+    @Test
+    public void keyRangeOfClosedDateInterval() {
+        DateInterval interval = DateInterval.between(PlainDate.of(2020, 1, 1), PlainDate.of(2020, 1, 31));
+        byte[] lower = IntervalCodec.DATE_INTERVAL.getLowerKey(interval);
+        byte[] upper = IntervalCodec.DATE_INTERVAL.getUpperKey(interval);
+        for (PlainDate d = PlainDate.of(2019, 12, 31); d.isBefore(PlainDate.of(2020, 2, 2)); d = d.plus(1, CalendarUnit.DAYS)) {
+            byte[] key = BinaryCodec.PLAIN_DATE.toBytes(d);
+            boolean inside = (BinaryCodec.compareUnsigned(lower, key) <= 0) && (BinaryCodec.compareUnsigned(key, upper) < 0);
+            assertThat(inside, is(interval.contains(d)));
+        }
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void keyRangeWithVarintCodec() {
+        IntervalCodec.DATE_INTERVAL_VARINT.getLowerKey(DateInterval.since(PlainDate.of(2020, 1, 1)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidFlags() {
+        IntervalCodec.DATE_INTERVAL.fromBytes(new byte[] {0x10});
+    }
+
+    private static boolean contains(
+        byte[] lower,
+        byte[] upper,
+        Moment moment
+    ) {
+        byte[] key = BinaryCodec.MOMENT.toBytes(moment);
+        return (BinaryCodec.compareUnsigned(lower, key) <= 0) && (BinaryCodec.compareUnsigned(key, upper) < 0);
+    }
+
+    private static <T extends Temporal<? super T>, I extends IsoInterval<T, I>> I roundtrip(
+        IntervalCodec<T, I> codec,
+        I value
+    ) {
+        byte[] data = codec.toBytes(value);
+        assertThat(data.length, is(codec.getEncodedLength(value)));
+        return codec.fromBytes(data);
+    }
+
+}
@@ -0,0 +1,168 @@
+package net.time4j.tz.spi;
+
+import net.time4j.tz.NameStyle;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.DateFormatSymbols;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+
+/**
+ * Generates the optional zone name tables of {@code ZoneNameProviderSPI} from the locale data
+ * of the building JDK (Maven profile {@code zone-names}, output directory as only argument).
+ *
+ * <p>Writes one binary table {@code zones/names/table<n>.dat} per distinct set of zone names
+ * (string pool followed by the pool indices of the zone id and all six name styles per zone)
+ * and the file {@code zones/names/index.properties} which contains the stamp of the building JDK
+ * under the key &quot;jdk&quot; and the table number for every language tag. </p>
+ */
+public final class ZoneNameCompiler {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZoneNameCompiler() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Generates the zone name tables. </p>
+     *
+     * @param   args    output directory as single argument
+     * @throws  IOException if writing fails
+     */
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ZoneNameCompiler <output directory>");
+        }
+
+        File dir = new File(args[0], ZoneNameProviderSPI.NAME_TABLE).getParentFile();
+
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create directory: " + dir);
+        }
+
+        List<Locale> locales = new ArrayList<>(Arrays.asList(DateFormatSymbols.getAvailableLocales()));
+        if (!locales.contains(Locale.ROOT)) {
+            locales.add(Locale.ROOT);
+        }
+        locales.sort(Comparator.comparing(Locale::toString)); // reproduzierbare Nummerierung
+
+        Map<Map<String, Map<NameStyle, String>>, Integer> tables = new LinkedHashMap<>();
+        Map<String, Integer> index = new TreeMap<>();
+        Set<String> ambivalent = new HashSet<>();
+
+        for (Locale locale : locales) {
+            Map<String, Map<NameStyle, String>> names = ZoneNameProviderSPI.createNames(locale);
+            Integer table = tables.get(names);
+            if (table == null) {
+                table = tables.size();
+                tables.put(names, table);
+                write(new File(args[0], ZoneNameProviderSPI.NAME_TABLE + table + ".dat"), names);
+            }
+            String tag = locale.toLanguageTag();
+            Integer old = index.put(tag, table);
+            if ((old != null) && !old.equals(table)) {
+                ambivalent.add(tag); // zum Beispiel no_NO_NY und nn_NO
+            }
+        }
+
+        index.keySet().removeAll(ambivalent);
+
+        File file = new File(args[0], ZoneNameProviderSPI.NAME_INDEX);
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write("# generated by ZoneNameCompiler - do not edit\n");
+            writer.write("jdk=" + escape(ZoneNameProviderSPI.getJdkStamp()) + "\n");
+            for (Map.Entry<String, Integer> entry : index.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+
+        System.out.println(
+            "ZoneNameCompiler: " + index.size() + " locales, " + tables.size() + " tables written to " + dir);
+
+    }
+
+    private static void write(
+        File file,
+        Map<String, Map<NameStyle, String>> names
+    ) throws IOException {
+
+        List<String> pool = new ArrayList<>();
+        Map<String, Integer> positions = new HashMap<>();
+        List<String> tzids = new ArrayList<>(names.keySet());
+        tzids.sort(null);
+
+        for (String tzid : tzids) {
+            register(tzid, pool, positions);
+            for (NameStyle style : ZoneNameProviderSPI.STYLE_ORDER) {
+                register(names.get(tzid).get(style), pool, positions);
+            }
+        }
+
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            dos.writeInt(pool.size());
+            for (String s : pool) {
+                dos.writeUTF(s);
+            }
+            dos.writeInt(tzids.size());
+            for (String tzid : tzids) {
+                dos.writeInt(positions.get(tzid));
+                for (NameStyle style : ZoneNameProviderSPI.STYLE_ORDER) {
+                    dos.writeInt(positions.get(names.get(tzid).get(style)));
+                }
+            }
+        }
+
+    }
+
+    private static void register(
+        String s,
+        List<String> pool,
+        Map<String, Integer> positions
+    ) {
+
+        if (!positions.containsKey(s)) {
+            positions.put(s, pool.size());
+            pool.add(s);
+        }
+
+    }
+
+    private static String escape(String value) {
+
+        StringBuilder sb = new StringBuilder(value.length());
+
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if ((c == '\\') || ((i == 0) && (c == ' '))) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+
+        return sb.toString();
+
+    }
+
+}
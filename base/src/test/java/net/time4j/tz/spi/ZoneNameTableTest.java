@@ -0,0 +1,49 @@
+package net.time4j.tz.spi;
+
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assume.assumeThat;
+
+
+public class ZoneNameTableTest {
+
+    @Test
+    public void generatedByBuildingJdk() throws Exception {
+        Properties index = new Properties();
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(ZoneNameProviderSPI.NAME_INDEX)) {
+            assumeThat(is, notNullValue()); // only built with the profile zone-names
+            index.load(new InputStreamReader(is, StandardCharsets.UTF_8));
+        }
+        assertThat(index.getProperty("jdk"), is(ZoneNameProviderSPI.getJdkStamp()));
+        assertThat(index.getProperty("en-US"), notNullValue());
+        assertThat(index.getProperty("de-DE"), notNullValue());
+        assertThat(index.getProperty("und"), notNullValue());
+    }
+
+    @Test
+    public void sameNamesAsJdk() {
+        Locale[] locales = {
+            Locale.ROOT, Locale.ENGLISH, Locale.US, Locale.UK, Locale.GERMANY, Locale.FRANCE, Locale.JAPAN,
+            Locale.SIMPLIFIED_CHINESE, new Locale("pt", "BR"), new Locale("ru")
+        };
+        for (Locale locale : locales) {
+            assertThat(ZoneNameProviderSPI.loadNames(locale), is(ZoneNameProviderSPI.createNames(locale)));
+        }
+    }
+
+    @Test
+    public void unknownLocale() {
+        Locale locale = new Locale("xx", "YY");
+        assertThat(ZoneNameProviderSPI.loadNames(locale), is(ZoneNameProviderSPI.createNames(locale)));
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BinaryCodecBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.BinaryCodec;
+import net.time4j.Moment;
+import net.time4j.scale.TimeScale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the throughput of {@code BinaryCodec} with the standard java serialization. </p>
+ *
+ * <p>Every invocation writes or reads a batch of random moments. </p>
+ */
+/*[deutsch]
+ * <p>Vergleicht den Durchsatz von {@code BinaryCodec} mit der Standard-Java-Serialisierung. </p>
+ *
+ * <p>Jeder Aufruf schreibt oder liest einen Stapel von zuf&auml;lligen Momenten. </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryCodecBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final int BATCH = 1024;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private Moment[] moments;
+    private ByteBuffer buffer;
+    private byte[] serialized;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() throws IOException {
+
+        Random rnd = new Random(44);
+        this.moments = new Moment[BATCH];
+
+        for (int i = 0; i < BATCH; i++) {
+            this.moments[i] = Moment.of(rnd.nextInt(), rnd.nextInt(1_000_000_000), TimeScale.POSIX);
+        }
+
+        this.buffer = ByteBuffer.allocate(BATCH * BinaryCodec.MOMENT.getEncodedLength(this.moments[0]));
+
+        for (Moment m : this.moments) {
+            BinaryCodec.MOMENT.write(m, this.buffer);
+        }
+
+        this.serialized = this.serializeAll();
+
+    }
+
+    @Benchmark
+    public ByteBuffer writeCodec() {
+
+        this.buffer.clear();
+
+        for (Moment m : this.moments) {
+            BinaryCodec.MOMENT.write(m, this.buffer);
+        }
+
+        return this.buffer;
+
+    }
+
+    @Benchmark
+    public Moment readCodec() {
+
+        this.buffer.rewind();
+        Moment last = null;
+
+        for (int i = 0; i < BATCH; i++) {
+            last = BinaryCodec.MOMENT.read(this.buffer);
+        }
+
+        return last;
+
+    }
+
+    @Benchmark
+    public byte[] writeSerialization() throws IOException {
+
+        return this.serializeAll();
+
+    }
+
+    @Benchmark
+    public Moment readSerialization() throws IOException, ClassNotFoundException {
+
+        Moment last = null;
+
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(this.serialized))) {
+            for (int i = 0; i < BATCH; i++) {
+                last = (Moment) ois.readObject();
+            }
+        }
+
+        return last;
+
+    }
+
+    private byte[] serializeAll() throws IOException {
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            for (Moment m : this.moments) {
+                oos.writeObject(m);
+            }
+        }
+
+        return baos.toByteArray();
+
+    }
+
+}
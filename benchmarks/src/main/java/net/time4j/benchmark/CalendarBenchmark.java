@@ -0,0 +1,194 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CalendarBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.calendar.ChineseCalendar;
+import net.time4j.calendar.CopticCalendar;
+import net.time4j.calendar.EthiopianCalendar;
+import net.time4j.calendar.HebrewCalendar;
+import net.time4j.calendar.HijriCalendar;
+import net.time4j.calendar.HistoricCalendar;
+import net.time4j.calendar.IndianCalendar;
+import net.time4j.calendar.JapaneseCalendar;
+import net.time4j.calendar.JucheCalendar;
+import net.time4j.calendar.JulianCalendar;
+import net.time4j.calendar.KoreanCalendar;
+import net.time4j.calendar.MinguoCalendar;
+import net.time4j.calendar.PersianCalendar;
+import net.time4j.calendar.ThaiSolarCalendar;
+import net.time4j.calendar.VietnameseCalendar;
+import net.time4j.calendar.bahai.BadiCalendar;
+import net.time4j.calendar.frenchrev.FrenchRepublicanCalendar;
+import net.time4j.calendar.hindu.HinduCalendar;
+import net.time4j.calendar.hindu.HinduRule;
+import net.time4j.engine.CalendarDate;
+import net.time4j.history.ChronoHistory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+
+/**
+ * <p>Measures the transformation of gregorian dates to every calendar system and back. </p>
+ *
+ * <p>Every invocation transforms a batch of random dates between 1950 and 2049 which are
+ * supported by all calendars (Umalqura and Juche have a restricted range). </p>
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Transformation von gregorianischen Datumsangaben in jedes Kalendersystem
+ * und zur&uuml;ck. </p>
+ *
+ * <p>Jeder Aufruf transformiert einen Stapel von zuf&auml;lligen Datumsangaben zwischen 1950
+ * und 2049, die von allen Kalendern unterst&uuml;tzt werden (Umalqura und Juche haben einen
+ * eingeschr&auml;nkten Wertebereich). </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalendarBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final int BATCH = 256;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({
+        "badi", "chinese", "coptic", "ethiopian", "french-republican", "hebrew", "hijri-umalqura",
+        "hindu-amanta", "historic-england", "indian", "japanese", "juche", "julian", "korean",
+        "minguo", "persian", "thai-solar", "vietnamese"
+    })
+    public String calendar;
+
+    private PlainDate[] dates;
+    private CalendarDate[] converted;
+    private Function<PlainDate, CalendarDate> transformer;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.transformer = getTransformer(this.calendar);
+        this.dates = new PlainDate[BATCH];
+        this.converted = new CalendarDate[BATCH];
+
+        Random rnd = new Random(2020);
+        PlainDate min = PlainDate.of(1950, 1, 1);
+
+        for (int i = 0; i < BATCH; i++) {
+            this.dates[i] = min.plus(rnd.nextInt(36525), CalendarUnit.DAYS);
+            this.converted[i] = this.transformer.apply(this.dates[i]);
+        }
+
+    }
+
+    @Benchmark
+    public Object fromGregorian() {
+
+        Object last = null;
+
+        for (PlainDate date : this.dates) {
+            last = this.transformer.apply(date);
+        }
+
+        return last;
+
+    }
+
+    @Benchmark
+    public long toGregorian() {
+
+        long sum = 0;
+
+        for (CalendarDate date : this.converted) {
+            sum += date.transform(PlainDate.class).getDayOfMonth();
+        }
+
+        return sum;
+
+    }
+
+    private static Function<PlainDate, CalendarDate> getTransformer(String calendar) {
+
+        switch (calendar) {
+            case "badi":
+                return d -> d.transform(BadiCalendar.class);
+            case "chinese":
+                return d -> d.transform(ChineseCalendar.class);
+            case "coptic":
+                return d -> d.transform(CopticCalendar.class);
+            case "ethiopian":
+                return d -> d.transform(EthiopianCalendar.class);
+            case "french-republican":
+                return d -> d.transform(FrenchRepublicanCalendar.class);
+            case "hebrew":
+                return d -> d.transform(HebrewCalendar.class);
+            case "hijri-umalqura":
+                return d -> d.transform(HijriCalendar.class, HijriCalendar.VARIANT_UMALQURA);
+            case "hindu-amanta":
+                return d -> d.transform(HinduCalendar.class, HinduRule.AMANTA.variant());
+            case "historic-england":
+                return d -> d.transform(HistoricCalendar.class, ChronoHistory.of(Locale.UK));
+            case "indian":
+                return d -> d.transform(IndianCalendar.class);
+            case "japanese":
+                return d -> d.transform(JapaneseCalendar.class);
+            case "juche":
+                return d -> d.transform(JucheCalendar.class);
+            case "julian":
+                return d -> d.transform(JulianCalendar.class);
+            case "korean":
+                return d -> d.transform(KoreanCalendar.class);
+            case "minguo":
+                return d -> d.transform(MinguoCalendar.class);
+            case "persian":
+                return d -> d.transform(PersianCalendar.class);
+            case "thai-solar":
+                return d -> d.transform(ThaiSolarCalendar.class);
+            case "vietnamese":
+                return d -> d.transform(VietnameseCalendar.class);
+            default:
+                throw new IllegalArgumentException("Unknown calendar: " + calendar);
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DurationBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.TimeMetric;
+import net.time4j.tz.Timezone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures duration metrics, normalization and addition of durations. </p>
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t Dauer-Metriken, die Normalisierung und die Addition von Dauern. </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DurationBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PlainDate d1;
+    private PlainDate d2;
+    private PlainTimestamp t1;
+    private PlainTimestamp t2;
+    private Duration<IsoUnit> mixed;
+
+    private TimeMetric<CalendarUnit, Duration<CalendarUnit>> ymdMetric;
+    private TimeMetric<IsoUnit, Duration<IsoUnit>> mixedMetric;
+    private TimeMetric<IsoUnit, Duration<IsoUnit>> zonalMetric;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.d1 = PlainDate.of(1987, 2, 28);
+        this.d2 = PlainDate.of(2020, 3, 17);
+        this.t1 = this.d1.atTime(23, 15, 7);
+        this.t2 = this.d2.atTime(4, 45, 59);
+        this.mixed =
+            Duration.ofZero().plus(14, CalendarUnit.MONTHS).plus(45, CalendarUnit.DAYS)
+                .plus(30, ClockUnit.HOURS).plus(125, ClockUnit.MINUTES).plus(3601, ClockUnit.SECONDS);
+
+        this.ymdMetric = Duration.inYearsMonthsDays();
+        this.mixedMetric =
+            Duration.in(
+                CalendarUnit.YEARS, CalendarUnit.MONTHS, CalendarUnit.DAYS,
+                ClockUnit.HOURS, ClockUnit.MINUTES, ClockUnit.SECONDS);
+        this.zonalMetric =
+            Duration.in(
+                Timezone.of("Europe/Berlin"),
+                CalendarUnit.YEARS, CalendarUnit.MONTHS, CalendarUnit.DAYS,
+                ClockUnit.HOURS, ClockUnit.MINUTES, ClockUnit.SECONDS);
+
+    }
+
+    @Benchmark
+    public Duration<CalendarUnit> betweenDates() {
+
+        return this.ymdMetric.between(this.d1, this.d2);
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> betweenTimestamps() {
+
+        return this.mixedMetric.between(this.t1, this.t2);
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> betweenTimestampsInZone() {
+
+        return this.zonalMetric.between(this.t1, this.t2);
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> normalize() {
+
+        return this.mixed.with(Duration.STD_PERIOD);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp addToTimestamp() {
+
+        return this.t1.plus(this.mixed);
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.Iso8601Format;
+import net.time4j.format.expert.MultiFormatParser;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures printing and parsing with ISO-formats, localized patterns and {@code MultiFormatParser}. </p>
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Ausgabe und Interpretation mit ISO-Formaten, lokalisierten Mustern und
+ * {@code MultiFormatParser}. </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PlainTimestamp tsp;
+    private Moment moment;
+    private String isoText;
+    private String isoMomentText;
+
+    private ChronoFormatter<PlainTimestamp> englishFormat;
+    private ChronoFormatter<PlainTimestamp> germanFormat;
+    private String englishText;
+    private String germanText;
+
+    private MultiFormatParser<PlainDate> multiParser;
+    private String multiText;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.tsp = PlainTimestamp.of(2020, 3, 17, 14, 45, 30);
+        this.moment = this.tsp.at(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1));
+        this.isoText = Iso8601Format.EXTENDED_DATE_TIME.print(this.tsp);
+        this.isoMomentText = Iso8601Format.EXTENDED_DATE_TIME_OFFSET.print(this.moment);
+
+        this.englishFormat =
+            ChronoFormatter.ofTimestampPattern("EEEE, MMMM d, uuuu h:mm:ss a", PatternType.CLDR, Locale.ENGLISH);
+        this.germanFormat =
+            ChronoFormatter.ofTimestampPattern("EEEE, d. MMMM uuuu HH:mm:ss", PatternType.CLDR, Locale.GERMAN);
+        this.englishText = this.englishFormat.print(this.tsp);
+        this.germanText = this.germanFormat.print(this.tsp);
+
+        // das letzte Format paßt, damit alle Alternativen probiert werden
+        this.multiParser =
+            MultiFormatParser.of(
+                ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN),
+                ChronoFormatter.ofDatePattern("MM/dd/uuuu", PatternType.CLDR, Locale.US),
+                ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN),
+                ChronoFormatter.ofDatePattern("MMM d, uuuu", PatternType.CLDR, Locale.US));
+        this.multiText = "Mar 17, 2020";
+
+    }
+
+    @Benchmark
+    public String printIsoTimestamp() {
+
+        return Iso8601Format.EXTENDED_DATE_TIME.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseIsoTimestamp() throws ParseException {
+
+        return Iso8601Format.EXTENDED_DATE_TIME.parse(this.isoText);
+
+    }
+
+    @Benchmark
+    public String printIsoMoment() {
+
+        return Iso8601Format.EXTENDED_DATE_TIME_OFFSET.print(this.moment);
+
+    }
+
+    @Benchmark
+    public Moment parseIsoMoment() throws ParseException {
+
+        return Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parse(this.isoMomentText);
+
+    }
+
+    @Benchmark
+    public String printLocalizedEnglish() {
+
+        return this.englishFormat.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseLocalizedEnglish() throws ParseException {
+
+        return this.englishFormat.parse(this.englishText);
+
+    }
+
+    @Benchmark
+    public String printLocalizedGerman() {
+
+        return this.germanFormat.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseLocalizedGerman() throws ParseException {
+
+        return this.germanFormat.parse(this.germanText);
+
+    }
+
+    @Benchmark
+    public PlainDate parseMultiFormat() throws ParseException {
+
+        return this.multiParser.parse(this.multiText);
+
+    }
+
+}
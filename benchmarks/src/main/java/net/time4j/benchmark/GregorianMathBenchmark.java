@@ -0,0 +1,139 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (GregorianMathBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.base.GregorianMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversion between gregorian dates and modified julian days in
+ * historic, modern and far-future date ranges. </p>
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Konversion zwischen gregorianischen Datumsangaben und modifizierten
+ * julianischen Tagen in historischen, modernen und fernen zuk&uuml;nftigen Datumsbereichen. </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GregorianMathBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final int BATCH = 1024;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"historic", "modern", "far-future"})
+    public String range;
+
+    private long[] mjds;
+    private int[] years;
+    private int[] months;
+    private int[] days;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        long min;
+        long max;
+
+        switch (this.range) {
+            case "historic": // 0001-01-01 bis 1582-10-14
+                min = GregorianMath.toMJD(1, 1, 1);
+                max = GregorianMath.toMJD(1582, 10, 14);
+                break;
+            case "modern": // 1900-01-01 bis 2099-12-31
+                min = GregorianMath.toMJD(1900, 1, 1);
+                max = GregorianMath.toMJD(2099, 12, 31);
+                break;
+            case "far-future": // 100000-01-01 bis 999999999-12-31
+                min = GregorianMath.toMJD(100000, 1, 1);
+                max = GregorianMath.toMJD(GregorianMath.MAX_YEAR, 12, 31);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown range: " + this.range);
+        }
+
+        Random rnd = new Random(1582);
+        this.mjds = new long[BATCH];
+        this.years = new int[BATCH];
+        this.months = new int[BATCH];
+        this.days = new int[BATCH];
+
+        for (int i = 0; i < BATCH; i++) {
+            long mjd = min + (long) (rnd.nextDouble() * (max - min));
+            long packed = GregorianMath.toPackedDate(mjd);
+            this.mjds[i] = mjd;
+            this.years[i] = GregorianMath.readYear(packed);
+            this.months[i] = GregorianMath.readMonth(packed);
+            this.days[i] = GregorianMath.readDayOfMonth(packed);
+        }
+
+    }
+
+    @Benchmark
+    public long toPackedDate() {
+
+        long sum = 0;
+
+        for (long mjd : this.mjds) {
+            sum += GregorianMath.toPackedDate(mjd);
+        }
+
+        return sum;
+
+    }
+
+    @Benchmark
+    public long toMJD() {
+
+        long sum = 0;
+
+        for (int i = 0; i < BATCH; i++) {
+            sum += GregorianMath.toMJD(this.years[i], this.months[i], this.days[i]);
+        }
+
+        return sum;
+
+    }
+
+}
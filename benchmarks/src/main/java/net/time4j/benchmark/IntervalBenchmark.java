@@ -0,0 +1,169 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.ChronoInterval;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IntervalCollection;
+import net.time4j.range.IntervalTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the set operations of {@code IntervalCollection} and the queries of {@code IntervalTree}. </p>
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Mengenoperationen von {@code IntervalCollection} und die Abfragen von
+ * {@code IntervalTree}. </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntervalBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private List<ChronoInterval<PlainDate>> intervals;
+    private IntervalCollection<PlainDate> c1;
+    private IntervalCollection<PlainDate> c2;
+    private IntervalTree<PlainDate, ChronoInterval<PlainDate>> tree;
+    private PlainDate[] queries;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        Random rnd = new Random(1234);
+        PlainDate start = PlainDate.of(2000, 1, 1);
+        int span = this.size * 10;
+
+        this.intervals = new ArrayList<>(this.size);
+        List<ChronoInterval<PlainDate>> others = new ArrayList<>(this.size);
+
+        for (int i = 0; i < this.size; i++) {
+            this.intervals.add(randomInterval(rnd, start, span));
+            others.add(randomInterval(rnd, start, span));
+        }
+
+        this.c1 = IntervalCollection.onDateAxis().plus(this.intervals);
+        this.c2 = IntervalCollection.onDateAxis().plus(others);
+        this.tree = IntervalTree.onDateAxis(this.intervals);
+
+        this.queries = new PlainDate[256];
+
+        for (int i = 0; i < this.queries.length; i++) {
+            this.queries[i] = start.plus(rnd.nextInt(span), CalendarUnit.DAYS);
+        }
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> buildCollection() {
+
+        return IntervalCollection.onDateAxis().plus(this.intervals);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withBlocks() {
+
+        return this.c1.withBlocks();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withGaps() {
+
+        return this.c1.withGaps();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> union() {
+
+        return this.c1.union(this.c2);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> intersect() {
+
+        return this.c1.intersect(this.c2);
+
+    }
+
+    @Benchmark
+    public IntervalTree<PlainDate, ChronoInterval<PlainDate>> buildTree() {
+
+        return IntervalTree.onDateAxis(this.intervals);
+
+    }
+
+    @Benchmark
+    public int treeQueries() {
+
+        int count = 0;
+
+        for (PlainDate date : this.queries) {
+            count += this.tree.findIntersections(date).size();
+        }
+
+        return count;
+
+    }
+
+    private static DateInterval randomInterval(
+        Random rnd,
+        PlainDate start,
+        int span
+    ) {
+
+        PlainDate from = start.plus(rnd.nextInt(span), CalendarUnit.DAYS);
+        return DateInterval.between(from, from.plus(rnd.nextInt(30), CalendarUnit.DAYS));
+
+    }
+
+}
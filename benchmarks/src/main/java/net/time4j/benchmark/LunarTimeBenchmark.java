@@ -0,0 +1,107 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LunarTimeBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.calendar.astro.LunarTime;
+import net.time4j.tz.olson.EUROPE;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the calculation of moonrise and moonset for a whole year, day by day
+ * versus the range method. </p>
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Berechnung von Mondaufgang und Monduntergang f&uuml;r ein ganzes Jahr,
+ * Tag f&uuml;r Tag im Vergleich zur Bereichsmethode. </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LunarTimeBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private LunarTime lunarTime;
+    private PlainDate start;
+    private PlainDate end;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.lunarTime = LunarTime.ofLocation(EUROPE.BERLIN, 52.52, 13.405);
+        this.start = PlainDate.of(2020, 1, 1);
+        this.end = PlainDate.of(2020, 12, 31);
+
+    }
+
+    @Benchmark
+    public int yearDayByDay() {
+
+        int count = 0;
+
+        for (PlainDate date = this.start; !date.isAfter(this.end); date = date.plus(1, CalendarUnit.DAYS)) {
+            if (this.lunarTime.on(date).moonrise().isPresent()) {
+                count++;
+            }
+        }
+
+        return count;
+
+    }
+
+    @Benchmark
+    public int yearAsRange() {
+
+        int count = 0;
+        List<LunarTime.Moonlight> year = this.lunarTime.on(this.start, this.end);
+
+        for (LunarTime.Moonlight ml : year) {
+            if (ml.moonrise().isPresent()) {
+                count++;
+            }
+        }
+
+        return count;
+
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SolarEventsBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.calendar.astro.SolarEvents;
+import net.time4j.calendar.astro.SolarTime;
+import net.time4j.calendar.astro.StdSolarCalculator;
+import net.time4j.engine.CalendarDate;
+import net.time4j.engine.ChronoFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the calculation of sunrise for 16 locations and a whole year, day by day
+ * per location versus the batch {@code SolarEvents}. </p>
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Berechnung des Sonnenaufgangs f&uuml;r 16 Orte und ein ganzes Jahr,
+ * Tag f&uuml;r Tag je Ort im Vergleich zur Stapelverarbeitung {@code SolarEvents}. </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolarEventsBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"NOAA", "TIME4J"})
+    public String calculator;
+
+    private SolarTime[] locations;
+    private SolarEvents events;
+    private PlainDate start;
+    private PlainDate end;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.locations = new SolarTime[16];
+
+        for (int i = 0; i < this.locations.length; i++) {
+            this.locations[i] =
+                SolarTime.ofLocation(30.0 + i * 2, -20.0 + i * 5, 0, StdSolarCalculator.valueOf(this.calculator));
+        }
+
+        this.events = SolarEvents.of(this.locations);
+        this.start = PlainDate.of(2020, 1, 1);
+        this.end = PlainDate.of(2020, 12, 31);
+
+    }
+
+    @Benchmark
+    public long dayByDay() {
+
+        long sum = 0;
+
+        for (SolarTime location : this.locations) {
+            ChronoFunction<CalendarDate, Optional<Moment>> sunrise = location.sunrise();
+            for (PlainDate date = this.start; !date.isAfter(this.end); date = date.plus(1, CalendarUnit.DAYS)) {
+                Optional<Moment> event = date.get(sunrise);
+                if (event.isPresent()) {
+                    sum += event.get().getPosixTime();
+                }
+            }
+        }
+
+        return sum;
+
+    }
+
+    @Benchmark
+    public long batch() {
+
+        long sum = 0;
+
+        for (long[] sunrises : this.events.sunrise(this.start, this.end)) {
+            for (long sunrise : sunrises) {
+                if (sunrise != SolarEvents.ABSENT) {
+                    sum += sunrise;
+                }
+            }
+        }
+
+        return sum;
+
+    }
+
+}
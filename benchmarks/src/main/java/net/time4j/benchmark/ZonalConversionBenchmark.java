@@ -0,0 +1,139 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2020 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZonalConversionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversion between {@code Moment} and {@code PlainTimestamp} in several zones. </p>
+ *
+ * <p>Every invocation converts a batch of random moments between 1900 and 2100 so that
+ * the offset lookup is not dominated by a single cached transition. </p>
+ */
+/*[deutsch]
+ * <p>Mi&szlig;t die Konversion zwischen {@code Moment} und {@code PlainTimestamp} in
+ * verschiedenen Zeitzonen. </p>
+ *
+ * <p>Jeder Aufruf konvertiert einen Stapel von zuf&auml;lligen Momenten zwischen 1900 und 2100,
+ * damit die Suche nach dem Offset nicht von einem einzigen zwischengespeicherten &Uuml;bergang
+ * dominiert wird. </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZonalConversionBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final int BATCH = 1024;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"UTC", "Europe/Berlin", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe"})
+    public String zoneID;
+
+    private Timezone tz;
+    private Moment[] moments;
+    private PlainTimestamp[] timestamps;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.tz = Timezone.of(this.zoneID);
+        this.moments = new Moment[BATCH];
+        this.timestamps = new PlainTimestamp[BATCH];
+
+        Random rnd = new Random(4711);
+        long min = -2208988800L; // 1900-01-01T00:00:00Z
+        long range = 6311433600L; // 200 Jahre
+
+        for (int i = 0; i < BATCH; i++) {
+            long posix = min + (long) (rnd.nextDouble() * range);
+            this.moments[i] = Moment.of(posix, TimeScale.POSIX);
+            this.timestamps[i] = this.moments[i].toZonalTimestamp(this.tz.getID());
+        }
+
+    }
+
+    @Benchmark
+    public int momentToTimestamp() {
+
+        int sum = 0;
+
+        for (Moment m : this.moments) {
+            sum += m.toZonalTimestamp(this.tz.getID()).getHour();
+        }
+
+        return sum;
+
+    }
+
+    @Benchmark
+    public long timestampToMoment() {
+
+        long sum = 0;
+
+        for (PlainTimestamp tsp : this.timestamps) {
+            sum += tsp.in(this.tz).getPosixTime();
+        }
+
+        return sum;
+
+    }
+
+    @Benchmark
+    public int offsetLookup() {
+
+        int sum = 0;
+
+        for (Moment m : this.moments) {
+            sum += this.tz.getOffset(m).getIntegralAmount();
+        }
+
+        return sum;
+
+    }
+
+}
@@ -28,6 +28,7 @@ import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeConstants;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import net.time4j.CalendarUnit;
 import net.time4j.Duration;
 import net.time4j.IsoUnit;
 import net.time4j.Moment;
@@ -79,6 +80,8 @@ public abstract class XMLAdapter<S, T>
     private static final BigInteger MRD_I = BigInteger.valueOf(MRD);
     private static final XmlDateTimeRule XML_TIMESTAMP = new XmlDateTimeRule();
 
+    private static volatile DatatypeFactory factory = null;
+
     /**
      * <p>Bridge between a XML-date according to {@code xsd:date}
      * and the type {@code PlainDate}. </p>
@@ -250,6 +253,97 @@ public abstract class XMLAdapter<S, T>
     public static final XMLAdapter<javax.xml.datatype.Duration, Duration<IsoUnit>> XML_DURATION =
         new XmlDurationRule();
 
+    /**
+     * <p>Bridge between the lexical form of {@code xsd:date} and the type {@code PlainDate}. </p>
+     *
+     * <p>This adapter works directly on strings without creating any {@code XMLGregorianCalendar}
+     * and is intended for JAXB-adapters. An optional timezone offset is ignored during parsing,
+     * the formatted result never contains an offset. </p>
+     *
+     * <pre>
+     *  PlainDate date = XMLAdapter.LEXICAL_DATE.translate(&quot;2014-02-28&quot;);
+     *  System.out.println(XMLAdapter.LEXICAL_DATE.from(date));
+     *  // output: 2014-02-28
+     * </pre>
+     *
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Form von {@code xsd:date} und dem Typ
+     * {@code PlainDate}. </p>
+     *
+     * <p>Dieser Adapter arbeitet direkt mit Zeichenketten, ohne ein {@code XMLGregorianCalendar}-Objekt
+     * zu erzeugen, und ist f&uuml;r JAXB-Adapter gedacht. Ein optionaler Zeitzonen-Offset wird beim
+     * Interpretieren ignoriert, das formatierte Ergebnis enth&auml;lt nie einen Offset. </p>
+     *
+     * <pre>
+     *  PlainDate date = XMLAdapter.LEXICAL_DATE.translate(&quot;2014-02-28&quot;);
+     *  System.out.println(XMLAdapter.LEXICAL_DATE.from(date));
+     *  // Ausgabe: 2014-02-28
+     * </pre>
+     *
+     * @since   5.8
+     */
+    public static final XMLAdapter<String, PlainDate> LEXICAL_DATE = new LexicalDateRule();
+
+    /**
+     * <p>Bridge between the lexical form of {@code xsd:dateTime} (without timezone-offset)
+     * and the type {@code PlainTimestamp}. </p>
+     *
+     * <p>This adapter works directly on strings without creating any {@code XMLGregorianCalendar}.
+     * An optional timezone offset is ignored during parsing. The formatted result is the same as
+     * the XML-format of the calendar object produced by {@link #XML_DATE_TIME}. </p>
+     *
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Form von {@code xsd:dateTime} (ohne Zeitzonen-Offset)
+     * und dem Typ {@code PlainTimestamp}. </p>
+     *
+     * <p>Dieser Adapter arbeitet direkt mit Zeichenketten, ohne ein {@code XMLGregorianCalendar}-Objekt
+     * zu erzeugen. Ein optionaler Zeitzonen-Offset wird beim Interpretieren ignoriert. Das formatierte
+     * Ergebnis gleicht dem XML-Format des von {@link #XML_DATE_TIME} erzeugten Kalenderobjekts. </p>
+     *
+     * @since   5.8
+     */
+    public static final XMLAdapter<String, PlainTimestamp> LEXICAL_DATE_TIME = new LexicalDateTimeRule();
+
+    /**
+     * <p>Bridge between the lexical form of {@code xsd:dateTime} inclusive timezone-offset
+     * and the type {@code ZonalDateTime}. </p>
+     *
+     * <p>This adapter works directly on strings without creating any {@code XMLGregorianCalendar}.
+     * The formatted result is the same as the XML-format of the calendar object produced by
+     * {@link #XML_DATE_TIME_OFFSET}. </p>
+     *
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Form von {@code xsd:dateTime} inklusive
+     * Zeitzonen-Offset und dem Typ {@code ZonalDateTime}. </p>
+     *
+     * <p>Dieser Adapter arbeitet direkt mit Zeichenketten, ohne ein {@code XMLGregorianCalendar}-Objekt
+     * zu erzeugen. Das formatierte Ergebnis gleicht dem XML-Format des von {@link #XML_DATE_TIME_OFFSET}
+     * erzeugten Kalenderobjekts. </p>
+     *
+     * @since   5.8
+     */
+    public static final XMLAdapter<String, ZonalDateTime> LEXICAL_DATE_TIME_OFFSET =
+        new LexicalDateTimeOffsetRule();
+
+    /**
+     * <p>Bridge between the lexical form of {@code xsd:duration} and the Time4J-type {@code Duration}. </p>
+     *
+     * @since   5.8
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Form von {@code xsd:duration} und dem
+     * Time4J-Typ {@code Duration}. </p>
+     *
+     * @since   5.8
+     */
+    public static final XMLAdapter<String, Duration<IsoUnit>> LEXICAL_DURATION = new LexicalDurationRule();
+
     //~ Konstruktoren -----------------------------------------------------
 
     private XMLAdapter() {
@@ -261,10 +355,120 @@ public abstract class XMLAdapter<S, T>
 
     private static DatatypeFactory getXMLFactory() {
 
+        DatatypeFactory f = factory;
+
+        if (f == null) {
+            try {
+                f = DatatypeFactory.newInstance();
+            } catch (DatatypeConfigurationException ex) {
+                throw new ChronoException("XML-conversion not available.", ex);
+            }
+            factory = f; // idempotent, ein Wettlauf ist harmlos
+        }
+
+        return f;
+
+    }
+
+    private static Duration<IsoUnit> parseDuration(String lexical) {
+
         try {
-            return DatatypeFactory.newInstance();
-        } catch (DatatypeConfigurationException ex) {
-            throw new ChronoException("XML-conversion not available.", ex);
+            return Duration.parsePeriod(lexical);
+        } catch (ParseException ex) {
+            if (ex.getCause() instanceof NumberFormatException) {
+                ArithmeticException ae = new ArithmeticException();
+                ae.initCause(ex);
+                throw ae;
+            }
+            throw new ChronoException("Cannot translate: " + lexical, ex);
+        }
+
+    }
+
+    // gleiche Darstellung wie XMLGregorianCalendar.toXMLFormat()
+    private static String toLexical(
+        ChronoDisplay tsp,
+        int tz
+    ) {
+
+        PlainDate date = tsp.get(PlainDate.COMPONENT);
+        PlainTime time = tsp.get(PlainTime.COMPONENT);
+        int nano = time.getNanosecond();
+
+        StringBuilder sb = new StringBuilder(35);
+        printDate(date, sb);
+        sb.append('T');
+        printTwoDigits(time.getHour(), sb);
+        sb.append(':');
+        printTwoDigits(time.getMinute(), sb);
+        sb.append(':');
+        printTwoDigits(tsp.get(PlainTime.SECOND_OF_MINUTE), sb); // LS
+        sb.append('.');
+
+        if ((nano % MIO) == 0) {
+            printFraction(nano / MIO, 3, sb);
+        } else {
+            printFraction(nano, 9, sb);
+        }
+
+        if (tz == 0) {
+            sb.append('Z');
+        } else if (tz != DatatypeConstants.FIELD_UNDEFINED) {
+            sb.append((tz < 0) ? '-' : '+');
+            int abs = Math.abs(tz);
+            printTwoDigits(abs / 60, sb);
+            sb.append(':');
+            printTwoDigits(abs % 60, sb);
+        }
+
+        return sb.toString();
+
+    }
+
+    private static void printDate(
+        PlainDate date,
+        StringBuilder sb
+    ) {
+
+        int year = date.getYear();
+
+        if (year < 0) {
+            sb.append('-');
+            year = -year;
+        }
+
+        if (year < 10000) {
+            printTwoDigits(year / 100, sb);
+            printTwoDigits(year % 100, sb);
+        } else {
+            sb.append(year);
+        }
+
+        sb.append('-');
+        printTwoDigits(date.getMonth(), sb);
+        sb.append('-');
+        printTwoDigits(date.getDayOfMonth(), sb);
+
+    }
+
+    private static void printTwoDigits(
+        int value,
+        StringBuilder sb
+    ) {
+
+        sb.append((char) ('0' + value / 10));
+        sb.append((char) ('0' + value % 10));
+
+    }
+
+    private static void printFraction(
+        int value,
+        int digits,
+        StringBuilder sb
+    ) {
+
+        for (int divisor = ((digits == 3) ? 100 : 100000000); divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + (value / divisor) % 10));
         }
 
     }
@@ -602,16 +806,7 @@ public abstract class XMLAdapter<S, T>
                 return Duration.ofZero();
             }
 
-            try {
-                return Duration.parsePeriod(source.toString());
-            } catch (ParseException ex) {
-                if (ex.getCause() instanceof NumberFormatException) {
-                    ArithmeticException ae = new ArithmeticException();
-                    ae.initCause(ex);
-                    throw ae;
-                }
-                throw new ChronoException("Cannot translate: " + source, ex);
-            }
+            return parseDuration(source.toString());
 
         }
 
@@ -632,4 +827,313 @@ public abstract class XMLAdapter<S, T>
 
     }
 
+    private static class LexicalDateRule
+        extends XMLAdapter<String, PlainDate> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainDate translate(String source) {
+
+            Lexer lexer = new Lexer(source);
+            PlainDate date = lexer.parseDate();
+            lexer.parseOffset(); // ignoriert
+            lexer.checkEnd();
+            return date;
+
+        }
+
+        @Override
+        public String from(PlainDate date) {
+
+            StringBuilder sb = new StringBuilder(10);
+            printDate(date, sb);
+            return sb.toString();
+
+        }
+
+        @Override
+        public Class<String> getSourceType() {
+
+            return String.class;
+
+        }
+
+    }
+
+    private static class LexicalDateTimeRule
+        extends XMLAdapter<String, PlainTimestamp> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainTimestamp translate(String source) {
+
+            Lexer lexer = new Lexer(source);
+            PlainTimestamp tsp = lexer.parseDateTime(false);
+            lexer.parseOffset(); // ignoriert
+            lexer.checkEnd();
+            return tsp;
+
+        }
+
+        @Override
+        public String from(PlainTimestamp tsp) {
+
+            return toLexical(tsp, DatatypeConstants.FIELD_UNDEFINED);
+
+        }
+
+        @Override
+        public Class<String> getSourceType() {
+
+            return String.class;
+
+        }
+
+    }
+
+    private static class LexicalDateTimeOffsetRule
+        extends XMLAdapter<String, ZonalDateTime> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public ZonalDateTime translate(String source) {
+
+            Lexer lexer = new Lexer(source);
+            PlainTimestamp tsp = lexer.parseDateTime(true);
+            int offsetMins = lexer.parseOffset();
+            lexer.checkEnd();
+
+            if (offsetMins == DatatypeConstants.FIELD_UNDEFINED) {
+                throw new ChronoException("Missing timezone offset: " + source);
+            }
+
+            ZonalOffset offset = ZonalOffset.ofTotalSeconds(offsetMins * 60);
+            Moment moment = tsp.at(offset);
+
+            if (lexer.leapSecond && LeapSeconds.getInstance().isEnabled()) {
+                Moment ls = moment.plus(1, SI.SECONDS);
+                if (ls.isLeapSecond()) {
+                    return ls.inZonalView(offset);
+                } else {
+                    throw new ChronoException("Leap second not registered: " + source);
+                }
+            } else {
+                return moment.inZonalView(offset);
+            }
+
+        }
+
+        @Override
+        public String from(ZonalDateTime zm) {
+
+            return toLexical(zm, zm.getOffset().getIntegralAmount() / 60);
+
+        }
+
+        @Override
+        public Class<String> getSourceType() {
+
+            return String.class;
+
+        }
+
+    }
+
+    private static class LexicalDurationRule
+        extends XMLAdapter<String, Duration<IsoUnit>> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Duration<IsoUnit> translate(String source) {
+
+            return parseDuration(source);
+
+        }
+
+        @Override
+        public String from(Duration<IsoUnit> duration) {
+
+            return duration.toStringXML();
+
+        }
+
+        @Override
+        public Class<String> getSourceType() {
+
+            return String.class;
+
+        }
+
+    }
+
+    // einfacher Parser für die lexikalischen Formen von xsd:date und xsd:dateTime
+    private static class Lexer {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String text;
+        private int pos;
+        private boolean leapSecond;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Lexer(String text) {
+            super();
+
+            this.text = text;
+            this.pos = 0;
+            this.leapSecond = false;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        PlainDate parseDate() {
+
+            boolean negative = this.accept('-');
+            int start = this.pos;
+            long year = 0;
+
+            while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+                year = year * 10 + (this.text.charAt(this.pos) - '0');
+                this.pos++;
+                if (year >= MRD) {
+                    throw new ArithmeticException("Year out of supported range: " + this.text);
+                }
+            }
+
+            int digits = this.pos - start;
+
+            if ((digits < 4) || ((digits > 4) && (this.text.charAt(start) == '0'))) {
+                throw this.error();
+            }
+
+            this.expect('-');
+            int month = this.parseTwoDigits();
+            this.expect('-');
+            int dom = this.parseTwoDigits();
+            return PlainDate.of((int) (negative ? -year : year), month, dom);
+
+        }
+
+        PlainTimestamp parseDateTime(boolean globalContext) {
+
+            PlainDate date = this.parseDate();
+            this.expect('T');
+            int hour = this.parseTwoDigits();
+            this.expect(':');
+            int minute = this.parseTwoDigits();
+            this.expect(':');
+            int second = this.parseTwoDigits();
+            int nano = 0;
+
+            if (this.accept('.')) {
+                int start = this.pos;
+                int factor = MRD;
+                while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+                    factor /= 10; // Ziffern jenseits der Nanosekunden werden abgeschnitten
+                    nano += factor * (this.text.charAt(this.pos) - '0');
+                    this.pos++;
+                }
+                if (this.pos == start) {
+                    throw this.error();
+                }
+            }
+
+            if ((hour == 24) && (minute == 0) && (second == 0) && (nano == 0)) {
+                return date.plus(1, CalendarUnit.DAYS).atStartOfDay();
+            } else if (globalContext && (second == 60)) {
+                this.leapSecond = true;
+                second = 59;
+            }
+
+            return PlainTimestamp.of(date, PlainTime.of(hour, minute, second, nano));
+
+        }
+
+        // liefert den Offset in Minuten oder FIELD_UNDEFINED
+        int parseOffset() {
+
+            if (this.accept('Z')) {
+                return 0;
+            } else if (this.pos < this.text.length()) {
+                char c = this.text.charAt(this.pos);
+                if ((c == '+') || (c == '-')) {
+                    this.pos++;
+                    int hours = this.parseTwoDigits();
+                    this.expect(':');
+                    int minutes = this.parseTwoDigits();
+                    if ((minutes > 59) || (hours * 60 + minutes > 14 * 60)) {
+                        throw this.error();
+                    }
+                    int total = hours * 60 + minutes;
+                    return ((c == '-') ? -total : total);
+                }
+            }
+
+            return DatatypeConstants.FIELD_UNDEFINED;
+
+        }
+
+        void checkEnd() {
+
+            if (this.pos != this.text.length()) {
+                throw this.error();
+            }
+
+        }
+
+        private int parseTwoDigits() {
+
+            if (this.pos + 2 <= this.text.length()) {
+                char c1 = this.text.charAt(this.pos);
+                char c2 = this.text.charAt(this.pos + 1);
+                if (isDigit(c1) && isDigit(c2)) {
+                    this.pos += 2;
+                    return (c1 - '0') * 10 + (c2 - '0');
+                }
+            }
+
+            throw this.error();
+
+        }
+
+        private boolean accept(char c) {
+
+            if ((this.pos < this.text.length()) && (this.text.charAt(this.pos) == c)) {
+                this.pos++;
+                return true;
+            }
+
+            return false;
+
+        }
+
+        private void expect(char c) {
+
+            if (!this.accept(c)) {
+                throw this.error();
+            }
+
+        }
+
+        private ChronoException error() {
+
+            return new ChronoException(
+                "Invalid lexical XML-representation: \"" + this.text + "\" (at position " + this.pos + ")");
+
+        }
+
+        private static boolean isDigit(char c) {
+
+            return ((c >= '0') && (c <= '9'));
+
+        }
+
+    }
+
 }
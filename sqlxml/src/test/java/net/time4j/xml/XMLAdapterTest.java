@@ -5,11 +5,17 @@ import java.math.BigInteger;
 import javax.xml.datatype.DatatypeConstants;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import net.time4j.ClockUnit;
 import net.time4j.Duration;
 import net.time4j.IsoUnit;
+import net.time4j.PlainDate;
 import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
 import net.time4j.ZonalDateTime;
+import net.time4j.engine.ChronoException;
 import net.time4j.format.expert.Iso8601Format;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -133,4 +139,73 @@ public class XMLAdapterTest {
                     new BigDecimal("5.123456789"))));
     }
 
+    @Test
+    public void lexicalDateSameAsXMLFormat() {
+        PlainDate[] dates = {
+            PlainDate.of(2014, 2, 28), PlainDate.of(12, 1, 1), PlainDate.of(-44, 3, 15), PlainDate.of(123456, 12, 31)
+        };
+        for (PlainDate date : dates) {
+            String lexical = XMLAdapter.XML_DATE.from(date).toXMLFormat();
+            assertThat(XMLAdapter.LEXICAL_DATE.from(date), is(lexical));
+            assertThat(XMLAdapter.LEXICAL_DATE.translate(lexical), is(date));
+        }
+        assertThat(XMLAdapter.LEXICAL_DATE.translate("2014-02-28+01:00"), is(PlainDate.of(2014, 2, 28)));
+    }
+
+    @Test
+    public void lexicalDateTimeSameAsXMLFormat() {
+        PlainTimestamp[] timestamps = {
+            PlainTimestamp.of(2014, 2, 28, 14, 45, 30),
+            PlainTimestamp.of(2014, 2, 28, 14, 45, 30).plus(500, ClockUnit.MILLIS),
+            PlainTimestamp.of(2014, 2, 28, 14, 45, 30).plus(123456789, ClockUnit.NANOS),
+            PlainTimestamp.of(-5, 2, 28, 0, 0, 1).plus(1000, ClockUnit.NANOS)
+        };
+        for (PlainTimestamp tsp : timestamps) {
+            String lexical = XMLAdapter.XML_DATE_TIME.from(tsp).toXMLFormat();
+            assertThat(XMLAdapter.LEXICAL_DATE_TIME.from(tsp), is(lexical));
+            assertThat(XMLAdapter.LEXICAL_DATE_TIME.translate(lexical), is(tsp));
+        }
+        assertThat(
+            XMLAdapter.LEXICAL_DATE_TIME.translate("2014-02-28T24:00:00"),
+            is(PlainTimestamp.of(2014, 3, 1, 0, 0)));
+        assertThat(
+            XMLAdapter.LEXICAL_DATE_TIME.translate("2014-02-28T14:45:30.1234567891Z"),
+            is(PlainTimestamp.of(2014, 2, 28, 14, 45, 30).plus(123456789, ClockUnit.NANOS)));
+    }
+
+    @Test
+    public void lexicalDateTimeOffsetSameAsXMLFormat() {
+        ZonalDateTime[] values = {
+            PlainTimestamp.of(2014, 2, 28, 14, 45, 30).at(ZonalOffset.UTC).inZonalView(ZonalOffset.UTC),
+            PlainTimestamp.of(2014, 2, 28, 14, 45, 30).at(ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 1, 30))
+                .inZonalView(ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 1, 30)),
+            ZonalDateTime.parse("2012-06-30T23:59:60.123456789Z", Iso8601Format.EXTENDED_DATE_TIME_OFFSET)
+        };
+        for (ZonalDateTime zdt : values) {
+            String lexical = XMLAdapter.XML_DATE_TIME_OFFSET.from(zdt).toXMLFormat();
+            assertThat(XMLAdapter.LEXICAL_DATE_TIME_OFFSET.from(zdt), is(lexical));
+            assertThat(XMLAdapter.LEXICAL_DATE_TIME_OFFSET.translate(lexical), is(zdt));
+        }
+    }
+
+    @Test(expected=ChronoException.class)
+    public void lexicalDateTimeOffsetMissing() {
+        XMLAdapter.LEXICAL_DATE_TIME_OFFSET.translate("2014-02-28T14:45:30");
+    }
+
+    @Test(expected=ChronoException.class)
+    public void lexicalDateInvalid() {
+        XMLAdapter.LEXICAL_DATE.translate("2014-2-28");
+    }
+
+    @Test
+    public void lexicalDuration() {
+        Duration<IsoUnit> d =
+            Duration.ofNegative().years(1).months(1).days(10)
+            .hours(3).seconds(5).nanos(123456789).build();
+        String lexical = XMLAdapter.XML_DURATION.from(d).toString();
+        assertThat(XMLAdapter.LEXICAL_DURATION.from(d), is(lexical));
+        assertThat(XMLAdapter.LEXICAL_DURATION.translate(lexical), is(d));
+    }
+
 }